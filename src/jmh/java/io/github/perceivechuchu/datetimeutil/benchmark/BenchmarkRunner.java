@@ -0,0 +1,45 @@
+package io.github.perceivechuchu.datetimeutil.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This class runs the benchmarks once with a single thread and once with a thread per available processor, with the gc profiler to
+ * report the allocation rate. The results of each run are written as JSON to the directory in the "jmh.resultDirectory" system property,
+ * "jmh-result-1-threads.json" and "jmh-result-N-threads.json", so that they can be compared across versions. The arguments are the
+ * usual JMH command line options e.g. a regular expression of the benchmarks to be run
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        Path resultDirectory = Paths.get(System.getProperty("jmh.resultDirectory", "target/jmh"));
+        Files.createDirectories(resultDirectory);
+        int processors = Runtime.getRuntime().availableProcessors();
+        int[] threadCounts = processors > 1 ? new int[]{1, processors} : new int[]{1};
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .parent(commandLineOptions)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(resultDirectory.resolve("jmh-result-" + threads + "-threads.json").toString())
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
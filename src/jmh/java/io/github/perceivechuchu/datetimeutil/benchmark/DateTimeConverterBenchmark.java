@@ -0,0 +1,233 @@
+package io.github.perceivechuchu.datetimeutil.benchmark;
+
+import io.github.perceivechuchu.datetimeutil.converter.BatchDateTimeConverter;
+import io.github.perceivechuchu.datetimeutil.converter.ConversionProfile;
+import io.github.perceivechuchu.datetimeutil.converter.DateTimeConverter;
+import io.github.perceivechuchu.datetimeutil.converter.UncheckedDateTimeConverter;
+import io.github.perceivechuchu.datetimeutil.formatter.DateTextTable;
+import io.github.perceivechuchu.datetimeutil.model.ConversionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the conversion families of DateTimeConverter and BatchDateTimeConverter
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeConverterBenchmark {
+
+    private static final String TIME_ZONE_ID = "Africa/Johannesburg";
+
+    private static final String DATE_FORMAT_PATTERN = "dd/MM/yyyy HH:mm:ss";
+
+    private static final int BATCH_SIZE = 1024;
+
+    private LocalDateTime localDateTime;
+
+    private LocalDate localDate;
+
+    private ZonedDateTime zonedDateTime;
+
+    private Timestamp timestamp;
+
+    private Date date;
+
+    private Calendar calendar;
+
+    private DateTimeFormatter formatter;
+
+    private LocalDateTime[] localDateTimes;
+
+    private String[] batchOutput;
+
+    private Timestamp[] timestampBatchOutput;
+
+    private LocalDateTime[] localDateTimeBatchOutput;
+
+    private ConversionResult<LocalDateTime> localDateTimeResult;
+
+    private ConversionProfile profile;
+
+    @Setup
+    public void setUp() {
+        localDateTime = LocalDateTime.of(2023, 12, 5, 16, 2, 10, 123_000_000);
+        localDate = localDateTime.toLocalDate();
+        zonedDateTime = localDateTime.atZone(TimeZone.getTimeZone(TIME_ZONE_ID).toZoneId());
+        timestamp = Timestamp.valueOf(localDateTime);
+        date = Date.from(zonedDateTime.toInstant());
+        calendar = Calendar.getInstance(TimeZone.getTimeZone(TIME_ZONE_ID));
+        calendar.setTime(date);
+        formatter = DateTimeFormatter.ofPattern(DATE_FORMAT_PATTERN);
+        localDateTimes = new LocalDateTime[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            localDateTimes[i] = localDateTime.plusMinutes(i * 17L);
+        }
+        batchOutput = new String[BATCH_SIZE];
+        timestampBatchOutput = new Timestamp[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            timestampBatchOutput[i] = new Timestamp(0L);
+        }
+        localDateTimeBatchOutput = new LocalDateTime[BATCH_SIZE];
+        localDateTimeResult = ConversionResult.getInstance();
+        profile = DateTimeConverter.profile().from(TIME_ZONE_ID).to("America/New_York").pattern(DATE_FORMAT_PATTERN).build();
+    }
+
+    @Benchmark
+    public String convertToUTCZonedDateTimeText() {
+        return DateTimeConverter.convertToUTCZonedDateTimeText(localDateTime, TIME_ZONE_ID);
+    }
+
+    @Benchmark
+    public String convertToUTCZonedDateTimeTextWithPattern() {
+        return DateTimeConverter.convertToUTCZonedDateTimeText(localDateTime, TIME_ZONE_ID, DATE_FORMAT_PATTERN);
+    }
+
+    @Benchmark
+    public String convertToZonedDateTimeText() {
+        return DateTimeConverter.convertToZonedDateTimeText(localDateTime, TIME_ZONE_ID, "America/New_York", DATE_FORMAT_PATTERN);
+    }
+
+    @Benchmark
+    public ZonedDateTime convertToZonedDateTime() {
+        return DateTimeConverter.convertToZonedDateTime(localDateTime, TIME_ZONE_ID, "America/New_York");
+    }
+
+    @Benchmark
+    public LocalDateTime convertToLocalDateTimeWithZone() {
+        return DateTimeConverter.convertToLocalDateTimeWithZone("2023-11-10T10:00:00.254Z", TIME_ZONE_ID);
+    }
+
+    @Benchmark
+    public LocalDate convertToLocalDate() {
+        return DateTimeConverter.convertToLocalDate("2023-12-05");
+    }
+
+    @Benchmark
+    public LocalDateTime convertToLocalDateTime() {
+        return DateTimeConverter.convertToLocalDateTime("2023-12-05T16:02:10.123");
+    }
+
+    @Benchmark
+    public LocalDateTime convertToLocalDateTimeWithFormatter() {
+        return DateTimeConverter.convertToLocalDateTime("05/12/2023 16:02:10", formatter);
+    }
+
+    @Benchmark
+    public LocalDateTime convertToLocalDateTimeWithPattern() {
+        return DateTimeConverter.convertToLocalDateTimeWithPattern("05/12/2023 16:02:10", DATE_FORMAT_PATTERN);
+    }
+
+    @Benchmark
+    public String convertToLocalDateText() {
+        return DateTimeConverter.convertToLocalDateText(localDate);
+    }
+
+    @Benchmark
+    public String formatLocalDateTextFromTable() {
+        return DateTextTable.format(localDate, DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    @Benchmark
+    public String convertToLocalDateTimeText() {
+        return DateTimeConverter.convertToLocalDateTimeText(localDateTime, DATE_FORMAT_PATTERN);
+    }
+
+    @Benchmark
+    public Timestamp convertToTimestamp() {
+        return DateTimeConverter.convertToTimestamp(localDateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime convertTimestampToLocalDateTime() {
+        return DateTimeConverter.convertToLocalDateTime(timestamp);
+    }
+
+    @Benchmark
+    public LocalDateTime convertEpochMillisToLocalDateTime() {
+        return DateTimeConverter.convertEpochMillisToLocalDateTime(1704124883000L, TIME_ZONE_ID);
+    }
+
+    @Benchmark
+    public long convertLocalDateTimeToEpochMillis() {
+        return DateTimeConverter.convertLocalDateTimeToEpochMillis(localDateTime, TIME_ZONE_ID);
+    }
+
+    @Benchmark
+    public LocalDateTime convertDateToLocalDateTime() {
+        return DateTimeConverter.convertToLocalDateTime(date, TIME_ZONE_ID);
+    }
+
+    @Benchmark
+    public Calendar convertToCalendar() {
+        return DateTimeConverter.convertToCalendar(localDateTime, TIME_ZONE_ID);
+    }
+
+    @Benchmark
+    public Date convertToDate() {
+        return DateTimeConverter.convertToDate(calendar);
+    }
+
+    @Benchmark
+    public ConversionResult<LocalDateTime> tryConvertToLocalDateTimeWithInvalidText() {
+        return DateTimeConverter.tryConvertToLocalDateTime("2023-13-05T16:02:10", localDateTimeResult);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public String[] convertBatchToUTCZonedDateTimeText() {
+        return BatchDateTimeConverter.convertToUTCZonedDateTimeText(localDateTimes, TIME_ZONE_ID, batchOutput);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Timestamp[] convertBatchToTimestamp() {
+        return BatchDateTimeConverter.convertToTimestamp(localDateTimes, TIME_ZONE_ID, timestampBatchOutput);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public LocalDateTime[] convertBatchTimestampToLocalDateTime() {
+        return BatchDateTimeConverter.convertToLocalDateTime(timestampBatchOutput, TIME_ZONE_ID, localDateTimeBatchOutput);
+    }
+
+    @Benchmark
+    public String convertToUTCZonedDateTimeTextUnchecked() {
+        return UncheckedDateTimeConverter.convertToUTCZonedDateTimeText(localDateTime, TIME_ZONE_ID);
+    }
+
+    @Benchmark
+    public LocalDateTime convertEpochMillisToLocalDateTimeUnchecked() {
+        return UncheckedDateTimeConverter.convertEpochMillisToLocalDateTime(1704124883000L, TIME_ZONE_ID);
+    }
+
+    @Benchmark
+    public String convertToZonedDateTimeTextWithProfile() {
+        return profile.convertToText(localDateTime);
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.perceivechuchu.datetimeutil.benchmark;
+
+import io.github.perceivechuchu.datetimeutil.validator.DateTimeValidator;
+import io.github.perceivechuchu.datetimeutil.validator.ValidationSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of DateTimeValidator.isValid with valid, invalid and localized text
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeValidatorBenchmark {
+
+    /**
+     * The locale and a text the locale validates, separated by "|"
+     */
+    @Param({"en|22 March 2024 05:06:07 CET", "de-DE|Montag, 22. März 1999 05:06 Uhr MEZ", "fr|22 mars 1999 05:06:07 CET",
+            "it|lunedì 22 marzo 1999 5.06.07 CET"})
+    private String localizedText;
+
+    private Locale locale;
+
+    private String dateTimeText;
+
+    private ValidationSession session;
+
+    @Setup
+    public void setUp() {
+        int separator = localizedText.indexOf('|');
+        locale = Locale.forLanguageTag(localizedText.substring(0, separator));
+        dateTimeText = localizedText.substring(separator + 1);
+        DateTimeValidator.warmUp(locale);
+        session = DateTimeValidator.newSession(locale);
+    }
+
+    @Benchmark
+    public boolean isValidIsoText() {
+        return DateTimeValidator.isValid("2024-03-22T05:06:07Z");
+    }
+
+    @Benchmark
+    public boolean isValidWithInvalidText() {
+        return DateTimeValidator.isValid("invalid_date");
+    }
+
+    @Benchmark
+    public boolean isValidWithLocale() {
+        return DateTimeValidator.isValid(dateTimeText, locale);
+    }
+
+    @Benchmark
+    public boolean isValidWithPattern() {
+        return DateTimeValidator.isValid("22-03-2024 05:06:07", "dd-MM-yyyy HH:mm:ss");
+    }
+
+    @Benchmark
+    public String detectFormatWithSession() {
+        return session.detectFormat(dateTimeText);
+    }
+}
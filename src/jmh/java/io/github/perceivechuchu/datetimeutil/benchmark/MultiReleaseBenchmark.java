@@ -0,0 +1,155 @@
+package io.github.perceivechuchu.datetimeutil.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the Java 8 baseline against the Java 17 variant of the multi-release JAR. The JVM only selects versioned classes from a JAR,
+ * so the java17 variant is loaded from META-INF/versions/17 of the build output in its own class loader, which needs a build with JDK 17.
+ * The method handles are static final so that the JIT compiler inlines the target as it does a direct call
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiReleaseBenchmark {
+
+    private static final String ASCII_WRITER = "io.github.perceivechuchu.datetimeutil.formatter.AsciiWriter";
+
+    private static final String LINE_SCANNER = "io.github.perceivechuchu.datetimeutil.validator.LineScanner";
+
+    private static final ClassLoader JAVA17_LOADER = newJava17Loader();
+
+    private static final MethodHandle JAVA8_ARRAY_WRITE = findStatic(null, ASCII_WRITER, "write", char[].class, int.class, byte[].class, int.class);
+
+    private static final MethodHandle JAVA17_ARRAY_WRITE = findStatic(JAVA17_LOADER, ASCII_WRITER, "write", char[].class, int.class, byte[].class, int.class);
+
+    private static final MethodHandle JAVA8_BUFFER_WRITE = findStatic(null, ASCII_WRITER, "write", char[].class, int.class, ByteBuffer.class);
+
+    private static final MethodHandle JAVA17_BUFFER_WRITE = findStatic(JAVA17_LOADER, ASCII_WRITER, "write", char[].class, int.class, ByteBuffer.class);
+
+    private static final MethodHandle JAVA8_INDEX_OF = findStatic(null, LINE_SCANNER, "indexOf", ByteBuffer.class, int.class, int.class, byte.class);
+
+    private static final MethodHandle JAVA17_INDEX_OF = findStatic(JAVA17_LOADER, LINE_SCANNER, "indexOf", ByteBuffer.class, int.class, int.class, byte.class);
+
+    private final char[] text = "2023-11-10T10:00:00.254123789Z".toCharArray();
+
+    private final byte[] bytes = new byte[64];
+
+    private final ByteBuffer directBuffer = ByteBuffer.allocateDirect(64);
+
+    private ByteBuffer lines;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            builder.append(i).append(",2023-11-10T10:00:00.254Z,Africa/Johannesburg,").append(i % 7).append('\n');
+        }
+        byte[] content = builder.toString().getBytes(StandardCharsets.US_ASCII);
+        lines = ByteBuffer.allocateDirect(content.length);
+        lines.put(content);
+    }
+
+    @Benchmark
+    public byte[] writeAsciiToArrayJava8() throws Throwable {
+        JAVA8_ARRAY_WRITE.invokeExact(text, text.length, bytes, 0);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] writeAsciiToArrayJava17() throws Throwable {
+        JAVA17_ARRAY_WRITE.invokeExact(text, text.length, bytes, 0);
+        return bytes;
+    }
+
+    @Benchmark
+    public ByteBuffer writeAsciiToDirectBufferJava8() throws Throwable {
+        directBuffer.clear();
+        JAVA8_BUFFER_WRITE.invokeExact(text, text.length, directBuffer);
+        return directBuffer;
+    }
+
+    @Benchmark
+    public ByteBuffer writeAsciiToDirectBufferJava17() throws Throwable {
+        directBuffer.clear();
+        JAVA17_BUFFER_WRITE.invokeExact(text, text.length, directBuffer);
+        return directBuffer;
+    }
+
+    @Benchmark
+    public int scanLinesJava8() throws Throwable {
+        return scanLines(JAVA8_INDEX_OF);
+    }
+
+    @Benchmark
+    public int scanLinesJava17() throws Throwable {
+        return scanLines(JAVA17_INDEX_OF);
+    }
+
+    /**
+     * Counts the lines of the buffer the way FileColumnValidator walks a mapped chunk
+     */
+    private int scanLines(final MethodHandle indexOf) throws Throwable {
+        int limit = lines.limit();
+        int count = 0;
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = (int) indexOf.invokeExact(lines, lineStart, limit, (byte) '\n');
+            count++;
+            lineStart = lineEnd < 0 ? limit : lineEnd + 1;
+        }
+        return count;
+    }
+
+    private static ClassLoader newJava17Loader() {
+        try {
+            Path classes = Paths.get(Class.forName(ASCII_WRITER).getProtectionDomain().getCodeSource().getLocation().toURI());
+            Path versioned = classes.resolve("META-INF/versions/17");
+            if (!Files.isDirectory(versioned)) {
+                throw new IllegalStateException("The java17 variants are missing from " + versioned + ", build with JDK 17 or later");
+            }
+            return new URLClassLoader(new URL[]{versioned.toUri().toURL(), classes.toUri().toURL()}, null);
+        } catch (ReflectiveOperationException | URISyntaxException | MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle findStatic(final ClassLoader loader, final String className, final String name, final Class<?>... parameterTypes) {
+        try {
+            Class<?> type = loader == null ? Class.forName(className) : Class.forName(className, true, loader);
+            Method method = type.getDeclaredMethod(name, parameterTypes);
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
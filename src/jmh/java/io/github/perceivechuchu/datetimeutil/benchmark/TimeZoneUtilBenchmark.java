@@ -0,0 +1,63 @@
+package io.github.perceivechuchu.datetimeutil.benchmark;
+
+import io.github.perceivechuchu.datetimeutil.model.ImmutableTimeZoneDetail;
+import io.github.perceivechuchu.datetimeutil.model.TimeZoneDetail;
+import io.github.perceivechuchu.datetimeutil.timezone.TimeZoneUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the time zone catalog of TimeZoneUtil
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeZoneUtilBenchmark {
+
+    private final ZoneOffset offset = ZoneOffset.ofHours(1);
+
+    private final Instant instant = Instant.parse("2024-07-01T12:00:00Z");
+
+    @Benchmark
+    public List<TimeZoneDetail> getAllTimeZones() {
+        return TimeZoneUtil.getAllTimeZones();
+    }
+
+    @Benchmark
+    public List<TimeZoneDetail> searchTimeZonesByOffsetText() {
+        return TimeZoneUtil.searchTimeZonesByOffsetText("+02:00");
+    }
+
+    @Benchmark
+    public List<ImmutableTimeZoneDetail> searchTimeZonesByOffset() {
+        return TimeZoneUtil.searchTimeZonesByOffset(offset, instant);
+    }
+
+    @Benchmark
+    public boolean isValidTimeZoneId() {
+        return TimeZoneUtil.isValidTimeZoneId("Africa/Johannesburg");
+    }
+
+    @Benchmark
+    public String getTimeZoneAbbreviation() {
+        return TimeZoneUtil.getTimeZoneAbbreviation("Africa/Johannesburg");
+    }
+}
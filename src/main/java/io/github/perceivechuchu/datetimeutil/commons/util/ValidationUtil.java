@@ -18,7 +18,7 @@ public final class ValidationUtil {
     }
 
     /**
-     * Validates and rejects null or empty input parameter
+     * Validates and rejects null or empty input parameter. This form does not allocate, so it is the one used on the conversion paths
      *
      * @param value   the value of the input
      * @param message message to return in case of the field being null or empty (This is optional)
@@ -32,7 +32,7 @@ public final class ValidationUtil {
     }
 
     /**
-     * Validates and rejects null or empty input parameters
+     * Validates and rejects null or empty input parameters. The entries and the array that holds them are allocated on every call
      *
      * @param validationEntries the value of the input
      * @throws IllegalArgumentException if parameter is empty
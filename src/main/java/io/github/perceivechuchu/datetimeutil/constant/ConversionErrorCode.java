@@ -0,0 +1,40 @@
+package io.github.perceivechuchu.datetimeutil.constant;
+
+/**
+ * This enum holds the error codes reported by the exception-free conversion and validation methods
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public enum ConversionErrorCode {
+
+    /**
+     * The conversion succeeded
+     */
+    NONE,
+
+    /**
+     * The result has not been filled by a conversion yet
+     */
+    NOT_CONVERTED,
+
+    /**
+     * The value to be converted is null or empty
+     */
+    EMPTY_INPUT,
+
+    /**
+     * The time zone id has an invalid format or cannot be found
+     */
+    INVALID_TIME_ZONE_ID,
+
+    /**
+     * The text does not match the expected format. The error index holds the position at which parsing stopped
+     */
+    UNPARSEABLE_TEXT,
+
+    /**
+     * The text matches the expected format but one of its values is out of range or inconsistent e.g. "2023-02-30"
+     */
+    INVALID_FIELD_VALUE
+}
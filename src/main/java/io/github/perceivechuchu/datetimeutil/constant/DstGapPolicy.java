@@ -0,0 +1,25 @@
+package io.github.perceivechuchu.datetimeutil.constant;
+
+/**
+ * This enum holds the ways a local date time that falls in a daylight saving gap, and therefore does not exist in the time zone, is resolved
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public enum DstGapPolicy {
+
+    /**
+     * The local date time is moved forward by the length of the gap, which is what LocalDateTime.atZone does e.g. "02:30" becomes "03:30"
+     */
+    SHIFT_FORWARD,
+
+    /**
+     * The local date time is resolved to the instant the gap ends e.g. "02:30" becomes "03:00"
+     */
+    NEXT_VALID_TIME,
+
+    /**
+     * The local date time is rejected with a DateTimeConversionException
+     */
+    REJECT
+}
@@ -0,0 +1,25 @@
+package io.github.perceivechuchu.datetimeutil.constant;
+
+/**
+ * This enum holds the ways a local date time that falls in a daylight saving overlap, and therefore occurs twice in the time zone, is resolved
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public enum DstOverlapPolicy {
+
+    /**
+     * The earlier of the two instants is used, which is what LocalDateTime.atZone does
+     */
+    EARLIER_OFFSET,
+
+    /**
+     * The later of the two instants is used
+     */
+    LATER_OFFSET,
+
+    /**
+     * The local date time is rejected with a DateTimeConversionException
+     */
+    REJECT
+}
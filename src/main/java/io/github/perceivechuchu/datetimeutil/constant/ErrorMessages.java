@@ -98,4 +98,204 @@ public class ErrorMessages {
      * The error message for null locale parameter validation
      */
     public static final String LOCALE_NULL = "Parameter locale cannot be null";
+
+    /**
+     * The error message for invalid cache maximum size parameter validation
+     */
+    public static final String CACHE_MAXIMUM_SIZE_INVALID = "Parameter maximumSize must be greater than zero";
+
+    /**
+     * The error message for null result parameter validation
+     */
+    public static final String CONVERSION_RESULT_NULL = "Parameter result cannot be null";
+
+    /**
+     * The error message for null localDateTimes parameter validation
+     */
+    public static final String LOCAL_DATE_TIMES_NULL = "Parameter localDateTimes cannot be null";
+
+    /**
+     * The error message for null output parameter validation
+     */
+    public static final String OUTPUT_NULL = "Parameter output cannot be null";
+
+    /**
+     * The error message for an output parameter that cannot hold every converted value
+     */
+    public static final String OUTPUT_LENGTH_INVALID = "Parameter output must be at least as long as the input";
+
+    /**
+     * The error message for invalid parallelism threshold parameter validation
+     */
+    public static final String PARALLELISM_THRESHOLD_INVALID = "Parameter threshold must be greater than zero";
+
+    /**
+     * The error message for null forkJoinPool parameter validation
+     */
+    public static final String FORK_JOIN_POOL_NULL = "Parameter forkJoinPool cannot be null";
+
+    /**
+     * The error message for a local date time rejected because it falls in a daylight saving gap
+     */
+    public static final String LOCAL_TIME_IN_GAP = "The local date time does not exist in the time zone as it falls in a daylight saving gap";
+
+    /**
+     * The error message for a local date time rejected because it falls in a daylight saving overlap
+     */
+    public static final String LOCAL_TIME_IN_OVERLAP = "The local date time is ambiguous in the time zone as it falls in a daylight saving overlap";
+
+    /**
+     * The error message for null gapPolicy parameter validation
+     */
+    public static final String DST_GAP_POLICY_NULL = "Parameter gapPolicy cannot be null";
+
+    /**
+     * The error message for null overlapPolicy parameter validation
+     */
+    public static final String DST_OVERLAP_POLICY_NULL = "Parameter overlapPolicy cannot be null";
+
+    /**
+     * The error message for null epochMillis parameter validation
+     */
+    public static final String EPOCH_MILLIS_NULL = "Parameter epochMillis cannot be null";
+
+    /**
+     * The error message for null localMillis parameter validation
+     */
+    public static final String LOCAL_MILLIS_NULL = "Parameter localMillis cannot be null";
+
+    /**
+     * The error message for null timestamps parameter validation
+     */
+    public static final String TIMESTAMPS_NULL = "Parameter timestamps cannot be null";
+
+    /**
+     * The error message for null target parameter validation
+     */
+    public static final String TARGET_NULL = "Parameter target cannot be null";
+
+    /**
+     * The error message for null layout parameter validation
+     */
+    public static final String TIMESTAMP_LAYOUT_NULL = "Parameter layout cannot be null";
+
+    /**
+     * The error message for invalid nanoOfSecond parameter validation
+     */
+    public static final String NANO_OF_SECOND_INVALID = "Parameter nanoOfSecond must be between 0 and 999999999";
+
+    /**
+     * The error message for null scope parameter validation
+     */
+    public static final String FORMAT_CATALOG_SCOPE_NULL = "Parameter scope cannot be null";
+
+    /**
+     * The error message for null path parameter validation
+     */
+    public static final String PATH_NULL = "Parameter path cannot be null";
+
+    /**
+     * The error message for invalid columnIndex parameter validation
+     */
+    public static final String COLUMN_INDEX_INVALID = "Parameter columnIndex cannot be negative";
+
+    /**
+     * The error message for invalid delimiter parameter validation
+     */
+    public static final String DELIMITER_INVALID = "Parameter delimiter must be an ASCII character";
+
+    /**
+     * The error message for a file that cannot be read, followed by the path of the file
+     */
+    public static final String FILE_READ_FAILED = "File could not be read -> ";
+
+    /**
+     * The error message for null offset parameter validation
+     */
+    public static final String ZONE_OFFSET_NULL = "Parameter offset cannot be null";
+
+    /**
+     * The error message for null instant parameter validation
+     */
+    public static final String INSTANT_NULL = "Parameter instant cannot be null";
+
+    /**
+     * The error message for invalid startYear and endYear parameters validation
+     */
+    public static final String YEAR_RANGE_INVALID = "Parameter endYear cannot be before startYear, and both must be between 1 and 9999";
+
+    /**
+     * The error message for null operation parameter validation
+     */
+    public static final String METRIC_OPERATION_NULL = "Parameter operation cannot be null";
+
+    /**
+     * The error message for invalid percentile parameter validation
+     */
+    public static final String PERCENTILE_INVALID = "Parameter percentile must be greater than 0 and at most 100";
+
+    /**
+     * The error message for invalid maximum bytes parameter validation
+     */
+    public static final String MAXIMUM_BYTES_INVALID = "Parameter maximumBytes must be greater than zero";
+
+    /**
+     * The error message for null conversion parameter validation
+     */
+    public static final String CONVERSION_NULL = "Parameter conversion cannot be null";
+
+    /**
+     * The error message for null executor parameter validation
+     */
+    public static final String EXECUTOR_NULL = "Parameter executor cannot be null";
+
+    /**
+     * The error message for invalid batch size parameter validation
+     */
+    public static final String BATCH_SIZE_INVALID = "Parameter batchSize must be greater than zero";
+
+    /**
+     * The error message for null subscriber parameter validation
+     */
+    public static final String SUBSCRIBER_NULL = "Parameter subscriber cannot be null";
+
+    /**
+     * The error message for null subscription parameter validation
+     */
+    public static final String SUBSCRIPTION_NULL = "Parameter subscription cannot be null";
+
+    /**
+     * The error message for null iterable parameter validation
+     */
+    public static final String ITERABLE_NULL = "Parameter iterable cannot be null";
+
+    /**
+     * The error message for null item parameter validation
+     */
+    public static final String ITEM_NULL = "Parameter item cannot be null";
+
+    /**
+     * The error message for null throwable parameter validation
+     */
+    public static final String THROWABLE_NULL = "Parameter throwable cannot be null";
+
+    /**
+     * The error message for a null element produced by a publisher or a conversion
+     */
+    public static final String ELEMENT_NULL = "Elements published or produced by a conversion cannot be null";
+
+    /**
+     * The error message for invalid subscription request validation
+     */
+    public static final String REQUEST_INVALID = "The number of requested elements must be greater than zero";
+
+    /**
+     * The error message for a second subscriber to a processor that supports a single subscriber
+     */
+    public static final String SUBSCRIBER_ALREADY_PRESENT = "The processor already has a subscriber";
+
+    /**
+     * The error message for a runtime without virtual threads
+     */
+    public static final String VIRTUAL_THREADS_UNSUPPORTED = "Virtual threads are not supported by this Java runtime";
 }
@@ -0,0 +1,22 @@
+package io.github.perceivechuchu.datetimeutil.constant;
+
+/**
+ * This enum holds the parts of the date format catalog a locale is validated against. The catalog is split into sections by the
+ * "*_Formats" headers of the formats file e.g. "ISO_8601_Formats" and "Germany_Formats"
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public enum FormatCatalogScope {
+
+    /**
+     * The ISO-8601 patterns and the patterns of the sections for the language of the locale, and its country when both have one
+     * e.g. "Germany_Formats" for "Locale.GERMANY" and "Locale.GERMAN"
+     */
+    LOCALE_SECTIONS,
+
+    /**
+     * The patterns of every section, whatever the locale
+     */
+    ALL_SECTIONS
+}
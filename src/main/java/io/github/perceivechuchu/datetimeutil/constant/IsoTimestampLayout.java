@@ -0,0 +1,69 @@
+package io.github.perceivechuchu.datetimeutil.constant;
+
+/**
+ * This enum holds the ISO-8601 UTC layouts written by the IsoTimestampWriter. They differ only in the number of fraction digits
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public enum IsoTimestampLayout {
+
+    /**
+     * The layout without a fraction e.g. "2023-11-10T10:00:00Z"
+     */
+    SECONDS("yyyy-MM-dd'T'HH:mm:ssXXX", 0),
+
+    /**
+     * The default layout of DateTimeConverter.convertToUTCZonedDateTimeText e.g. "2023-11-10T10:00:00.254Z"
+     */
+    MILLIS("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", 3),
+
+    /**
+     * The layout with microseconds e.g. "2023-11-10T10:00:00.254000Z"
+     */
+    MICROS("yyyy-MM-dd'T'HH:mm:ss.SSSSSSXXX", 6),
+
+    /**
+     * The layout with nanoseconds e.g. "2023-11-10T10:00:00.254000000Z"
+     */
+    NANOS("yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSSXXX", 9);
+
+    private final String dateFormatPattern;
+
+    private final int fractionDigits;
+
+    IsoTimestampLayout(final String dateFormatPattern, final int fractionDigits) {
+        this.dateFormatPattern = dateFormatPattern;
+        this.fractionDigits = fractionDigits;
+    }
+
+    /**
+     * Gets the date format pattern that produces the same text as this layout
+     *
+     * @return the date format pattern e.g. "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"
+     * @since 2.3.0
+     */
+    public String getDateFormatPattern() {
+        return dateFormatPattern;
+    }
+
+    /**
+     * Gets the number of fraction digits written after the seconds
+     *
+     * @return the number of fraction digits
+     * @since 2.3.0
+     */
+    public int getFractionDigits() {
+        return fractionDigits;
+    }
+
+    /**
+     * Gets the number of characters of a timestamp in this layout for the years 1 to 9999
+     *
+     * @return the length of the text e.g. 24 for "2023-11-10T10:00:00.254Z"
+     * @since 2.3.0
+     */
+    public int getLength() {
+        return fractionDigits == 0 ? 20 : 21 + fractionDigits;
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.perceivechuchu.datetimeutil.constant;
+
+/**
+ * This enum holds the operations recorded by DateTimeMetrics. A call is counted as a failure when it does not produce a result for its
+ * input: a conversion that throws or returns a failure result, a date time text that is not valid, or a time zone id that is not known
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public enum MetricOperation {
+
+    /**
+     * The conversions of local date text to a LocalDate e.g. "DateTimeConverter.convertToLocalDate"
+     */
+    PARSE_LOCAL_DATE,
+
+    /**
+     * The conversions of local date time text to a LocalDateTime e.g. "DateTimeConverter.convertToLocalDateTime"
+     */
+    PARSE_LOCAL_DATE_TIME,
+
+    /**
+     * The conversions of zoned date time text to a LocalDateTime in a time zone e.g. "DateTimeConverter.convertToLocalDateTimeWithZone"
+     */
+    PARSE_ZONED_DATE_TIME,
+
+    /**
+     * The conversions between time zones and epoch millis e.g. "DateTimeConverter.convertToZonedDateTime"
+     */
+    CONVERT_ZONE,
+
+    /**
+     * The validations of date time text e.g. "DateTimeValidator.isValid"
+     */
+    VALIDATE,
+
+    /**
+     * The lookups of a time zone id e.g. "TimeZoneUtil.isValidTimeZoneId"
+     */
+    TIME_ZONE_LOOKUP,
+
+    /**
+     * The listings of time zones and searches of time zones by offset e.g. "TimeZoneUtil.searchTimeZonesByOffsetText"
+     */
+    TIME_ZONE_SEARCH,
+
+    /**
+     * The formatting of dates and times to text e.g. "DateTimeConverter.convertToUTCZonedDateTimeText"
+     */
+    FORMAT,
+
+    /**
+     * The conversions to and from Timestamp, Date and Calendar e.g. "DateTimeConverter.convertToCalendar"
+     */
+    CONVERT_LEGACY
+}
@@ -0,0 +1,578 @@
+package io.github.perceivechuchu.datetimeutil.converter;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.DstGapPolicy;
+import io.github.perceivechuchu.datetimeutil.constant.DstOverlapPolicy;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import io.github.perceivechuchu.datetimeutil.formatter.DateTimeFormatterCache;
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneOffsetTable;
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneRegistry;
+
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * This class is a utility for converting arrays and lists of date times in one call. The arguments are validated and the
+ * time zones and formatters are resolved once per batch, and the converted values are written into an output array supplied
+ * by the caller. Batches larger than the parallelism threshold are split across a fork/join pool.
+ * Null elements are converted to null.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+@SuppressWarnings("unused")
+public final class BatchDateTimeConverter {
+
+    /**
+     * The default number of elements up to which a batch is converted on the calling thread
+     *
+     * @since 2.3.0
+     */
+    public static final int DEFAULT_PARALLELISM_THRESHOLD = 8192;
+
+    /**
+     * The system property that overrides the default parallelism threshold
+     *
+     * @since 2.3.0
+     */
+    public static final String PARALLELISM_THRESHOLD_PROPERTY = "datetimeutil.batch.parallelismThreshold";
+
+    /**
+     * The UTC zone, resolved once through the zone registry
+     *
+     * @since 2.3.0
+     */
+    private static final ZoneId UTC_ZONE_ID = ZoneRegistry.getZoneId("UTC");
+
+    /**
+     * The number of elements up to which a batch, or a split of a batch, is converted without being split further
+     *
+     * @since 2.3.0
+     */
+    private static volatile int parallelismThreshold = Integer.getInteger(PARALLELISM_THRESHOLD_PROPERTY, DEFAULT_PARALLELISM_THRESHOLD);
+
+    /**
+     * The pool that converts the batches larger than the parallelism threshold
+     *
+     * @since 2.3.0
+     */
+    private static volatile ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+    private BatchDateTimeConverter() {
+    }
+
+    /**
+     * Converts LocalDateTime objects to UTC ZonedDateTime in textual format using default date time formatter (yyyy-MM-dd'T'HH:mm:ss.SSSXXX)
+     *
+     * @param localDateTimes  the local date times to be converted
+     * @param localTimeZoneId the local time zone id for the supplied date times e.g. "Africa/Johannesburg"
+     * @param output          the array that receives the converted values at the positions of the supplied date times
+     * @return the supplied output array
+     * @throws IllegalArgumentException exception thrown when required parameter is missing or the output array is too short.
+     * @since 2.3.0
+     */
+    public static String[] convertToUTCZonedDateTimeText(final LocalDateTime[] localDateTimes, final String localTimeZoneId, final String[] output) {
+        ValidationUtil.rejectEmpty(localDateTimes, ErrorMessages.LOCAL_DATE_TIMES_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        return toUTCZonedDateTimeText(i -> localDateTimes[i], localDateTimes.length, localTimeZoneId, output);
+    }
+
+    /**
+     * Converts LocalDateTime objects to UTC ZonedDateTime in textual format using provided date time formatter
+     *
+     * @param localDateTimes  the local date times to be converted
+     * @param localTimeZoneId the local time zone id for the supplied date times e.g. "Africa/Johannesburg"
+     * @param formatter       the formatter that holds the format pattern that the output is to be formatted
+     * @param output          the array that receives the converted values at the positions of the supplied date times
+     * @return the supplied output array
+     * @throws IllegalArgumentException exception thrown when required parameter is missing or the output array is too short.
+     * @since 2.3.0
+     */
+    public static String[] convertToUTCZonedDateTimeText(final LocalDateTime[] localDateTimes, final String localTimeZoneId, final DateTimeFormatter formatter, final String[] output) {
+        ValidationUtil.rejectEmpty(localDateTimes, ErrorMessages.LOCAL_DATE_TIMES_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        return toUTCZonedDateTimeText(i -> localDateTimes[i], localDateTimes.length, localTimeZoneId, formatter, output);
+    }
+
+    /**
+     * Converts a list of LocalDateTime objects to UTC ZonedDateTime in textual format using default date time formatter (yyyy-MM-dd'T'HH:mm:ss.SSSXXX)
+     *
+     * @param localDateTimes  the local date times to be converted
+     * @param localTimeZoneId the local time zone id for the supplied date times e.g. "Africa/Johannesburg"
+     * @param output          the array that receives the converted values at the positions of the supplied date times
+     * @return the supplied output array
+     * @throws IllegalArgumentException exception thrown when required parameter is missing or the output array is too short.
+     * @since 2.3.0
+     */
+    public static String[] convertToUTCZonedDateTimeText(final List<LocalDateTime> localDateTimes, final String localTimeZoneId, final String[] output) {
+        ValidationUtil.rejectEmpty(localDateTimes, ErrorMessages.LOCAL_DATE_TIMES_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        return toUTCZonedDateTimeText(getSource(localDateTimes), localDateTimes.size(), localTimeZoneId, output);
+    }
+
+    /**
+     * Converts LocalDateTime objects to ZonedDateTime in textual format using provided target time zone and date time format pattern
+     *
+     * @param localDateTimes    the local date times to be converted
+     * @param localTimeZoneId   the local time zone id for the supplied date times e.g. "UTC"
+     * @param targetTimeZoneId  the target time zone id for the output date times e.g. "Africa/Johannesburg"
+     * @param dateFormatPattern the date time format pattern for the output e.g. "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"
+     * @param output            the array that receives the converted values at the positions of the supplied date times
+     * @return the supplied output array
+     * @throws IllegalArgumentException exception thrown when required parameter is missing or the output array is too short.
+     * @since 2.3.0
+     */
+    public static String[] convertToZonedDateTimeText(final LocalDateTime[] localDateTimes, final String localTimeZoneId, final String targetTimeZoneId,
+                                                      final String dateFormatPattern, final String[] output) {
+        ValidationUtil.rejectEmpty(localDateTimes, ErrorMessages.LOCAL_DATE_TIMES_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(targetTimeZoneId, ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        return toZonedDateTimeText(i -> localDateTimes[i], localDateTimes.length, localTimeZoneId, targetTimeZoneId, dateFormatPattern, output);
+    }
+
+    /**
+     * Converts a list of LocalDateTime objects to ZonedDateTime in textual format using provided target time zone and date time format pattern
+     *
+     * @param localDateTimes    the local date times to be converted
+     * @param localTimeZoneId   the local time zone id for the supplied date times e.g. "UTC"
+     * @param targetTimeZoneId  the target time zone id for the output date times e.g. "Africa/Johannesburg"
+     * @param dateFormatPattern the date time format pattern for the output e.g. "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"
+     * @param output            the array that receives the converted values at the positions of the supplied date times
+     * @return the supplied output array
+     * @throws IllegalArgumentException exception thrown when required parameter is missing or the output array is too short.
+     * @since 2.3.0
+     */
+    public static String[] convertToZonedDateTimeText(final List<LocalDateTime> localDateTimes, final String localTimeZoneId, final String targetTimeZoneId,
+                                                      final String dateFormatPattern, final String[] output) {
+        ValidationUtil.rejectEmpty(localDateTimes, ErrorMessages.LOCAL_DATE_TIMES_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(targetTimeZoneId, ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        return toZonedDateTimeText(getSource(localDateTimes), localDateTimes.size(), localTimeZoneId, targetTimeZoneId, dateFormatPattern, output);
+    }
+
+    /**
+     * Converts LocalDateTime objects to ZonedDateTime objects in the target time zone
+     *
+     * @param localDateTimes   the local date times to be converted
+     * @param localTimeZoneId  the local time zone id for the supplied date times e.g. "Africa/Johannesburg"
+     * @param targetTimeZoneId the target time zone id to be applied to the resulting zoned date times e.g. "US/Pacific"
+     * @param output           the array that receives the converted values at the positions of the supplied date times
+     * @return the supplied output array
+     * @throws IllegalArgumentException    if parameter is not valid or the output array is too short
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public static ZonedDateTime[] convertToZonedDateTime(final LocalDateTime[] localDateTimes, final String localTimeZoneId, final String targetTimeZoneId,
+                                                         final ZonedDateTime[] output) {
+        ValidationUtil.rejectEmpty(localDateTimes, ErrorMessages.LOCAL_DATE_TIMES_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(targetTimeZoneId, ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY);
+        return toZonedDateTime(i -> localDateTimes[i], localDateTimes.length, localTimeZoneId, targetTimeZoneId, output);
+    }
+
+    /**
+     * Converts a list of LocalDateTime objects to ZonedDateTime objects in the target time zone
+     *
+     * @param localDateTimes   the local date times to be converted
+     * @param localTimeZoneId  the local time zone id for the supplied date times e.g. "Africa/Johannesburg"
+     * @param targetTimeZoneId the target time zone id to be applied to the resulting zoned date times e.g. "US/Pacific"
+     * @param output           the array that receives the converted values at the positions of the supplied date times
+     * @return the supplied output array
+     * @throws IllegalArgumentException    if parameter is not valid or the output array is too short
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public static ZonedDateTime[] convertToZonedDateTime(final List<LocalDateTime> localDateTimes, final String localTimeZoneId, final String targetTimeZoneId,
+                                                         final ZonedDateTime[] output) {
+        ValidationUtil.rejectEmpty(localDateTimes, ErrorMessages.LOCAL_DATE_TIMES_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(targetTimeZoneId, ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY);
+        return toZonedDateTime(getSource(localDateTimes), localDateTimes.size(), localTimeZoneId, targetTimeZoneId, output);
+    }
+
+    /**
+     * Converts instants in epoch millis to the local wall-clock millis of a time zone, i.e. the epoch millis of the local date time read as if it were UTC.
+     * The offsets are looked up in the precomputed offset table of the time zone, so no objects are allocated per element
+     *
+     * @param epochMillis the instants in epoch millis to be converted
+     * @param timeZoneId  the time zone id to be used in the conversion e.g. "Africa/Johannesburg"
+     * @param output      the array that receives the converted values at the positions of the supplied values, it may be the input array itself
+     * @return the supplied output array
+     * @throws IllegalArgumentException    if parameter is not valid or the output array is too short
+     * @throws DateTimeConversionException if the time zone id is invalid or a value is out of range
+     * @since 2.3.0
+     */
+    public static long[] convertEpochMillisToLocalMillis(final long[] epochMillis, final String timeZoneId, final long[] output) {
+        ValidationUtil.rejectEmpty(epochMillis, ErrorMessages.EPOCH_MILLIS_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        rejectShortOutput(output, epochMillis.length);
+        try {
+            ZoneOffsetTable offsetTable = ZoneRegistry.getZoneOffsetTable(timeZoneId);
+            for (int i = 0; i < epochMillis.length; i++) {
+                output[i] = offsetTable.toLocalMillis(epochMillis[i]);
+            }
+            return output;
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts local wall-clock millis of a time zone to instants in epoch millis. Local times in a daylight saving gap are moved forward by the
+     * length of the gap and local times in an overlap use the earlier instant, which matches LocalDateTime.atZone
+     *
+     * @param localMillis the local wall-clock millis to be converted
+     * @param timeZoneId  the time zone id to be used in the conversion e.g. "Africa/Johannesburg"
+     * @param output      the array that receives the converted values at the positions of the supplied values, it may be the input array itself
+     * @return the supplied output array
+     * @throws IllegalArgumentException    if parameter is not valid or the output array is too short
+     * @throws DateTimeConversionException if the time zone id is invalid or a value is out of range
+     * @since 2.3.0
+     */
+    public static long[] convertLocalMillisToEpochMillis(final long[] localMillis, final String timeZoneId, final long[] output) {
+        return convertLocalMillisToEpochMillis(localMillis, timeZoneId, DstGapPolicy.SHIFT_FORWARD, DstOverlapPolicy.EARLIER_OFFSET, output);
+    }
+
+    /**
+     * Converts local wall-clock millis of a time zone to instants in epoch millis, resolving daylight saving gaps and overlaps with the supplied policies.
+     * The offsets are looked up in the precomputed offset table of the time zone, so no objects are allocated per element
+     *
+     * @param localMillis   the local wall-clock millis to be converted
+     * @param timeZoneId    the time zone id to be used in the conversion e.g. "Africa/Johannesburg"
+     * @param gapPolicy     the policy for local times that do not exist in the time zone
+     * @param overlapPolicy the policy for local times that occur twice in the time zone
+     * @param output        the array that receives the converted values at the positions of the supplied values, it may be the input array itself
+     * @return the supplied output array
+     * @throws IllegalArgumentException    if parameter is not valid or the output array is too short
+     * @throws DateTimeConversionException if the time zone id is invalid, a value is out of range or a value is rejected by one of the policies
+     * @since 2.3.0
+     */
+    public static long[] convertLocalMillisToEpochMillis(final long[] localMillis, final String timeZoneId, final DstGapPolicy gapPolicy,
+                                                         final DstOverlapPolicy overlapPolicy, final long[] output) {
+        ValidationUtil.rejectEmpty(localMillis, ErrorMessages.LOCAL_MILLIS_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(gapPolicy, ErrorMessages.DST_GAP_POLICY_NULL);
+        ValidationUtil.rejectEmpty(overlapPolicy, ErrorMessages.DST_OVERLAP_POLICY_NULL);
+        rejectShortOutput(output, localMillis.length);
+        try {
+            ZoneOffsetTable offsetTable = ZoneRegistry.getZoneOffsetTable(timeZoneId);
+            for (int i = 0; i < localMillis.length; i++) {
+                output[i] = offsetTable.toEpochMillis(localMillis[i], gapPolicy, overlapPolicy);
+            }
+            return output;
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts LocalDateTime objects in a time zone to Timestamp objects, keeping the nanos of the local date times. The epoch millis are computed through the
+     * precomputed offset table of the time zone instead of the calendar fields of the JVM default time zone. Elements of the output array that are not null are
+     * filled in and kept, so an output array of preallocated timestamps can be reused across batches without allocating per element
+     *
+     * @param localDateTimes the local date times to be converted
+     * @param timeZoneId     the time zone id for the supplied date times e.g. "Africa/Johannesburg"
+     * @param output         the array that receives the converted values at the positions of the supplied date times
+     * @return the supplied output array
+     * @throws IllegalArgumentException    if parameter is not valid or the output array is too short
+     * @throws DateTimeConversionException if the time zone id is invalid or a value is out of range
+     * @since 2.3.0
+     */
+    public static Timestamp[] convertToTimestamp(final LocalDateTime[] localDateTimes, final String timeZoneId, final Timestamp[] output) {
+        ValidationUtil.rejectEmpty(localDateTimes, ErrorMessages.LOCAL_DATE_TIMES_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        rejectShortOutput(output, localDateTimes.length);
+        ZoneOffsetTable offsetTable = LegacyDateTimeBridge.getZoneOffsetTable(timeZoneId);
+        for (int i = 0; i < localDateTimes.length; i++) {
+            LocalDateTime localDateTime = localDateTimes[i];
+            if (localDateTime == null) {
+                output[i] = null;
+            } else {
+                Timestamp target = output[i];
+                output[i] = LegacyDateTimeBridge.fillTimestamp(localDateTime, offsetTable, target == null ? new Timestamp(0L) : target);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Converts Timestamp objects to the LocalDateTime objects they show in a time zone, keeping the nanos of the timestamps.
+     * The offsets are looked up in the precomputed offset table of the time zone instead of the JVM default time zone
+     *
+     * @param timestamps the timestamps to be converted
+     * @param timeZoneId the time zone id for the output date times e.g. "Africa/Johannesburg"
+     * @param output     the array that receives the converted values at the positions of the supplied timestamps
+     * @return the supplied output array
+     * @throws IllegalArgumentException    if parameter is not valid or the output array is too short
+     * @throws DateTimeConversionException if the time zone id is invalid or a value is out of range
+     * @since 2.3.0
+     */
+    public static LocalDateTime[] convertToLocalDateTime(final Timestamp[] timestamps, final String timeZoneId, final LocalDateTime[] output) {
+        ValidationUtil.rejectEmpty(timestamps, ErrorMessages.TIMESTAMPS_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        rejectShortOutput(output, timestamps.length);
+        ZoneOffsetTable offsetTable = LegacyDateTimeBridge.getZoneOffsetTable(timeZoneId);
+        for (int i = 0; i < timestamps.length; i++) {
+            Timestamp timestamp = timestamps[i];
+            output[i] = timestamp == null ? null : LegacyDateTimeBridge.toLocalDateTime(timestamp, offsetTable);
+        }
+        return output;
+    }
+
+    /**
+     * Sets the number of elements up to which a batch is converted on the calling thread. Larger batches are split across the fork/join pool
+     * into parts of at most this size
+     *
+     * @param threshold the parallelism threshold, must be greater than zero
+     * @throws IllegalArgumentException if the threshold is not greater than zero
+     * @since 2.3.0
+     */
+    public static void setParallelismThreshold(final int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException(ErrorMessages.PARALLELISM_THRESHOLD_INVALID);
+        }
+        parallelismThreshold = threshold;
+    }
+
+    /**
+     * Gets the number of elements up to which a batch is converted on the calling thread
+     *
+     * @return the parallelism threshold
+     * @since 2.3.0
+     */
+    public static int getParallelismThreshold() {
+        return parallelismThreshold;
+    }
+
+    /**
+     * Sets the pool that converts the batches larger than the parallelism threshold. The common pool is used by default
+     *
+     * @param pool the fork/join pool
+     * @throws IllegalArgumentException if the pool is null
+     * @since 2.3.0
+     */
+    public static void setForkJoinPool(final ForkJoinPool pool) {
+        ValidationUtil.rejectEmpty(pool, ErrorMessages.FORK_JOIN_POOL_NULL);
+        forkJoinPool = pool;
+    }
+
+    /**
+     * Gets the pool that converts the batches larger than the parallelism threshold
+     *
+     * @return the fork/join pool
+     * @since 2.3.0
+     */
+    public static ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * Converts the validated source to UTC zoned date time text in the default format, resolving the offset table of the local time zone once
+     *
+     * @param source          the accessor for the source elements
+     * @param length          the number of source elements
+     * @param localTimeZoneId the local time zone id for the source elements
+     * @param output          the array that receives the converted values
+     * @return the supplied output array
+     * @since 2.3.0
+     */
+    private static String[] toUTCZonedDateTimeText(final IntFunction<LocalDateTime> source, final int length, final String localTimeZoneId, final String[] output) {
+        rejectShortOutput(output, length);
+        ZoneOffsetTable offsetTable = ZoneRegistry.getZoneOffsetTable(localTimeZoneId);
+        convert(source, length, localDateTime -> DateTimeConverter.formatUTCZonedDateTimeText(localDateTime, offsetTable), output);
+        return output;
+    }
+
+    /**
+     * Converts the validated source to UTC zoned date time text, resolving the local time zone once
+     *
+     * @param source          the accessor for the source elements
+     * @param length          the number of source elements
+     * @param localTimeZoneId the local time zone id for the source elements
+     * @param formatter       the formatter for the output
+     * @param output          the array that receives the converted values
+     * @return the supplied output array
+     * @since 2.3.0
+     */
+    private static String[] toUTCZonedDateTimeText(final IntFunction<LocalDateTime> source, final int length, final String localTimeZoneId,
+                                                   final DateTimeFormatter formatter, final String[] output) {
+        rejectShortOutput(output, length);
+        ZoneId localZoneId = ZoneRegistry.getZoneId(localTimeZoneId);
+        convert(source, length, localDateTime -> formatter.format(localDateTime.atZone(localZoneId).withZoneSameInstant(UTC_ZONE_ID)), output);
+        return output;
+    }
+
+    /**
+     * Converts the validated source to zoned date time text in the target time zone, resolving the time zones and the formatter once
+     *
+     * @param source            the accessor for the source elements
+     * @param length            the number of source elements
+     * @param localTimeZoneId   the local time zone id for the source elements
+     * @param targetTimeZoneId  the target time zone id for the output
+     * @param dateFormatPattern the date time format pattern for the output
+     * @param output            the array that receives the converted values
+     * @return the supplied output array
+     * @since 2.3.0
+     */
+    private static String[] toZonedDateTimeText(final IntFunction<LocalDateTime> source, final int length, final String localTimeZoneId,
+                                                final String targetTimeZoneId, final String dateFormatPattern, final String[] output) {
+        rejectShortOutput(output, length);
+        DateTimeFormatter formatter = DateTimeFormatterCache.getFormatter(dateFormatPattern);
+        ZoneId localZoneId = ZoneRegistry.getZoneId(localTimeZoneId);
+        ZoneId targetZoneId = ZoneRegistry.getZoneId(targetTimeZoneId);
+        convert(source, length, localDateTime -> formatter.format(localDateTime.atZone(localZoneId).withZoneSameInstant(targetZoneId)), output);
+        return output;
+    }
+
+    /**
+     * Converts the validated source to zoned date times in the target time zone, resolving the time zones once
+     *
+     * @param source           the accessor for the source elements
+     * @param length           the number of source elements
+     * @param localTimeZoneId  the local time zone id for the source elements
+     * @param targetTimeZoneId the target time zone id for the output
+     * @param output           the array that receives the converted values
+     * @return the supplied output array
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    private static ZonedDateTime[] toZonedDateTime(final IntFunction<LocalDateTime> source, final int length, final String localTimeZoneId,
+                                                   final String targetTimeZoneId, final ZonedDateTime[] output) {
+        rejectShortOutput(output, length);
+        try {
+            ZoneId localZoneId = ZoneRegistry.getZoneId(localTimeZoneId);
+            ZoneId targetZoneId = ZoneRegistry.getZoneId(targetTimeZoneId);
+            convert(source, length, localDateTime -> localDateTime.atZone(localZoneId).withZoneSameInstant(targetZoneId), output);
+            return output;
+        } catch (DateTimeException e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts every element of the source into the output, splitting the work across the fork/join pool when the source is larger than the parallelism threshold
+     *
+     * @param source    the accessor for the source elements
+     * @param length    the number of source elements
+     * @param converter the conversion applied to every non-null element
+     * @param output    the array that receives the converted values
+     * @param <T>       the type of the converted values
+     * @since 2.3.0
+     */
+    private static <T> void convert(final IntFunction<LocalDateTime> source, final int length, final Function<LocalDateTime, T> converter, final T[] output) {
+        int threshold = parallelismThreshold;
+        ConversionTask<T> task = new ConversionTask<>(source, converter, output, 0, length, threshold);
+        if (length <= threshold) {
+            task.compute();
+        } else {
+            forkJoinPool.invoke(task);
+        }
+    }
+
+    /**
+     * Rejects an output array that is null or cannot hold a converted value for every source element
+     *
+     * @param output the output array supplied by the caller
+     * @param length the number of source elements
+     * @throws IllegalArgumentException if the output array is null or too short
+     * @since 2.3.0
+     */
+    private static void rejectShortOutput(final Object[] output, final int length) {
+        ValidationUtil.rejectEmpty(output, ErrorMessages.OUTPUT_NULL);
+        if (output.length < length) {
+            throw new IllegalArgumentException(ErrorMessages.OUTPUT_LENGTH_INVALID);
+        }
+    }
+
+    /**
+     * Rejects a primitive output array that is null or cannot hold a converted value for every source element
+     *
+     * @param output the output array supplied by the caller
+     * @param length the number of source elements
+     * @throws IllegalArgumentException if the output array is null or too short
+     * @since 2.3.0
+     */
+    private static void rejectShortOutput(final long[] output, final int length) {
+        ValidationUtil.rejectEmpty(output, ErrorMessages.OUTPUT_NULL);
+        if (output.length < length) {
+            throw new IllegalArgumentException(ErrorMessages.OUTPUT_LENGTH_INVALID);
+        }
+    }
+
+    /**
+     * Gets the accessor for the elements of a list. The elements of list types that are not random access are copied into an array once,
+     * so that the parts of a split batch do not walk the list from its start
+     *
+     * @param localDateTimes the local date times
+     * @return the accessor for the local date times by position
+     * @since 2.3.0
+     */
+    private static IntFunction<LocalDateTime> getSource(final List<LocalDateTime> localDateTimes) {
+        if (localDateTimes instanceof RandomAccess) {
+            return localDateTimes::get;
+        }
+        LocalDateTime[] elements = localDateTimes.toArray(new LocalDateTime[0]);
+        return i -> elements[i];
+    }
+
+    /**
+     * The fork/join task that converts a range of the source, splitting it in halves until each part is within the parallelism threshold
+     *
+     * @param <T> the type of the converted values
+     * @since 2.3.0
+     */
+    private static final class ConversionTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntFunction<LocalDateTime> source;
+
+        private final transient Function<LocalDateTime, T> converter;
+
+        private final T[] output;
+
+        private final int from;
+
+        private final int to;
+
+        private final int threshold;
+
+        private ConversionTask(final IntFunction<LocalDateTime> source, final Function<LocalDateTime, T> converter, final T[] output,
+                               final int from, final int to, final int threshold) {
+            this.source = source;
+            this.converter = converter;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    LocalDateTime localDateTime = source.apply(i);
+                    output[i] = localDateTime == null ? null : converter.apply(localDateTime);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConversionTask<>(source, converter, output, from, middle, threshold),
+                    new ConversionTask<>(source, converter, output, middle, to, threshold));
+        }
+    }
+}
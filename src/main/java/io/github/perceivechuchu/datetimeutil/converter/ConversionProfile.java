@@ -0,0 +1,399 @@
+package io.github.perceivechuchu.datetimeutil.converter;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import io.github.perceivechuchu.datetimeutil.formatter.DateTimeFormatterCache;
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneOffsetTable;
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneRegistry;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * This class is an immutable converter bound to a source time zone, a target time zone and a formatter. The time zones, their offset tables and
+ * the formatter are resolved once when the profile is built, and a time zone without transitions is reduced to its fixed offset, so the conversions
+ * do not look anything up by id. A profile is thread-safe and is meant to be built once and shared e.g.
+ * {@code DateTimeConverter.profile().from("Africa/Johannesburg").to("UTC").pattern("yyyy-MM-dd HH:mm:ss").build()}.
+ * Local date times in a daylight saving gap or overlap are resolved like LocalDateTime.atZone.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class ConversionProfile {
+
+    /**
+     * The time zone id used when no source or target time zone is supplied
+     *
+     * @since 2.3.0
+     */
+    public static final String DEFAULT_TIME_ZONE_ID = "UTC";
+
+    /**
+     * The largest epoch second, in either direction, whose millis can be looked up in an offset table without overflowing
+     *
+     * @since 2.3.0
+     */
+    private static final long MAXIMUM_TABLE_EPOCH_SECOND = Long.MAX_VALUE / 1000L - 86400L;
+
+    private final String sourceTimeZoneId;
+
+    private final String targetTimeZoneId;
+
+    private final ZoneId targetZoneId;
+
+    private final ZoneOffsetTable sourceOffsetTable;
+
+    private final ZoneOffsetTable targetOffsetTable;
+
+    /**
+     * The offset of the source time zone when it has no transitions, otherwise null
+     *
+     * @since 2.3.0
+     */
+    private final ZoneOffset sourceFixedOffset;
+
+    /**
+     * The offset of the target time zone when it has no transitions, otherwise null
+     *
+     * @since 2.3.0
+     */
+    private final ZoneOffset targetFixedOffset;
+
+    private final DateTimeFormatter formatter;
+
+    private final Locale locale;
+
+    /**
+     * The flag to indicate that the text is UTC in the default format, which is written without the formatter
+     *
+     * @since 2.3.0
+     */
+    private final boolean utcDefaultFormat;
+
+    private ConversionProfile(final Builder builder, final ZoneOffsetTable sourceOffsetTable, final ZoneOffsetTable targetOffsetTable) {
+        this.sourceTimeZoneId = builder.sourceTimeZoneId;
+        this.targetTimeZoneId = builder.targetTimeZoneId;
+        this.targetZoneId = ZoneRegistry.getZoneId(builder.targetTimeZoneId);
+        this.sourceOffsetTable = sourceOffsetTable;
+        this.targetOffsetTable = targetOffsetTable;
+        this.sourceFixedOffset = getFixedOffset(sourceOffsetTable);
+        this.targetFixedOffset = getFixedOffset(targetOffsetTable);
+        this.locale = builder.locale != null ? builder.locale : Locale.getDefault(Locale.Category.FORMAT);
+        if (builder.formatter != null) {
+            this.formatter = builder.locale != null ? builder.formatter.withLocale(builder.locale) : builder.formatter;
+        } else {
+            this.formatter = DateTimeFormatterCache.getFormatter(builder.dateFormatPattern, this.locale);
+        }
+        this.utcDefaultFormat = builder.formatter == null && DateTimeConverter.YYYY_MM_DD_HH_MM_SS_SSSXXX.equals(builder.dateFormatPattern)
+                && targetFixedOffset != null && targetFixedOffset.getTotalSeconds() == 0;
+    }
+
+    /**
+     * Creates a builder for a conversion profile. Without further settings the profile converts from UTC to UTC with the default date time format
+     * pattern (yyyy-MM-dd'T'HH:mm:ss.SSSXXX) and the default formatting locale
+     *
+     * @return the new builder
+     * @since 2.3.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Converts a local date time in the source time zone to a zoned date time in the target time zone
+     *
+     * @param localDateTime the local date time in the source time zone
+     * @return the zoned date time in the target time zone
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public ZonedDateTime convertToZonedDateTime(final LocalDateTime localDateTime) {
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        try {
+            long epochSecond = toEpochSecond(localDateTime);
+            ZoneOffset offset = getTargetOffset(epochSecond);
+            return ZonedDateTime.ofInstant(LocalDateTime.ofEpochSecond(epochSecond, localDateTime.getNano(), offset), offset, targetZoneId);
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts a local date time in the source time zone to the local date time in the target time zone
+     *
+     * @param localDateTime the local date time in the source time zone
+     * @return the local date time in the target time zone
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public LocalDateTime convertToLocalDateTime(final LocalDateTime localDateTime) {
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        try {
+            long epochSecond = toEpochSecond(localDateTime);
+            return LocalDateTime.ofEpochSecond(epochSecond, localDateTime.getNano(), getTargetOffset(epochSecond));
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts a local date time in the source time zone to text in the target time zone, using the formatter of the profile
+     *
+     * @param localDateTime the local date time in the source time zone
+     * @return the zoned date time in textual format e.g. "2023-11-10T10:00:00.254Z"
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the date conversion or the formatting fails
+     * @since 2.3.0
+     */
+    public String convertToText(final LocalDateTime localDateTime) {
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        if (utcDefaultFormat) {
+            try {
+                return DateTimeConverter.formatUTCZonedDateTimeText(localDateTime, sourceOffsetTable);
+            } catch (DateTimeException | ArithmeticException e) {
+                throw new DateTimeConversionException(e.getMessage());
+            }
+        }
+        ZonedDateTime zonedDateTime = convertToZonedDateTime(localDateTime);
+        try {
+            return formatter.format(zonedDateTime);
+        } catch (DateTimeException e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts a local date time in the source time zone to epoch millis
+     *
+     * @param localDateTime the local date time in the source time zone
+     * @return the instant in epoch millis
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public long convertToEpochMillis(final LocalDateTime localDateTime) {
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        if (sourceFixedOffset == null) {
+            return LegacyDateTimeBridge.toEpochMillis(localDateTime, sourceOffsetTable);
+        }
+        try {
+            return Math.addExact(Math.multiplyExact(localDateTime.toEpochSecond(sourceFixedOffset), 1000L), localDateTime.getNano() / 1_000_000);
+        } catch (ArithmeticException e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts epoch millis to the local date time in the target time zone
+     *
+     * @param epochMillis the instant in epoch millis
+     * @return the local date time in the target time zone
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public LocalDateTime convertToLocalDateTime(final long epochMillis) {
+        try {
+            long epochSecond = Math.floorDiv(epochMillis, 1000L);
+            int nanoOfSecond = (int) Math.floorMod(epochMillis, 1000L) * 1_000_000;
+            return LocalDateTime.ofEpochSecond(epochSecond, nanoOfSecond, getTargetOffset(epochSecond));
+        } catch (DateTimeException e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the source time zone id
+     *
+     * @return the time zone id of the local date times to be converted
+     * @since 2.3.0
+     */
+    public String getSourceTimeZoneId() {
+        return sourceTimeZoneId;
+    }
+
+    /**
+     * Gets the target time zone id
+     *
+     * @return the time zone id of the converted date times
+     * @since 2.3.0
+     */
+    public String getTargetTimeZoneId() {
+        return targetTimeZoneId;
+    }
+
+    /**
+     * Gets the formatter of the converted text
+     *
+     * @return the date time formatter
+     * @since 2.3.0
+     */
+    public DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    /**
+     * Gets the locale of the formatter
+     *
+     * @return the locale
+     * @since 2.3.0
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Converts a local date time in the source time zone to an epoch second, through the fixed offset or the offset table of the source time zone
+     *
+     * @param localDateTime the local date time in the source time zone
+     * @return the epoch second
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    private long toEpochSecond(final LocalDateTime localDateTime) {
+        if (sourceFixedOffset != null) {
+            return localDateTime.toEpochSecond(sourceFixedOffset);
+        }
+        return Math.floorDiv(LegacyDateTimeBridge.toEpochMillis(localDateTime, sourceOffsetTable), 1000L);
+    }
+
+    /**
+     * Gets the offset of the target time zone at an epoch second
+     *
+     * @param epochSecond the epoch second
+     * @return the offset of the target time zone
+     * @since 2.3.0
+     */
+    private ZoneOffset getTargetOffset(final long epochSecond) {
+        if (targetFixedOffset != null) {
+            return targetFixedOffset;
+        }
+        if (Math.abs(epochSecond) > MAXIMUM_TABLE_EPOCH_SECOND) {
+            return targetOffsetTable.getZoneRules().getOffset(Instant.ofEpochSecond(epochSecond));
+        }
+        return ZoneOffset.ofTotalSeconds(targetOffsetTable.getOffsetMillis(epochSecond * 1000L) / 1000);
+    }
+
+    /**
+     * Gets the offset of a time zone that has no transitions
+     *
+     * @param offsetTable the offset table of the time zone
+     * @return the fixed offset, or null if the time zone has transitions
+     * @since 2.3.0
+     */
+    private static ZoneOffset getFixedOffset(final ZoneOffsetTable offsetTable) {
+        return offsetTable.getZoneRules().isFixedOffset() ? offsetTable.getZoneRules().getOffset(Instant.EPOCH) : null;
+    }
+
+    /**
+     * The builder of a conversion profile. A builder is not thread-safe, the profiles it builds are
+     *
+     * @since 2.3.0
+     */
+    public static final class Builder {
+
+        private String sourceTimeZoneId = DEFAULT_TIME_ZONE_ID;
+
+        private String targetTimeZoneId = DEFAULT_TIME_ZONE_ID;
+
+        private String dateFormatPattern = DateTimeConverter.YYYY_MM_DD_HH_MM_SS_SSSXXX;
+
+        private DateTimeFormatter formatter;
+
+        private Locale locale;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the time zone of the local date times to be converted
+         *
+         * @param sourceTimeZoneId the source time zone id e.g. "Africa/Johannesburg"
+         * @return this builder
+         * @throws IllegalArgumentException if parameter is not valid
+         * @since 2.3.0
+         */
+        public Builder from(final String sourceTimeZoneId) {
+            ValidationUtil.rejectEmpty(sourceTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+            this.sourceTimeZoneId = sourceTimeZoneId;
+            return this;
+        }
+
+        /**
+         * Sets the time zone of the converted date times
+         *
+         * @param targetTimeZoneId the target time zone id e.g. "UTC"
+         * @return this builder
+         * @throws IllegalArgumentException if parameter is not valid
+         * @since 2.3.0
+         */
+        public Builder to(final String targetTimeZoneId) {
+            ValidationUtil.rejectEmpty(targetTimeZoneId, ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY);
+            this.targetTimeZoneId = targetTimeZoneId;
+            return this;
+        }
+
+        /**
+         * Sets the date format pattern of the converted text, replacing a formatter set before
+         *
+         * @param dateFormatPattern the date time format pattern e.g. "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"
+         * @return this builder
+         * @throws IllegalArgumentException if parameter is not valid
+         * @since 2.3.0
+         */
+        public Builder pattern(final String dateFormatPattern) {
+            ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+            this.dateFormatPattern = dateFormatPattern;
+            this.formatter = null;
+            return this;
+        }
+
+        /**
+         * Sets the formatter of the converted text, replacing a date format pattern set before
+         *
+         * @param formatter the date time formatter
+         * @return this builder
+         * @throws IllegalArgumentException if parameter is not valid
+         * @since 2.3.0
+         */
+        public Builder formatter(final DateTimeFormatter formatter) {
+            ValidationUtil.rejectEmpty(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+            this.formatter = formatter;
+            return this;
+        }
+
+        /**
+         * Sets the locale of the formatter, which defaults to the default formatting locale
+         *
+         * @param locale the locale
+         * @return this builder
+         * @throws IllegalArgumentException if parameter is not valid
+         * @since 2.3.0
+         */
+        public Builder locale(final Locale locale) {
+            ValidationUtil.rejectEmpty(locale, ErrorMessages.LOCALE_NULL);
+            this.locale = locale;
+            return this;
+        }
+
+        /**
+         * Builds the profile, resolving the time zones and the formatter
+         *
+         * @return the new conversion profile
+         * @throws IllegalArgumentException    if the date format pattern is not valid
+         * @throws DateTimeConversionException if a time zone id is not valid
+         * @since 2.3.0
+         */
+        public ConversionProfile build() {
+            return new ConversionProfile(this, LegacyDateTimeBridge.getZoneOffsetTable(sourceTimeZoneId), LegacyDateTimeBridge.getZoneOffsetTable(targetTimeZoneId));
+        }
+    }
+}
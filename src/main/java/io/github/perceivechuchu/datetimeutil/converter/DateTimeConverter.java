@@ -1,15 +1,28 @@
 package io.github.perceivechuchu.datetimeutil.converter;
 
-import io.github.perceivechuchu.datetimeutil.commons.model.ValidationEntry;
 import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ConversionErrorCode;
+import io.github.perceivechuchu.datetimeutil.constant.DstGapPolicy;
+import io.github.perceivechuchu.datetimeutil.constant.DstOverlapPolicy;
 import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.constant.IsoTimestampLayout;
+import io.github.perceivechuchu.datetimeutil.constant.MetricOperation;
 import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import io.github.perceivechuchu.datetimeutil.formatter.DateTextTable;
+import io.github.perceivechuchu.datetimeutil.formatter.DateTimeFormatterCache;
+import io.github.perceivechuchu.datetimeutil.formatter.IsoTimestampWriter;
+import io.github.perceivechuchu.datetimeutil.metrics.DateTimeMetrics;
+import io.github.perceivechuchu.datetimeutil.model.ConversionResult;
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneOffsetTable;
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneRegistry;
+import org.apache.commons.lang3.StringUtils;
 
 import java.sql.Timestamp;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
 
 /**
  * This class is a utility for date conversions
@@ -24,14 +37,44 @@ public class DateTimeConverter {
      * The zulu date format pattern
      */
     protected static final String YYYY_MM_DD_HH_MM_SS_SSSXXX = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+    /**
+     * The zulu date formatter, compiled once as it only contains numeric fields and does not depend on the locale
+     */
+    private static final DateTimeFormatter YYYY_MM_DD_HH_MM_SS_SSSXXX_FORMATTER = DateTimeFormatter.ofPattern(YYYY_MM_DD_HH_MM_SS_SSSXXX);
     /**
      * The UTC zone id
      */
     private static final String ZONE_ID_UTC = "UTC";
+    /**
+     * The UTC zone, resolved once through the zone registry
+     */
+    private static final ZoneId UTC_ZONE_ID = ZoneRegistry.getZoneId(ZONE_ID_UTC);
+    /**
+     * The largest epoch second, in either direction, whose millis can be looked up in an offset table without overflowing
+     */
+    private static final long MAXIMUM_TABLE_EPOCH_SECOND = Long.MAX_VALUE / 1000L - 86400L;
+    /**
+     * The smallest UTC epoch second that fits the millis timestamp layout, the start of the year 1
+     */
+    private static final long MINIMUM_WRITER_EPOCH_SECOND = -62135596800L;
+    /**
+     * The largest UTC epoch second that fits the millis timestamp layout, the end of the year 9999
+     */
+    private static final long MAXIMUM_WRITER_EPOCH_SECOND = 253402300799L;
 
     private DateTimeConverter() {
     }
 
+    /**
+     * Creates a builder for an immutable converter bound to a source time zone, a target time zone and a formatter, which is resolved once and can be shared
+     *
+     * @return the new conversion profile builder
+     * @since 2.3.0
+     */
+    public static ConversionProfile.Builder profile() {
+        return ConversionProfile.builder();
+    }
+
     /**
      * Converts a LocalDateTime object to UTC ZonedDateTime in textual format using default date time formatter (yyyy-MM-dd'T'HH:mm:ss.SSSXXX)
      *
@@ -42,12 +85,34 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static String convertToUTCZonedDateTimeText(final LocalDateTime localDateTime, final String localTimeZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL),
-                ValidationEntry.getInstance(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY));
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(YYYY_MM_DD_HH_MM_SS_SSSXXX);
-        ZonedDateTime zonedDateTime = localDateTime.atZone(ZoneId.of(localTimeZoneId));
-        dateFormatter.format(zonedDateTime);
-        return dateFormatter.format(zonedDateTime.withZoneSameInstant(ZoneId.of(ZONE_ID_UTC)));
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        return UncheckedDateTimeConverter.convertToUTCZonedDateTimeText(localDateTime, localTimeZoneId);
+    }
+
+    /**
+     * Formats a local date time as UTC text in the default format (yyyy-MM-dd'T'HH:mm:ss.SSSXXX). The offset is taken from the offset table of
+     * the local time zone and the text is written arithmetically, which gives the same result as LocalDateTime.atZone and the formatter
+     *
+     * @param localDateTime the local date time to be formatted
+     * @param offsetTable   the offset table of the local time zone
+     * @return the zoned date time in textual format e.g. "2023-11-10T10:00:00.254Z"
+     * @since 2.3.0
+     */
+    static String formatUTCZonedDateTimeText(final LocalDateTime localDateTime, final ZoneOffsetTable offsetTable) {
+        long localSecond = localDateTime.toEpochSecond(ZoneOffset.UTC);
+        if (Math.abs(localSecond) > MAXIMUM_TABLE_EPOCH_SECOND) {
+            return YYYY_MM_DD_HH_MM_SS_SSSXXX_FORMATTER.format(localDateTime.atZone(offsetTable.getZoneRules().getOffset(localDateTime)).withZoneSameInstant(UTC_ZONE_ID));
+        }
+        long epochMillis = offsetTable.toEpochMillis(localSecond * 1000L, DstGapPolicy.SHIFT_FORWARD, DstOverlapPolicy.EARLIER_OFFSET);
+        long epochSecond = Math.floorDiv(epochMillis, 1000L);
+        if (epochSecond < MINIMUM_WRITER_EPOCH_SECOND || epochSecond > MAXIMUM_WRITER_EPOCH_SECOND) {
+            // Years outside 1..9999 are written with a sign and more digits than the millis layout holds
+            return YYYY_MM_DD_HH_MM_SS_SSSXXX_FORMATTER.format(Instant.ofEpochSecond(epochSecond, localDateTime.getNano()).atZone(UTC_ZONE_ID));
+        }
+        char[] text = new char[IsoTimestampLayout.MILLIS.getLength()];
+        int length = IsoTimestampWriter.write(epochSecond, localDateTime.getNano(), IsoTimestampLayout.MILLIS, text, 0);
+        return new String(text, 0, length);
     }
 
     /**
@@ -61,12 +126,17 @@ public class DateTimeConverter {
      * @since 2.1.1
      */
     public static String convertToUTCZonedDateTimeText(final LocalDateTime localDateTime, final String localTimeZoneId, final DateTimeFormatter formatter) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL),
-                ValidationEntry.getInstance(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY),
-                ValidationEntry.getInstance(formatter, ErrorMessages.DATE_FORMATTER_NULL));
-        ZonedDateTime zonedDateTime = localDateTime.atZone(ZoneId.of(localTimeZoneId));
-        formatter.format(zonedDateTime);
-        return formatter.format(zonedDateTime.withZoneSameInstant(ZoneId.of(ZONE_ID_UTC)));
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            ZonedDateTime zonedDateTime = localDateTime.atZone(ZoneRegistry.getZoneId(localTimeZoneId));
+            return DateTimeMetrics.recordSuccess(MetricOperation.FORMAT, startTime, formatter.format(zonedDateTime.withZoneSameInstant(UTC_ZONE_ID)));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.FORMAT, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -80,13 +150,18 @@ public class DateTimeConverter {
      * @since 2.1.1
      */
     public static String convertToUTCZonedDateTimeText(final LocalDateTime localDateTime, final String localTimeZoneId, final String dateFormatPattern) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL),
-                ValidationEntry.getInstance(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY),
-                ValidationEntry.getInstance(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY));
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateFormatPattern);
-        ZonedDateTime zonedDateTime = localDateTime.atZone(ZoneId.of(localTimeZoneId));
-        formatter.format(zonedDateTime);
-        return formatter.format(zonedDateTime.withZoneSameInstant(ZoneId.of(ZONE_ID_UTC)));
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            DateTimeFormatter formatter = DateTimeFormatterCache.getFormatter(dateFormatPattern);
+            ZonedDateTime zonedDateTime = localDateTime.atZone(ZoneRegistry.getZoneId(localTimeZoneId));
+            return DateTimeMetrics.recordSuccess(MetricOperation.FORMAT, startTime, formatter.format(zonedDateTime.withZoneSameInstant(UTC_ZONE_ID)));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.FORMAT, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -101,14 +176,19 @@ public class DateTimeConverter {
      * @since 2.2.0
      */
     public static String convertToZonedDateTimeText(final LocalDateTime localDateTime, final String localTimeZoneId, final String targetTimeZoneId, String dateFormatPattern) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL),
-                ValidationEntry.getInstance(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY),
-                ValidationEntry.getInstance(targetTimeZoneId, ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY),
-                ValidationEntry.getInstance(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY));
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateFormatPattern);
-        ZonedDateTime zonedDateTime = localDateTime.atZone(ZoneId.of(localTimeZoneId));
-        formatter.format(zonedDateTime);
-        return formatter.format(zonedDateTime.withZoneSameInstant(ZoneId.of(targetTimeZoneId)));
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(targetTimeZoneId, ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            DateTimeFormatter formatter = DateTimeFormatterCache.getFormatter(dateFormatPattern);
+            ZonedDateTime zonedDateTime = localDateTime.atZone(ZoneRegistry.getZoneId(localTimeZoneId));
+            return DateTimeMetrics.recordSuccess(MetricOperation.FORMAT, startTime, formatter.format(zonedDateTime.withZoneSameInstant(ZoneRegistry.getZoneId(targetTimeZoneId))));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.FORMAT, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -122,12 +202,9 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static ZonedDateTime convertToUTCZonedDateTime(final LocalDateTime localDateTime, final String localTimeZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL), ValidationEntry.getInstance(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY));
-        try {
-            return localDateTime.atZone(ZoneId.of(localTimeZoneId));
-        } catch (Exception e) {
-            throw new DateTimeConversionException(e.getMessage());
-        }
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        return UncheckedDateTimeConverter.convertToUTCZonedDateTime(localDateTime, localTimeZoneId);
     }
 
     /**
@@ -142,14 +219,10 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static ZonedDateTime convertToZonedDateTime(final LocalDateTime localDateTime, final String localTimeZoneId, final String targetTimeZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL),
-                ValidationEntry.getInstance(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY),
-                ValidationEntry.getInstance(targetTimeZoneId, ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY));
-        try {
-            return localDateTime.atZone(ZoneId.of(localTimeZoneId)).withZoneSameInstant(ZoneId.of(targetTimeZoneId));
-        } catch (Exception e) {
-            throw new DateTimeConversionException(e.getMessage());
-        }
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(localTimeZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(targetTimeZoneId, ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY);
+        return UncheckedDateTimeConverter.convertToZonedDateTime(localDateTime, localTimeZoneId, targetTimeZoneId);
     }
 
     /**
@@ -163,14 +236,9 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static LocalDateTime convertToLocalDateTimeWithZone(final String zonedDateTimeText, final String localZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(zonedDateTimeText, ErrorMessages.ZONED_DATE_TIME_TEXT_EMPTY),
-                ValidationEntry.getInstance(localZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY));
-        try {
-            ZonedDateTime zonedDateTime = ZonedDateTime.parse(zonedDateTimeText).withZoneSameInstant(ZoneId.of(localZoneId));
-            return zonedDateTime.toLocalDateTime();
-        } catch (Exception e) {
-            throw new DateTimeConversionException(e.getMessage());
-        }
+        ValidationUtil.rejectEmpty(zonedDateTimeText, ErrorMessages.ZONED_DATE_TIME_TEXT_EMPTY);
+        ValidationUtil.rejectEmpty(localZoneId, ErrorMessages.LOCAL_TIME_ZONE_ID_EMPTY);
+        return UncheckedDateTimeConverter.convertToLocalDateTimeWithZone(zonedDateTimeText, localZoneId);
     }
 
     /**
@@ -183,12 +251,8 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static LocalDate convertToLocalDate(final String localDateText) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateText, ErrorMessages.LOCAL_DATE_TEXT_EMPTY));
-        try {
-            return LocalDate.parse(localDateText);
-        } catch (Exception e) {
-            throw new DateTimeConversionException(e.getMessage());
-        }
+        ValidationUtil.rejectEmpty(localDateText, ErrorMessages.LOCAL_DATE_TEXT_EMPTY);
+        return UncheckedDateTimeConverter.convertToLocalDate(localDateText);
     }
 
     /**
@@ -202,13 +266,9 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static LocalDate convertToLocalDate(final String localDateText, final DateTimeFormatter formatter) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateText, ErrorMessages.LOCAL_DATE_TEXT_EMPTY),
-                ValidationEntry.getInstance(formatter, ErrorMessages.DATE_FORMATTER_NULL));
-        try {
-            return LocalDate.parse(localDateText, formatter);
-        } catch (Exception e) {
-            throw new DateTimeConversionException(e.getMessage());
-        }
+        ValidationUtil.rejectEmpty(localDateText, ErrorMessages.LOCAL_DATE_TEXT_EMPTY);
+        ValidationUtil.rejectEmpty(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        return UncheckedDateTimeConverter.convertToLocalDate(localDateText, formatter);
     }
 
     /**
@@ -222,12 +282,14 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static LocalDate convertToLocalDate(final String localDateText, final String dateFormatPattern) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateText, ErrorMessages.LOCAL_DATE_TEXT_EMPTY),
-                ValidationEntry.getInstance(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY));
+        ValidationUtil.rejectEmpty(localDateText, ErrorMessages.LOCAL_DATE_TEXT_EMPTY);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
         try {
             DateTimeFormatter formatter = getDateFormatter(dateFormatPattern);
-            return LocalDate.parse(localDateText, formatter);
+            return DateTimeMetrics.recordSuccess(MetricOperation.PARSE_LOCAL_DATE, startTime, LocalDate.parse(localDateText, formatter));
         } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.PARSE_LOCAL_DATE, startTime);
             throw new DateTimeConversionException(e.getMessage());
         }
     }
@@ -242,12 +304,8 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static LocalDateTime convertToLocalDateTime(final String localDateTimeText) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTimeText, ErrorMessages.LOCAL_DATE_TIME_TEXT_EMPTY));
-        try {
-            return LocalDateTime.parse(localDateTimeText);
-        } catch (Exception e) {
-            throw new DateTimeConversionException(e.getMessage());
-        }
+        ValidationUtil.rejectEmpty(localDateTimeText, ErrorMessages.LOCAL_DATE_TIME_TEXT_EMPTY);
+        return UncheckedDateTimeConverter.convertToLocalDateTime(localDateTimeText);
     }
 
     /**
@@ -261,13 +319,9 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static LocalDateTime convertToLocalDateTime(final String localDateTimeText, final DateTimeFormatter formatter) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTimeText, ErrorMessages.LOCAL_DATE_TIME_TEXT_EMPTY),
-                ValidationEntry.getInstance(formatter, ErrorMessages.DATE_FORMATTER_NULL));
-        try {
-            return LocalDateTime.parse(localDateTimeText, formatter);
-        } catch (Exception e) {
-            throw new DateTimeConversionException(e.getMessage());
-        }
+        ValidationUtil.rejectEmpty(localDateTimeText, ErrorMessages.LOCAL_DATE_TIME_TEXT_EMPTY);
+        ValidationUtil.rejectEmpty(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        return UncheckedDateTimeConverter.convertToLocalDateTime(localDateTimeText, formatter);
     }
 
     /**
@@ -281,12 +335,14 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static LocalDateTime convertToLocalDateTimeWithPattern(final String localDateTimeText, final String dateFormatPattern) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTimeText, ErrorMessages.LOCAL_DATE_TIME_TEXT_EMPTY),
-                ValidationEntry.getInstance(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY));
+        ValidationUtil.rejectEmpty(localDateTimeText, ErrorMessages.LOCAL_DATE_TIME_TEXT_EMPTY);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
         try {
             DateTimeFormatter formatter = getDateFormatter(dateFormatPattern);
-            return LocalDateTime.parse(localDateTimeText, formatter);
+            return DateTimeMetrics.recordSuccess(MetricOperation.PARSE_LOCAL_DATE_TIME, startTime, LocalDateTime.parse(localDateTimeText, formatter));
         } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.PARSE_LOCAL_DATE_TIME, startTime);
             throw new DateTimeConversionException(e.getMessage());
         }
     }
@@ -300,8 +356,14 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static String convertToLocalDateText(final LocalDate localDate) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDate, ErrorMessages.LOCAL_DATE_NULL));
-        return String.valueOf(localDate);
+        ValidationUtil.rejectEmpty(localDate, ErrorMessages.LOCAL_DATE_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.FORMAT, startTime, DateTextTable.isEnabled() ? DateTextTable.format(localDate, DateTimeFormatter.ISO_LOCAL_DATE) : String.valueOf(localDate));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.FORMAT, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -315,9 +377,15 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static String convertToLocalDateText(final LocalDate localDate, final DateTimeFormatter formatter) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDate, ErrorMessages.LOCAL_DATE_NULL),
-                ValidationEntry.getInstance(formatter, ErrorMessages.DATE_FORMATTER_NULL));
-        return localDate.format(formatter);
+        ValidationUtil.rejectEmpty(localDate, ErrorMessages.LOCAL_DATE_NULL);
+        ValidationUtil.rejectEmpty(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.FORMAT, startTime, DateTextTable.isEnabled() ? DateTextTable.format(localDate, formatter) : localDate.format(formatter));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.FORMAT, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -331,10 +399,19 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static String convertToLocalDateText(final LocalDate localDate, final String dateFormatPattern) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDate, ErrorMessages.LOCAL_DATE_NULL),
-                ValidationEntry.getInstance(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY));
-        DateTimeFormatter formatter = getDateFormatter(dateFormatPattern);
-        return localDate.format(formatter);
+        ValidationUtil.rejectEmpty(localDate, ErrorMessages.LOCAL_DATE_NULL);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            if (DateTextTable.isEnabled()) {
+                return DateTimeMetrics.recordSuccess(MetricOperation.FORMAT, startTime, DateTextTable.format(localDate, dateFormatPattern, Locale.getDefault(Locale.Category.FORMAT)));
+            }
+            DateTimeFormatter formatter = getDateFormatter(dateFormatPattern);
+            return DateTimeMetrics.recordSuccess(MetricOperation.FORMAT, startTime, localDate.format(formatter));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.FORMAT, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -346,8 +423,14 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static String convertToLocalDateTimeText(final LocalDateTime localDateTime) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL));
-        return String.valueOf(localDateTime);
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.FORMAT, startTime, String.valueOf(localDateTime));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.FORMAT, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -361,9 +444,15 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static String convertToLocalDateTimeText(final LocalDateTime localDateTime, final DateTimeFormatter formatter) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL),
-                ValidationEntry.getInstance(formatter, ErrorMessages.DATE_FORMATTER_NULL));
-        return localDateTime.format(formatter);
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.FORMAT, startTime, localDateTime.format(formatter));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.FORMAT, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -377,10 +466,16 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static String convertToLocalDateTimeText(final LocalDateTime localDateTime, final String dateFormatPattern) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL),
-                ValidationEntry.getInstance(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY));
-        DateTimeFormatter formatter = getDateFormatter(dateFormatPattern);
-        return localDateTime.format(formatter);
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            DateTimeFormatter formatter = getDateFormatter(dateFormatPattern);
+            return DateTimeMetrics.recordSuccess(MetricOperation.FORMAT, startTime, localDateTime.format(formatter));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.FORMAT, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -392,8 +487,14 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static LocalDateTime convertToLocalDateTime(final Timestamp timestamp) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(timestamp, ErrorMessages.TIMESTAMP_NULL));
-        return timestamp.toLocalDateTime();
+        ValidationUtil.rejectEmpty(timestamp, ErrorMessages.TIMESTAMP_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, timestamp.toLocalDateTime());
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -405,8 +506,14 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static Timestamp convertToTimestamp(final LocalDateTime localDateTime) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL));
-        return Timestamp.valueOf(localDateTime);
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, Timestamp.valueOf(localDateTime));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -418,9 +525,15 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static Timestamp convertToTimestamp(final String localDateTimeText) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTimeText, ErrorMessages.LOCAL_DATE_TIME_TEXT_EMPTY));
-        LocalDateTime localDateTime = convertToLocalDateTime(localDateTimeText);
-        return Timestamp.valueOf(localDateTime);
+        ValidationUtil.rejectEmpty(localDateTimeText, ErrorMessages.LOCAL_DATE_TIME_TEXT_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            LocalDateTime localDateTime = convertToLocalDateTime(localDateTimeText);
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, Timestamp.valueOf(localDateTime));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -431,7 +544,7 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static LocalDateTime convertEpochMillisToLocalDateTime(final long epochMillis) {
-        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.of(ZONE_ID_UTC));
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), UTC_ZONE_ID);
     }
 
     /**
@@ -445,12 +558,8 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static LocalDateTime convertEpochMillisToLocalDateTime(final long epochMillis, String targetTimeZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(targetTimeZoneId, ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY));
-        try {
-            return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.of(targetTimeZoneId));
-        } catch (Exception e) {
-            throw new DateTimeConversionException(e.getMessage());
-        }
+        ValidationUtil.rejectEmpty(targetTimeZoneId, ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY);
+        return UncheckedDateTimeConverter.convertEpochMillisToLocalDateTime(epochMillis, targetTimeZoneId);
     }
 
     /**
@@ -464,13 +573,9 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     public static long convertLocalDateTimeToEpochMillis(final LocalDateTime localDateTime, final String timeZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL),
-                ValidationEntry.getInstance(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY));
-        try {
-            return localDateTime.atZone(ZoneId.of(timeZoneId)).withZoneSameInstant(ZoneId.of(timeZoneId)).toInstant().toEpochMilli();
-        } catch (Exception e) {
-            throw new DateTimeConversionException(e.getMessage());
-        }
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        return UncheckedDateTimeConverter.convertLocalDateTimeToEpochMillis(localDateTime, timeZoneId);
     }
 
     /**
@@ -482,8 +587,8 @@ public class DateTimeConverter {
      * @since 1.0.0
      */
     protected static DateTimeFormatter getDateFormatter(final String dateFormatPattern) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY));
-        return DateTimeFormatter.ofPattern(dateFormatPattern);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        return DateTimeFormatterCache.getFormatter(dateFormatPattern);
     }
 
     /**
@@ -496,8 +601,14 @@ public class DateTimeConverter {
      * @since 2.0.2
      */
     public static LocalDateTime convertToLocalDateTime(Date date) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(date, ErrorMessages.DATE_NULL));
-        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+        ValidationUtil.rejectEmpty(date, ErrorMessages.DATE_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -511,12 +622,14 @@ public class DateTimeConverter {
      * @since 2.0.2
      */
     public static LocalDateTime convertToLocalDateTime(Date date, String timeZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(date, ErrorMessages.DATE_NULL),
-                ValidationEntry.getInstance(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY));
+        ValidationUtil.rejectEmpty(date, ErrorMessages.DATE_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
         try {
-            ZoneId zoneId = ZoneId.of(timeZoneId);
-            return LocalDateTime.ofInstant(date.toInstant(), zoneId);
+            ZoneId zoneId = ZoneRegistry.getZoneId(timeZoneId);
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, LocalDateTime.ofInstant(date.toInstant(), zoneId));
         } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
             throw new DateTimeConversionException(e.getMessage());
         }
     }
@@ -532,12 +645,14 @@ public class DateTimeConverter {
      * @since 2.0.2
      */
     public static LocalDateTime convertToLocalDateTime(Calendar calendar, String timeZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(calendar, ErrorMessages.CALENDAR_NULL),
-                ValidationEntry.getInstance(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY));
+        ValidationUtil.rejectEmpty(calendar, ErrorMessages.CALENDAR_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
         try {
-            ZoneId zoneId = ZoneId.of(timeZoneId);
-            return LocalDateTime.ofInstant(calendar.toInstant(), zoneId);
+            ZoneId zoneId = ZoneRegistry.getZoneId(timeZoneId);
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, LocalDateTime.ofInstant(calendar.toInstant(), zoneId));
         } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
             throw new DateTimeConversionException(e.getMessage());
         }
     }
@@ -552,12 +667,18 @@ public class DateTimeConverter {
      * @since 2.0.2
      */
     public static ZonedDateTime convertToZonedDateTime(Date date) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(date, ErrorMessages.DATE_NULL));
-        return ZonedDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+        ValidationUtil.rejectEmpty(date, ErrorMessages.DATE_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, ZonedDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
+            throw e;
+        }
     }
 
     /**
-     * Converts a java.util.Calendar object to a ZonedDateTime object
+     * Converts a java.util.Calendar object to a ZonedDateTime object in the time zone of the calendar
      *
      * @param calendar the calendar object to be converted
      * @return the zoned date time object obtained from the conversion
@@ -565,8 +686,13 @@ public class DateTimeConverter {
      * @since 2.0.2
      */
     public static ZonedDateTime convertToZonedDateTime(Calendar calendar) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(calendar, ErrorMessages.CALENDAR_NULL));
-        return ZonedDateTime.ofInstant(calendar.toInstant(), ZoneId.systemDefault());
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, LegacyDateTimeBridge.toZonedDateTime(calendar));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -580,10 +706,10 @@ public class DateTimeConverter {
      * @since 2.0.2
      */
     public static ZonedDateTime convertToZonedDateTime(LocalDateTime localDateTime, String timeZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL),
-                ValidationEntry.getInstance(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY));
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
         try {
-            ZoneId zoneId = ZoneId.of(timeZoneId);
+            ZoneId zoneId = ZoneRegistry.getZoneId(timeZoneId);
             return localDateTime.atZone(zoneId);
         } catch (Exception e) {
             throw new DateTimeConversionException(e.getMessage());
@@ -591,39 +717,48 @@ public class DateTimeConverter {
     }
 
     /**
-     * Converts a ZonedDateTime object to a Calendar object
+     * Converts a ZonedDateTime object to a Calendar object in the time zone of the zoned date time
      *
      * @param zonedDateTime the zoned date time to be converted
      * @return the calendar object obtained from the conversion
      * @throws IllegalArgumentException if parameter is not valid
+     * @throws ArithmeticException      if the instant exceeds the range of epoch millis
      * @since 2.0.2
      */
     public static Calendar convertToCalendar(ZonedDateTime zonedDateTime) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(zonedDateTime, ErrorMessages.ZONED_DATE_TIME_NULL));
-        Date date = Date.from(zonedDateTime.toInstant());
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        return calendar;
+        ValidationUtil.rejectEmpty(zonedDateTime, ErrorMessages.ZONED_DATE_TIME_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            long epochMillis = Math.addExact(Math.multiplyExact(zonedDateTime.toEpochSecond(), 1000L), zonedDateTime.getNano() / 1_000_000);
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, LegacyDateTimeBridge.toCalendar(epochMillis, zonedDateTime.getZone().getId()));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
+            throw e;
+        }
     }
 
     /**
-     * Converts a LocalDateTime object with supplied time zone id to a Calendar object
+     * Converts a LocalDateTime object with supplied time zone id to a Calendar object in that time zone
      *
      * @param localDateTime the local date time to be converted
      * @param timeZoneId    the time zone id to be used in the conversion e.g. "Africa/Johannesburg"
      * @return the calendar object obtained from the conversion
-     * @throws IllegalArgumentException if parameter is not valid
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the date conversion fails
      * @since 2.0.2
      */
     public static Calendar convertToCalendar(LocalDateTime localDateTime, String timeZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL),
-                ValidationEntry.getInstance(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY));
-        ZonedDateTime zonedDateTime = convertToZonedDateTime(localDateTime, timeZoneId);
-        return convertToCalendar(zonedDateTime);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, LegacyDateTimeBridge.toCalendar(localDateTime, timeZoneId));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
+            throw e;
+        }
     }
 
     /**
-     * Converts a java.util.Date object to a java.util.Calendar object
+     * Converts a java.util.Date object to a java.util.Calendar object of the default locale in the default time zone
      *
      * @param date the date to be converted
      * @return the calendar object obtained from the conversion
@@ -631,10 +766,16 @@ public class DateTimeConverter {
      * @since 2.0.2
      */
     public static Calendar convertToCalendar(Date date) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(date, ErrorMessages.DATE_NULL));
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        return calendar;
+        ValidationUtil.rejectEmpty(date, ErrorMessages.DATE_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTimeInMillis(date.getTime());
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, calendar);
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
+            throw e;
+        }
     }
 
     /**
@@ -646,8 +787,228 @@ public class DateTimeConverter {
      * @since 2.0.2
      */
     public static Date convertToDate(Calendar calendar) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(calendar, ErrorMessages.CALENDAR_NULL));
-        return calendar.getTime();
+        ValidationUtil.rejectEmpty(calendar, ErrorMessages.CALENDAR_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_LEGACY, startTime, calendar.getTime());
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_LEGACY, startTime);
+            throw e;
+        }
+    }
+
+    /**
+     * Converts LocalDate in textual format with default date formatter to a LocalDate object without throwing an exception when the text is not valid. The text is parsed using formatter DateTimeFormatter.ISO_LOCAL_DATE
+     *
+     * @param localDateText the local date in textual format to be converted e.g. "2023-12-05"
+     * @param result        the result to be filled in with the local date or the error, it can be reused across calls
+     * @return the supplied result
+     * @throws IllegalArgumentException if the result parameter is null
+     * @since 2.3.0
+     */
+    public static ConversionResult<LocalDate> tryConvertToLocalDate(final String localDateText, final ConversionResult<LocalDate> result) {
+        ValidationUtil.rejectEmpty(result, ErrorMessages.CONVERSION_RESULT_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        LocalDate localDate = localDateText == null ? null : IsoTextParser.parseLocalDate(localDateText);
+        return DateTimeMetrics.recordResult(MetricOperation.PARSE_LOCAL_DATE, startTime,
+                localDate != null ? result.success(localDate) : parseLocalDate(localDateText, DateTimeFormatter.ISO_LOCAL_DATE, result));
+    }
+
+    /**
+     * Converts LocalDate in textual format with supplied date formatter to a LocalDate object without throwing an exception when the text is not valid
+     *
+     * @param localDateText the local date in textual format to be converted e.g. "2023-12-05"
+     * @param formatter     the formatter that holds the format pattern for the supplied local date
+     * @param result        the result to be filled in with the local date or the error, it can be reused across calls
+     * @return the supplied result
+     * @throws IllegalArgumentException if the formatter or result parameter is null
+     * @since 2.3.0
+     */
+    public static ConversionResult<LocalDate> tryConvertToLocalDate(final String localDateText, final DateTimeFormatter formatter, final ConversionResult<LocalDate> result) {
+        ValidationUtil.rejectEmpty(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        ValidationUtil.rejectEmpty(result, ErrorMessages.CONVERSION_RESULT_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        return DateTimeMetrics.recordResult(MetricOperation.PARSE_LOCAL_DATE, startTime, parseLocalDate(localDateText, formatter, result));
+    }
+
+    /**
+     * Parses local date text with a formatter into a conversion result
+     *
+     * @param localDateText the local date in textual format to be converted
+     * @param formatter     the formatter that holds the format pattern for the supplied local date
+     * @param result        the result to be filled in with the local date or the error
+     * @return the supplied result
+     * @since 2.3.0
+     */
+    private static ConversionResult<LocalDate> parseLocalDate(final String localDateText, final DateTimeFormatter formatter, final ConversionResult<LocalDate> result) {
+        if (StringUtils.isBlank(localDateText)) {
+            return result.failure(ConversionErrorCode.EMPTY_INPUT, -1);
+        }
+        LocalDate localDate = TemporalTextParser.parse(localDateText, formatter, LocalDate::from, result);
+        return localDate == null ? result : result.success(localDate);
+    }
+
+    /**
+     * Converts LocalDate in textual format with supplied date format pattern to a LocalDate object without throwing an exception when the text is not valid
+     *
+     * @param localDateText     the local date in textual format to be converted e.g. "05/12/2023"
+     * @param dateFormatPattern the date format pattern for the supplied local date e.g. "dd/MM/yyyy"
+     * @param result            the result to be filled in with the local date or the error, it can be reused across calls
+     * @return the supplied result
+     * @throws IllegalArgumentException if the date format pattern or result parameter is not valid
+     * @since 2.3.0
+     */
+    public static ConversionResult<LocalDate> tryConvertToLocalDate(final String localDateText, final String dateFormatPattern, final ConversionResult<LocalDate> result) {
+        return tryConvertToLocalDate(localDateText, getDateFormatter(dateFormatPattern), result);
+    }
+
+    /**
+     * Converts LocalDateTime in textual format with default date formatter to a LocalDateTime object without throwing an exception when the text is not valid. The text is parsed using formatter DateTimeFormatter.ISO_LOCAL_DATE_TIME
+     *
+     * @param localDateTimeText the local date time in textual format to be converted e.g. "2023-12-08T16:02:10"
+     * @param result            the result to be filled in with the local date time or the error, it can be reused across calls
+     * @return the supplied result
+     * @throws IllegalArgumentException if the result parameter is null
+     * @since 2.3.0
+     */
+    public static ConversionResult<LocalDateTime> tryConvertToLocalDateTime(final String localDateTimeText, final ConversionResult<LocalDateTime> result) {
+        ValidationUtil.rejectEmpty(result, ErrorMessages.CONVERSION_RESULT_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        LocalDateTime localDateTime = localDateTimeText == null ? null : IsoTextParser.parseLocalDateTime(localDateTimeText);
+        return DateTimeMetrics.recordResult(MetricOperation.PARSE_LOCAL_DATE_TIME, startTime,
+                localDateTime != null ? result.success(localDateTime) : parseLocalDateTime(localDateTimeText, DateTimeFormatter.ISO_LOCAL_DATE_TIME, result));
+    }
+
+    /**
+     * Converts LocalDateTime in textual format with supplied date formatter to a LocalDateTime object without throwing an exception when the text is not valid
+     *
+     * @param localDateTimeText the local date time in textual format to be converted e.g. "18/11/2023T16:02:10"
+     * @param formatter         the formatter that holds the format pattern for the supplied local date time
+     * @param result            the result to be filled in with the local date time or the error, it can be reused across calls
+     * @return the supplied result
+     * @throws IllegalArgumentException if the formatter or result parameter is null
+     * @since 2.3.0
+     */
+    public static ConversionResult<LocalDateTime> tryConvertToLocalDateTime(final String localDateTimeText, final DateTimeFormatter formatter, final ConversionResult<LocalDateTime> result) {
+        ValidationUtil.rejectEmpty(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        ValidationUtil.rejectEmpty(result, ErrorMessages.CONVERSION_RESULT_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        return DateTimeMetrics.recordResult(MetricOperation.PARSE_LOCAL_DATE_TIME, startTime, parseLocalDateTime(localDateTimeText, formatter, result));
+    }
+
+    /**
+     * Parses local date time text with a formatter into a conversion result
+     *
+     * @param localDateTimeText the local date time in textual format to be converted
+     * @param formatter         the formatter that holds the format pattern for the supplied local date time
+     * @param result            the result to be filled in with the local date time or the error
+     * @return the supplied result
+     * @since 2.3.0
+     */
+    private static ConversionResult<LocalDateTime> parseLocalDateTime(final String localDateTimeText, final DateTimeFormatter formatter, final ConversionResult<LocalDateTime> result) {
+        if (StringUtils.isBlank(localDateTimeText)) {
+            return result.failure(ConversionErrorCode.EMPTY_INPUT, -1);
+        }
+        LocalDateTime localDateTime = TemporalTextParser.parse(localDateTimeText, formatter, LocalDateTime::from, result);
+        return localDateTime == null ? result : result.success(localDateTime);
+    }
+
+    /**
+     * Converts LocalDateTime in textual format with supplied date format pattern to a LocalDateTime object without throwing an exception when the text is not valid
+     *
+     * @param localDateTimeText the local date time in textual format to be converted e.g. "18/11/2023T16:02:10"
+     * @param dateFormatPattern the date time format pattern for the supplied local date time e.g. "dd/MM/yyyy'T'HH:mm:ss"
+     * @param result            the result to be filled in with the local date time or the error, it can be reused across calls
+     * @return the supplied result
+     * @throws IllegalArgumentException if the date format pattern or result parameter is not valid
+     * @since 2.3.0
+     */
+    public static ConversionResult<LocalDateTime> tryConvertToLocalDateTimeWithPattern(final String localDateTimeText, final String dateFormatPattern, final ConversionResult<LocalDateTime> result) {
+        return tryConvertToLocalDateTime(localDateTimeText, getDateFormatter(dateFormatPattern), result);
+    }
+
+    /**
+     * Converts a zoned date time in textual format to a LocalDateTime object in the supplied time zone without throwing an exception when the text or zone id is not valid
+     *
+     * @param zonedDateTimeText the zoned date time in textual format to be converted e.g. "2023-11-10T10:00:00.254Z"
+     * @param localZoneId       the local time zone id for the resulting local date time e.g. "Africa/Johannesburg"
+     * @param result            the result to be filled in with the local date time or the error, it can be reused across calls
+     * @return the supplied result
+     * @throws IllegalArgumentException if the result parameter is null
+     * @since 2.3.0
+     */
+    public static ConversionResult<LocalDateTime> tryConvertToLocalDateTimeWithZone(final String zonedDateTimeText, final String localZoneId, final ConversionResult<LocalDateTime> result) {
+        ValidationUtil.rejectEmpty(result, ErrorMessages.CONVERSION_RESULT_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        return DateTimeMetrics.recordResult(MetricOperation.PARSE_ZONED_DATE_TIME, startTime, parseLocalDateTimeWithZone(zonedDateTimeText, localZoneId, result));
+    }
+
+    /**
+     * Parses zoned date time text into a conversion result holding the local date time in a time zone
+     *
+     * @param zonedDateTimeText the zoned date time in textual format to be converted
+     * @param localZoneId       the local time zone id for the resulting local date time
+     * @param result            the result to be filled in with the local date time or the error
+     * @return the supplied result
+     * @since 2.3.0
+     */
+    private static ConversionResult<LocalDateTime> parseLocalDateTimeWithZone(final String zonedDateTimeText, final String localZoneId, final ConversionResult<LocalDateTime> result) {
+        if (StringUtils.isBlank(zonedDateTimeText) || StringUtils.isBlank(localZoneId)) {
+            return result.failure(ConversionErrorCode.EMPTY_INPUT, -1);
+        }
+        if (!ZoneRegistry.isResolvable(localZoneId)) {
+            return result.failure(ConversionErrorCode.INVALID_TIME_ZONE_ID, -1);
+        }
+        LocalDateTime localDateTime = IsoTextParser.parseZonedDateTimeToLocalDateTime(zonedDateTimeText, ZoneRegistry.getZoneOffsetTable(localZoneId));
+        if (localDateTime != null) {
+            return result.success(localDateTime);
+        }
+        ZonedDateTime zonedDateTime = TemporalTextParser.parse(zonedDateTimeText, DateTimeFormatter.ISO_ZONED_DATE_TIME, ZonedDateTime::from, result);
+        return zonedDateTime == null ? result : result.success(LocalDateTime.ofInstant(zonedDateTime.toInstant(), ZoneRegistry.getZoneId(localZoneId)));
+    }
+
+    /**
+     * Converts a LocalDateTime object with supplied time zone id to a ZonedDateTime object without throwing an exception when the zone id is not valid
+     *
+     * @param localDateTime the local date time to be converted
+     * @param timeZoneId    the time zone id to be used in the conversion e.g. "Africa/Johannesburg"
+     * @param result        the result to be filled in with the zoned date time or the error, it can be reused across calls
+     * @return the supplied result
+     * @throws IllegalArgumentException if the result parameter is null
+     * @since 2.3.0
+     */
+    public static ConversionResult<ZonedDateTime> tryConvertToZonedDateTime(final LocalDateTime localDateTime, final String timeZoneId, final ConversionResult<ZonedDateTime> result) {
+        ValidationUtil.rejectEmpty(result, ErrorMessages.CONVERSION_RESULT_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        if (localDateTime == null || StringUtils.isBlank(timeZoneId)) {
+            return DateTimeMetrics.recordResult(MetricOperation.CONVERT_ZONE, startTime, result.failure(ConversionErrorCode.EMPTY_INPUT, -1));
+        }
+        if (!ZoneRegistry.isResolvable(timeZoneId)) {
+            return DateTimeMetrics.recordResult(MetricOperation.CONVERT_ZONE, startTime, result.failure(ConversionErrorCode.INVALID_TIME_ZONE_ID, -1));
+        }
+        return DateTimeMetrics.recordResult(MetricOperation.CONVERT_ZONE, startTime, result.success(localDateTime.atZone(ZoneRegistry.getZoneId(timeZoneId))));
+    }
+
+    /**
+     * Converts an Epoch time value in milliseconds with supplied zone id to a LocalDateTime object without throwing an exception when the zone id is not valid
+     *
+     * @param epochMillis      the epoch time value to be converted, in milliseconds
+     * @param targetTimeZoneId the target time zone id to be applied to the resulting date time e.g. "Africa/Johannesburg"
+     * @param result           the result to be filled in with the local date time or the error, it can be reused across calls
+     * @return the supplied result
+     * @throws IllegalArgumentException if the result parameter is null
+     * @since 2.3.0
+     */
+    public static ConversionResult<LocalDateTime> tryConvertEpochMillisToLocalDateTime(final long epochMillis, final String targetTimeZoneId, final ConversionResult<LocalDateTime> result) {
+        ValidationUtil.rejectEmpty(result, ErrorMessages.CONVERSION_RESULT_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        if (StringUtils.isBlank(targetTimeZoneId)) {
+            return DateTimeMetrics.recordResult(MetricOperation.CONVERT_ZONE, startTime, result.failure(ConversionErrorCode.EMPTY_INPUT, -1));
+        }
+        if (!ZoneRegistry.isResolvable(targetTimeZoneId)) {
+            return DateTimeMetrics.recordResult(MetricOperation.CONVERT_ZONE, startTime, result.failure(ConversionErrorCode.INVALID_TIME_ZONE_ID, -1));
+        }
+        return DateTimeMetrics.recordResult(MetricOperation.CONVERT_ZONE, startTime, result.success(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneRegistry.getZoneId(targetTimeZoneId))));
     }
 
 }
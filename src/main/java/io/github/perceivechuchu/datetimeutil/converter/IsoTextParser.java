@@ -0,0 +1,312 @@
+package io.github.perceivechuchu.datetimeutil.converter;
+
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneOffsetTable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * This class parses the fixed RFC 3339 / ISO-8601 layouts accepted by the ISO formatters of java.time by reading the digits at their
+ * positions, without building a parse context. Only text with four digit years, an upper case "T" and "Z", an offset in hours and minutes
+ * and a known region is handled, and only when every value is in range; for anything else null is returned, so that callers can fall
+ * back to java.time, which then produces the same result or the same error as before.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+final class IsoTextParser {
+
+    /**
+     * The number of seconds in a day
+     *
+     * @since 2.3.0
+     */
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * The number of days from the year 0 to 1970
+     *
+     * @since 2.3.0
+     */
+    private static final long DAYS_0000_TO_1970 = (146097L * 5L) - (30L * 365L + 7L);
+
+    /**
+     * The region ids the ISO zoned formatter recognises, taken once when the class is loaded. Ids starting with "GMT" or "UT" are left out
+     * as the formatter reads them as an offset prefix e.g. "GMT0"
+     *
+     * @since 2.3.0
+     */
+    private static final Set<String> regionIds = Collections.unmodifiableSet(ZoneId.getAvailableZoneIds().stream()
+            .filter(zoneId -> !zoneId.startsWith("GMT") && !zoneId.startsWith("UT")).collect(Collectors.toSet()));
+
+    private IsoTextParser() {
+    }
+
+    /**
+     * Parses text in the DateTimeFormatter.ISO_LOCAL_DATE layout e.g. "2023-12-05"
+     *
+     * @param text the local date in textual format
+     * @return the local date, or null if the text has to be parsed by java.time
+     * @since 2.3.0
+     */
+    static LocalDate parseLocalDate(final String text) {
+        if (text.length() != 10 || !isDate(text)) {
+            return null;
+        }
+        return LocalDate.of(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2));
+    }
+
+    /**
+     * Parses text in the DateTimeFormatter.ISO_LOCAL_DATE_TIME layout e.g. "2023-12-08T16:02:10.123"
+     *
+     * @param text the local date time in textual format
+     * @return the local date time, or null if the text has to be parsed by java.time
+     * @since 2.3.0
+     */
+    static LocalDateTime parseLocalDateTime(final String text) {
+        int timeEnd = parseTimeEnd(text);
+        if (timeEnd != text.length()) {
+            return null;
+        }
+        return LocalDateTime.of(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2),
+                digits(text, 11, 2), digits(text, 14, 2), second(text), nano(text, timeEnd));
+    }
+
+    /**
+     * Parses text in the DateTimeFormatter.ISO_ZONED_DATE_TIME layout e.g. "2023-11-10T10:00:00.254Z" or "2023-11-10T12:00+02:00[Africa/Johannesburg]"
+     * and converts the instant it represents to the local date time of a time zone
+     *
+     * @param text        the zoned date time in textual format
+     * @param offsetTable the offset table of the time zone the local date time is wanted in
+     * @return the local date time in the time zone, or null if the text has to be parsed by java.time
+     * @since 2.3.0
+     */
+    static LocalDateTime parseZonedDateTimeToLocalDateTime(final String text, final ZoneOffsetTable offsetTable) {
+        int timeEnd = parseTimeEnd(text);
+        if (timeEnd < 0 || timeEnd == text.length()) {
+            return null;
+        }
+        int offsetSeconds;
+        int offsetEnd;
+        char sign = text.charAt(timeEnd);
+        if (sign == 'Z') {
+            offsetSeconds = 0;
+            offsetEnd = timeEnd + 1;
+        } else if ((sign == '+' || sign == '-') && text.length() >= timeEnd + 6 && text.charAt(timeEnd + 3) == ':'
+                && isDigits(text, timeEnd + 1, 2) && isDigits(text, timeEnd + 4, 2)) {
+            int hours = digits(text, timeEnd + 1, 2);
+            int minutes = digits(text, timeEnd + 4, 2);
+            if (minutes > 59 || hours > 18 || (hours == 18 && minutes > 0)) {
+                return null;
+            }
+            offsetSeconds = (sign == '-' ? -1 : 1) * (hours * 3600 + minutes * 60);
+            offsetEnd = timeEnd + 6;
+        } else {
+            return null;
+        }
+        if (offsetEnd != text.length() && !isKnownRegion(text, offsetEnd)) {
+            return null;
+        }
+        long localEpochDay = toEpochDay(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2));
+        int secondOfDay = digits(text, 11, 2) * 3600 + digits(text, 14, 2) * 60 + second(text);
+        long epochSecond = localEpochDay * SECONDS_PER_DAY + secondOfDay - offsetSeconds;
+        int targetOffsetSeconds = offsetTable.getOffsetMillis(epochSecond * 1000L) / 1000;
+        return LocalDateTime.ofEpochSecond(epochSecond + targetOffsetSeconds, nano(text, timeEnd), ZoneOffset.UTC);
+    }
+
+    /**
+     * Checks the date and time parts of the text, "yyyy-MM-ddTHH:mm" optionally followed by ":ss" and a fraction of one to nine digits
+     *
+     * @param text the date time in textual format
+     * @return the position after the time, or -1 if the text does not start with a valid date and time
+     * @since 2.3.0
+     */
+    private static int parseTimeEnd(final String text) {
+        int length = text.length();
+        if (length < 16 || !isDate(text) || text.charAt(10) != 'T' || text.charAt(13) != ':'
+                || !isDigits(text, 11, 2) || !isDigits(text, 14, 2) || digits(text, 11, 2) > 23 || digits(text, 14, 2) > 59) {
+            return -1;
+        }
+        if (length == 16 || text.charAt(16) != ':') {
+            return 16;
+        }
+        if (length < 19 || !isDigits(text, 17, 2) || digits(text, 17, 2) > 59) {
+            return -1;
+        }
+        if (length == 19 || text.charAt(19) != '.') {
+            return 19;
+        }
+        int position = 20;
+        while (position < length && position < 29 && isDigit(text.charAt(position))) {
+            position++;
+        }
+        if (position == 20 || (position < length && isDigit(text.charAt(position)))) {
+            return -1;
+        }
+        return position;
+    }
+
+    /**
+     * Checks that the text starts with a valid date in the layout "yyyy-MM-dd"
+     *
+     * @param text the text to be checked
+     * @return the boolean flag to indicate a valid date at the start of the text
+     * @since 2.3.0
+     */
+    private static boolean isDate(final String text) {
+        if (text.length() < 10 || text.charAt(4) != '-' || text.charAt(7) != '-' || !isDigits(text, 0, 4) || !isDigits(text, 5, 2) || !isDigits(text, 8, 2)) {
+            return false;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int dayOfMonth = digits(text, 8, 2);
+        return month >= 1 && month <= 12 && dayOfMonth >= 1 && dayOfMonth <= lengthOfMonth(year, month);
+    }
+
+    /**
+     * Checks that the text ends with a region id in square brackets that the ISO zoned formatter recognises
+     *
+     * @param text   the text to be checked
+     * @param offset the position of the opening bracket
+     * @return the boolean flag to indicate a known region id
+     * @since 2.3.0
+     */
+    private static boolean isKnownRegion(final String text, final int offset) {
+        int length = text.length();
+        return length > offset + 2 && text.charAt(offset) == '[' && text.charAt(length - 1) == ']'
+                && regionIds.contains(text.substring(offset + 1, length - 1));
+    }
+
+    /**
+     * Gets the seconds of a checked time, which are zero when the text has no seconds
+     *
+     * @param text the date time in textual format
+     * @return the seconds
+     * @since 2.3.0
+     */
+    private static int second(final String text) {
+        return text.length() > 16 && text.charAt(16) == ':' ? digits(text, 17, 2) : 0;
+    }
+
+    /**
+     * Gets the nanoseconds of a checked time from its fraction, which are zero when the text has no fraction
+     *
+     * @param text    the date time in textual format
+     * @param timeEnd the position after the time
+     * @return the nanoseconds
+     * @since 2.3.0
+     */
+    private static int nano(final String text, final int timeEnd) {
+        if (timeEnd <= 20) {
+            return 0;
+        }
+        int nano = digits(text, 20, timeEnd - 20);
+        for (int i = timeEnd - 20; i < 9; i++) {
+            nano *= 10;
+        }
+        return nano;
+    }
+
+    /**
+     * Gets the number of days in a month of the proleptic Gregorian calendar
+     *
+     * @param year  the year
+     * @param month the month from 1 to 12
+     * @return the number of days in the month
+     * @since 2.3.0
+     */
+    private static int lengthOfMonth(final int year, final int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Checks that a range of the text holds ASCII digits only
+     *
+     * @param text   the text to be checked
+     * @param offset the position of the first digit
+     * @param count  the number of digits
+     * @return the boolean flag to indicate that the range holds digits only
+     * @since 2.3.0
+     */
+    private static boolean isDigits(final String text, final int offset, final int count) {
+        if (offset + count > text.length()) {
+            return false;
+        }
+        for (int i = offset; i < offset + count; i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the epoch day of a valid date, the algorithm of LocalDate.toEpochDay
+     *
+     * @param year       the year
+     * @param month      the month from 1 to 12
+     * @param dayOfMonth the day of the month
+     * @return the number of days from 1970-01-01
+     * @since 2.3.0
+     */
+    private static long toEpochDay(final long year, final int month, final int dayOfMonth) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += dayOfMonth - 1;
+        if (month > 2) {
+            total--;
+            if (lengthOfMonth((int) year, 2) == 28) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Checks that a character is an ASCII digit, the only digits the ISO formatters accept
+     *
+     * @param character the character to be checked
+     * @return the boolean flag to indicate an ASCII digit
+     * @since 2.3.0
+     */
+    private static boolean isDigit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    /**
+     * Reads a checked range of ASCII digits as a number
+     *
+     * @param text   the text to be read
+     * @param offset the position of the first digit
+     * @param count  the number of digits
+     * @return the number
+     * @since 2.3.0
+     */
+    private static int digits(final String text, final int offset, final int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+}
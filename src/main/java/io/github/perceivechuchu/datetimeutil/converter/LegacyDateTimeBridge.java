@@ -0,0 +1,298 @@
+package io.github.perceivechuchu.datetimeutil.converter;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.DstGapPolicy;
+import io.github.perceivechuchu.datetimeutil.constant.DstOverlapPolicy;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneOffsetTable;
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneRegistry;
+
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * This class is a bridge between epoch millis and the legacy java.util.Date, java.util.Calendar and java.sql.Timestamp types. The conversions go straight from
+ * epoch millis and a time zone id to a Calendar in that time zone, without ZonedDateTime or Instant in between. New calendars come from Calendar.getInstance,
+ * so the calendar system of the default locale is kept.
+ * A caller-supplied Calendar can be filled in instead of allocating a new one, which keeps its TimeZone object while the time zone id is the same.
+ * Timestamps are set from epoch millis and nanos computed arithmetically in an explicit time zone, rather than from calendar fields in the JVM default time zone.
+ * Local date times are resolved like LocalDateTime.atZone: a time in a daylight saving gap is shifted forward and a time in an overlap takes the earlier offset.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class LegacyDateTimeBridge {
+
+    /**
+     * The largest epoch second, in either direction, whose millis can be looked up in an offset table without overflowing
+     *
+     * @since 2.3.0
+     */
+    private static final long MAXIMUM_TABLE_EPOCH_SECOND = Long.MAX_VALUE / 1000L - 86400L;
+
+    private LegacyDateTimeBridge() {
+    }
+
+    /**
+     * Converts epoch millis to a Calendar of the default locale in a time zone
+     *
+     * @param epochMillis the instant in epoch millis
+     * @param timeZoneId  the time zone id of the calendar e.g. "Africa/Johannesburg"
+     * @return the new calendar set to the instant in the supplied time zone
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the time zone id is not valid
+     * @since 2.3.0
+     */
+    public static Calendar toCalendar(final long epochMillis, final String timeZoneId) {
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        Calendar calendar = Calendar.getInstance(copyTimeZone(timeZoneId));
+        calendar.setTimeInMillis(epochMillis);
+        return calendar;
+    }
+
+    /**
+     * Converts a local date time in a time zone to a Calendar in that time zone
+     *
+     * @param localDateTime the local date time to be converted
+     * @param timeZoneId    the time zone id of the local date time and the calendar e.g. "Africa/Johannesburg"
+     * @return the new calendar set to the local date time in the supplied time zone
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the time zone id is not valid or the date conversion fails
+     * @since 2.3.0
+     */
+    public static Calendar toCalendar(final LocalDateTime localDateTime, final String timeZoneId) {
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        return toCalendar(toEpochMillis(localDateTime, timeZoneId), timeZoneId);
+    }
+
+    /**
+     * Fills in a caller-supplied Calendar with epoch millis in a time zone. The time zone of the calendar is only replaced when its id differs
+     *
+     * @param epochMillis the instant in epoch millis
+     * @param timeZoneId  the time zone id of the calendar e.g. "Africa/Johannesburg"
+     * @param target      the calendar to be filled in, it can be reused across calls
+     * @return the supplied calendar
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the time zone id is not valid
+     * @since 2.3.0
+     */
+    public static Calendar fillCalendar(final long epochMillis, final String timeZoneId, final Calendar target) {
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(target, ErrorMessages.TARGET_NULL);
+        TimeZone timeZone = target.getTimeZone();
+        // Setting the zone it returned keeps the calendar from copying a shared default zone on every call
+        target.setTimeZone(timeZone.getID().equals(timeZoneId) ? timeZone : copyTimeZone(timeZoneId));
+        target.setTimeInMillis(epochMillis);
+        return target;
+    }
+
+    /**
+     * Fills in a caller-supplied Calendar with a local date time in a time zone. The time zone of the calendar is only replaced when its id differs
+     *
+     * @param localDateTime the local date time to be converted
+     * @param timeZoneId    the time zone id of the local date time and the calendar e.g. "Africa/Johannesburg"
+     * @param target        the calendar to be filled in, it can be reused across calls
+     * @return the supplied calendar
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the time zone id is not valid or the date conversion fails
+     * @since 2.3.0
+     */
+    public static Calendar fillCalendar(final LocalDateTime localDateTime, final String timeZoneId, final Calendar target) {
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(target, ErrorMessages.TARGET_NULL);
+        return fillCalendar(toEpochMillis(localDateTime, timeZoneId), timeZoneId, target);
+    }
+
+    /**
+     * Converts a local date time in a time zone to a Date
+     *
+     * @param localDateTime the local date time to be converted
+     * @param timeZoneId    the time zone id of the local date time e.g. "Africa/Johannesburg"
+     * @return the new date at the instant of the local date time in the supplied time zone
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the time zone id is not valid or the date conversion fails
+     * @since 2.3.0
+     */
+    public static Date toDate(final LocalDateTime localDateTime, final String timeZoneId) {
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        return new Date(toEpochMillis(localDateTime, timeZoneId));
+    }
+
+    /**
+     * Converts a local date time in a time zone to a Timestamp, keeping the nanos of the local date time
+     *
+     * @param localDateTime the local date time to be converted
+     * @param timeZoneId    the time zone id of the local date time e.g. "Africa/Johannesburg"
+     * @return the new timestamp at the instant of the local date time in the supplied time zone
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the time zone id is not valid or the date conversion fails
+     * @since 2.3.0
+     */
+    public static Timestamp toTimestamp(final LocalDateTime localDateTime, final String timeZoneId) {
+        return fillTimestamp(localDateTime, timeZoneId, new Timestamp(0L));
+    }
+
+    /**
+     * Fills in a caller-supplied Timestamp with a local date time in a time zone, keeping the nanos of the local date time
+     *
+     * @param localDateTime the local date time to be converted
+     * @param timeZoneId    the time zone id of the local date time e.g. "Africa/Johannesburg"
+     * @param target        the timestamp to be filled in, it can be reused across calls
+     * @return the supplied timestamp
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the time zone id is not valid or the date conversion fails
+     * @since 2.3.0
+     */
+    public static Timestamp fillTimestamp(final LocalDateTime localDateTime, final String timeZoneId, final Timestamp target) {
+        ValidationUtil.rejectEmpty(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        ValidationUtil.rejectEmpty(target, ErrorMessages.TARGET_NULL);
+        return fillTimestamp(localDateTime, getZoneOffsetTable(timeZoneId), target);
+    }
+
+    /**
+     * Converts a Timestamp to the local date time it shows in a time zone, keeping the nanos of the timestamp
+     *
+     * @param timestamp  the timestamp to be converted
+     * @param timeZoneId the time zone id of the local date time e.g. "Africa/Johannesburg"
+     * @return the local date time of the timestamp in the supplied time zone
+     * @throws IllegalArgumentException    if parameter is not valid
+     * @throws DateTimeConversionException if the time zone id is not valid or the date conversion fails
+     * @since 2.3.0
+     */
+    public static LocalDateTime toLocalDateTime(final Timestamp timestamp, final String timeZoneId) {
+        ValidationUtil.rejectEmpty(timestamp, ErrorMessages.TIMESTAMP_NULL);
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        return toLocalDateTime(timestamp, getZoneOffsetTable(timeZoneId));
+    }
+
+    /**
+     * Converts a Calendar to a ZonedDateTime in the time zone of the calendar
+     *
+     * @param calendar the calendar to be converted
+     * @return the zoned date time at the instant of the calendar
+     * @throws IllegalArgumentException if parameter is not valid
+     * @since 2.3.0
+     */
+    public static ZonedDateTime toZonedDateTime(final Calendar calendar) {
+        ValidationUtil.rejectEmpty(calendar, ErrorMessages.CALENDAR_NULL);
+        TimeZone timeZone = calendar.getTimeZone();
+        String timeZoneId = timeZone.getID();
+        ZoneId zoneId = ZoneRegistry.isResolvable(timeZoneId) ? ZoneRegistry.getZoneId(timeZoneId) : timeZone.toZoneId();
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(calendar.getTimeInMillis()), zoneId);
+    }
+
+    /**
+     * Converts a local date time in a time zone to epoch millis through the offset table of the time zone
+     *
+     * @param localDateTime the local date time to be converted
+     * @param timeZoneId    the time zone id of the local date time
+     * @return the instant in epoch millis
+     * @throws DateTimeConversionException if the time zone id is not valid or the date conversion fails
+     * @since 2.3.0
+     */
+    static long toEpochMillis(final LocalDateTime localDateTime, final String timeZoneId) {
+        return toEpochMillis(localDateTime, getZoneOffsetTable(timeZoneId));
+    }
+
+    /**
+     * Converts a local date time to epoch millis through an offset table, falling back to the zone rules when the millis would overflow
+     *
+     * @param localDateTime the local date time to be converted
+     * @param offsetTable   the offset table of the time zone of the local date time
+     * @return the instant in epoch millis
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    static long toEpochMillis(final LocalDateTime localDateTime, final ZoneOffsetTable offsetTable) {
+        try {
+            long localSecond = localDateTime.toEpochSecond(ZoneOffset.UTC);
+            if (Math.abs(localSecond) > MAXIMUM_TABLE_EPOCH_SECOND) {
+                // The offset before a gap and the earlier offset of an overlap give the same instant as LocalDateTime.atZone
+                return localDateTime.toInstant(offsetTable.getZoneRules().getOffset(localDateTime)).toEpochMilli();
+            }
+            long localMillis = localSecond * 1000L + localDateTime.getNano() / 1_000_000;
+            return offsetTable.toEpochMillis(localMillis, DstGapPolicy.SHIFT_FORWARD, DstOverlapPolicy.EARLIER_OFFSET);
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Fills in a timestamp with a local date time through the offset table of its time zone
+     *
+     * @param localDateTime the local date time to be converted
+     * @param offsetTable   the offset table of the time zone of the local date time
+     * @param target        the timestamp to be filled in
+     * @return the supplied timestamp
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    static Timestamp fillTimestamp(final LocalDateTime localDateTime, final ZoneOffsetTable offsetTable, final Timestamp target) {
+        target.setTime(toEpochMillis(localDateTime, offsetTable));
+        target.setNanos(localDateTime.getNano());
+        return target;
+    }
+
+    /**
+     * Converts a timestamp to a local date time through the offset table of a time zone
+     *
+     * @param timestamp   the timestamp to be converted
+     * @param offsetTable the offset table of the time zone of the local date time
+     * @return the local date time of the timestamp in the time zone
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    static LocalDateTime toLocalDateTime(final Timestamp timestamp, final ZoneOffsetTable offsetTable) {
+        try {
+            long localMillis = offsetTable.toLocalMillis(timestamp.getTime());
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L), timestamp.getNanos(), ZoneOffset.UTC);
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the offset table of a time zone
+     *
+     * @param timeZoneId the time zone id
+     * @return the offset table of the time zone
+     * @throws DateTimeConversionException if the time zone id is not valid
+     * @since 2.3.0
+     */
+    static ZoneOffsetTable getZoneOffsetTable(final String timeZoneId) {
+        try {
+            return ZoneRegistry.getZoneOffsetTable(timeZoneId);
+        } catch (DateTimeException e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Gets a copy of the time zone for an id to be handed to a calendar
+     *
+     * @param timeZoneId the time zone id
+     * @return the new copy of the time zone
+     * @throws DateTimeConversionException if the time zone id is not valid
+     * @since 2.3.0
+     */
+    private static TimeZone copyTimeZone(final String timeZoneId) {
+        try {
+            return ZoneRegistry.copyTimeZone(timeZoneId);
+        } catch (Exception e) {
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+}
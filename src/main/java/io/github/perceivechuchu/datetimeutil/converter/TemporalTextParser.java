@@ -0,0 +1,110 @@
+package io.github.perceivechuchu.datetimeutil.converter;
+
+import io.github.perceivechuchu.datetimeutil.constant.ConversionErrorCode;
+import io.github.perceivechuchu.datetimeutil.model.ConversionResult;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+
+/**
+ * This class parses text with a DateTimeFormatter and reports failures through a ConversionResult instead of an exception.
+ * The text is first parsed without resolving, which reports malformed input through a ParsePosition, and the parsed field
+ * values are then range-checked the way the formatter's resolver would, before the text is resolved into the requested type.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+final class TemporalTextParser {
+
+    /**
+     * The chrono fields whose parsed values are range-checked before resolving
+     *
+     * @since 2.3.0
+     */
+    private static final ChronoField[] CHRONO_FIELDS = ChronoField.values();
+
+    private TemporalTextParser() {
+    }
+
+    /**
+     * Parses the text into the type produced by the query
+     *
+     * @param text      the text to be parsed
+     * @param formatter the formatter that holds the format of the text
+     * @param query     the query that resolves the parsed text e.g. LocalDate::from
+     * @param result    the result to be filled in when the text cannot be parsed
+     * @param <T>       the type of the parsed value
+     * @return the parsed value, or null when the text cannot be parsed, in which case the result holds the error
+     * @since 2.3.0
+     */
+    static <T> T parse(final String text, final DateTimeFormatter formatter, final TemporalQuery<T> query, final ConversionResult<?> result) {
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor unresolved = formatter.parseUnresolved(text, position);
+        if (unresolved == null) {
+            result.failure(ConversionErrorCode.UNPARSEABLE_TEXT, position.getErrorIndex());
+            return null;
+        }
+        if (position.getIndex() < text.length()) {
+            result.failure(ConversionErrorCode.UNPARSEABLE_TEXT, position.getIndex());
+            return null;
+        }
+        if (!hasValidFieldValues(unresolved, formatter.getResolverStyle())) {
+            result.failure(ConversionErrorCode.INVALID_FIELD_VALUE, -1);
+            return null;
+        }
+        try {
+            return formatter.parse(text, query);
+        } catch (DateTimeException e) {
+            // Cross-field conflicts, e.g. a day-of-week that does not match the date, are only detected by the resolver
+            result.failure(ConversionErrorCode.INVALID_FIELD_VALUE, -1);
+            return null;
+        }
+    }
+
+    /**
+     * Checks the parsed field values against the ranges enforced by the resolver style
+     *
+     * @param unresolved    the parsed but unresolved field values
+     * @param resolverStyle the resolver style of the formatter
+     * @return the boolean flag to indicate that no field value is out of range
+     * @since 2.3.0
+     */
+    private static boolean hasValidFieldValues(final TemporalAccessor unresolved, final ResolverStyle resolverStyle) {
+        if (resolverStyle == ResolverStyle.LENIENT) {
+            return true;
+        }
+        for (ChronoField field : CHRONO_FIELDS) {
+            if (unresolved.isSupported(field)) {
+                long value = unresolved.getLong(field);
+                boolean smartEndOfDay = resolverStyle == ResolverStyle.SMART && field == ChronoField.HOUR_OF_DAY && value == 24;
+                if (!smartEndOfDay && !field.range().isValidValue(value)) {
+                    return false;
+                }
+            }
+        }
+        return resolverStyle != ResolverStyle.STRICT || isValidDayOfMonth(unresolved);
+    }
+
+    /**
+     * Checks that a strictly resolved day-of-month exists in its month and year
+     *
+     * @param unresolved the parsed but unresolved field values
+     * @return the boolean flag to indicate that the day-of-month is valid or cannot be checked
+     * @since 2.3.0
+     */
+    private static boolean isValidDayOfMonth(final TemporalAccessor unresolved) {
+        if (!unresolved.isSupported(ChronoField.DAY_OF_MONTH) || !unresolved.isSupported(ChronoField.MONTH_OF_YEAR) || !unresolved.isSupported(ChronoField.YEAR)) {
+            return true;
+        }
+        int dayOfMonth = (int) unresolved.getLong(ChronoField.DAY_OF_MONTH);
+        Month month = Month.of((int) unresolved.getLong(ChronoField.MONTH_OF_YEAR));
+        return dayOfMonth <= month.length(Year.isLeap(unresolved.getLong(ChronoField.YEAR)));
+    }
+}
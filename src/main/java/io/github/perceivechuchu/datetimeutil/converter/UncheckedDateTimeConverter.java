@@ -0,0 +1,252 @@
+package io.github.perceivechuchu.datetimeutil.converter;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.constant.MetricOperation;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import io.github.perceivechuchu.datetimeutil.metrics.DateTimeMetrics;
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneRegistry;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * This class is the fast path of the most frequently called conversions of DateTimeConverter, for callers that have already validated their input.
+ * The arguments are not checked for blank text: the objects to be converted and the formatters are only checked for null, which does not allocate,
+ * and blank text or time zone ids fail like any other invalid value. The conversions and the metrics are the same as those of DateTimeConverter,
+ * which validates its arguments and then calls this class.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class UncheckedDateTimeConverter {
+
+    private UncheckedDateTimeConverter() {
+    }
+
+    /**
+     * Converts a LocalDateTime object to UTC ZonedDateTime in textual format using default date time formatter (yyyy-MM-dd'T'HH:mm:ss.SSSXXX)
+     *
+     * @param localDateTime   the local date time to be converted
+     * @param localTimeZoneId the local time zone id for the supplied date time e.g. "Africa/Johannesburg"
+     * @return the zoned date time in textual format obtained from the conversion e.g. "2023-11-10T10:00:00.254Z"
+     * @throws NullPointerException     if the local date time is null
+     * @throws IllegalArgumentException if the time zone id is null or blank
+     * @throws DateTimeException        if the time zone id is not valid
+     * @since 2.3.0
+     */
+    public static String convertToUTCZonedDateTimeText(final LocalDateTime localDateTime, final String localTimeZoneId) {
+        Objects.requireNonNull(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.FORMAT, startTime, DateTimeConverter.formatUTCZonedDateTimeText(localDateTime, ZoneRegistry.getZoneOffsetTable(localTimeZoneId)));
+        } catch (RuntimeException e) {
+            DateTimeMetrics.recordFailure(MetricOperation.FORMAT, startTime);
+            throw e;
+        }
+    }
+
+    /**
+     * Converts a LocalDateTime object to a UTC ZonedDateTime object
+     *
+     * @param localDateTime   the local date time to be converted
+     * @param localTimeZoneId the local time zone id for the supplied date time e.g. "Africa/Johannesburg"
+     * @return the zoned date time object obtained from the conversion
+     * @throws NullPointerException        if the local date time is null
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public static ZonedDateTime convertToUTCZonedDateTime(final LocalDateTime localDateTime, final String localTimeZoneId) {
+        Objects.requireNonNull(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_ZONE, startTime, localDateTime.atZone(ZoneRegistry.getZoneId(localTimeZoneId)));
+        } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_ZONE, startTime);
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts a LocalDateTime object to a ZonedDateTime object
+     *
+     * @param localDateTime    the local date time to be converted
+     * @param localTimeZoneId  the local time zone id for the supplied date time e.g. "Africa/Johannesburg"
+     * @param targetTimeZoneId the target time zone id to be applied to the resulting zoned date time e.g. "US/Pacific"
+     * @return the zoned date time object obtained from the conversion
+     * @throws NullPointerException        if the local date time is null
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public static ZonedDateTime convertToZonedDateTime(final LocalDateTime localDateTime, final String localTimeZoneId, final String targetTimeZoneId) {
+        Objects.requireNonNull(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_ZONE, startTime, localDateTime.atZone(ZoneRegistry.getZoneId(localTimeZoneId)).withZoneSameInstant(ZoneRegistry.getZoneId(targetTimeZoneId)));
+        } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_ZONE, startTime);
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts a UTC ZonedDateTime object (Zulu time) to LocalDateTime in textual format
+     *
+     * @param zonedDateTimeText the zoned date time in textual format to be converted e.g. "2023-11-10T10:00:00.254Z"
+     * @param localZoneId       the local time zone id for the supplied zoned date time e.g. "Africa/Johannesburg"
+     * @return the local date time object obtained from the conversion
+     * @throws NullPointerException        if the zoned date time text is null
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public static LocalDateTime convertToLocalDateTimeWithZone(final String zonedDateTimeText, final String localZoneId) {
+        Objects.requireNonNull(zonedDateTimeText, ErrorMessages.ZONED_DATE_TIME_TEXT_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            LocalDateTime localDateTime = ZoneRegistry.isResolvable(localZoneId)
+                    ? IsoTextParser.parseZonedDateTimeToLocalDateTime(zonedDateTimeText, ZoneRegistry.getZoneOffsetTable(localZoneId)) : null;
+            if (localDateTime != null) {
+                return DateTimeMetrics.recordSuccess(MetricOperation.PARSE_ZONED_DATE_TIME, startTime, localDateTime);
+            }
+            ZonedDateTime zonedDateTime = ZonedDateTime.parse(zonedDateTimeText).withZoneSameInstant(ZoneRegistry.getZoneId(localZoneId));
+            return DateTimeMetrics.recordSuccess(MetricOperation.PARSE_ZONED_DATE_TIME, startTime, zonedDateTime.toLocalDateTime());
+        } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.PARSE_ZONED_DATE_TIME, startTime);
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts LocalDate in textual format with default date formatter (DateTimeFormatter.ISO_LOCAL_DATE) to a LocalDate object
+     *
+     * @param localDateText the local date in textual format to be converted e.g. "2023-12-05"
+     * @return the local date obtained from the conversion
+     * @throws NullPointerException        if the local date text is null
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public static LocalDate convertToLocalDate(final String localDateText) {
+        Objects.requireNonNull(localDateText, ErrorMessages.LOCAL_DATE_TEXT_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            LocalDate localDate = IsoTextParser.parseLocalDate(localDateText);
+            return DateTimeMetrics.recordSuccess(MetricOperation.PARSE_LOCAL_DATE, startTime, localDate != null ? localDate : LocalDate.parse(localDateText));
+        } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.PARSE_LOCAL_DATE, startTime);
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts LocalDate in textual format with supplied date formatter to a LocalDate object
+     *
+     * @param localDateText the local date in textual format to be converted e.g. "2023-12-05"
+     * @param formatter     the formatter that holds the format pattern for the supplied local date
+     * @return the local date obtained from the conversion
+     * @throws NullPointerException        if the local date text or the formatter is null
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public static LocalDate convertToLocalDate(final String localDateText, final DateTimeFormatter formatter) {
+        Objects.requireNonNull(localDateText, ErrorMessages.LOCAL_DATE_TEXT_EMPTY);
+        Objects.requireNonNull(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.PARSE_LOCAL_DATE, startTime, LocalDate.parse(localDateText, formatter));
+        } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.PARSE_LOCAL_DATE, startTime);
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts LocalDateTime in textual format with default date formatter (DateTimeFormatter.ISO_LOCAL_DATE_TIME) to a LocalDateTime object
+     *
+     * @param localDateTimeText the local date time in textual format to be converted e.g. "2023-12-08T16:02:10"
+     * @return the local date time obtained from the conversion
+     * @throws NullPointerException        if the local date time text is null
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public static LocalDateTime convertToLocalDateTime(final String localDateTimeText) {
+        Objects.requireNonNull(localDateTimeText, ErrorMessages.LOCAL_DATE_TIME_TEXT_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            LocalDateTime localDateTime = IsoTextParser.parseLocalDateTime(localDateTimeText);
+            return DateTimeMetrics.recordSuccess(MetricOperation.PARSE_LOCAL_DATE_TIME, startTime, localDateTime != null ? localDateTime : LocalDateTime.parse(localDateTimeText));
+        } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.PARSE_LOCAL_DATE_TIME, startTime);
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts LocalDateTime in textual format with supplied date formatter to a LocalDateTime object
+     *
+     * @param localDateTimeText the local date time in textual format to be converted e.g. "18/11/2023T16:02:10"
+     * @param formatter         the formatter that holds the format pattern for the supplied local date time
+     * @return the local date time obtained from the conversion
+     * @throws NullPointerException        if the local date time text or the formatter is null
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public static LocalDateTime convertToLocalDateTime(final String localDateTimeText, final DateTimeFormatter formatter) {
+        Objects.requireNonNull(localDateTimeText, ErrorMessages.LOCAL_DATE_TIME_TEXT_EMPTY);
+        Objects.requireNonNull(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.PARSE_LOCAL_DATE_TIME, startTime, LocalDateTime.parse(localDateTimeText, formatter));
+        } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.PARSE_LOCAL_DATE_TIME, startTime);
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts an Epoch time value in milliseconds with supplied zone id to a LocalDateTime object
+     *
+     * @param epochMillis      the epoch time value to be converted, in milliseconds
+     * @param targetTimeZoneId the target time zone id to be applied to the resulting date time e.g. "Africa/Johannesburg"
+     * @return the local date time obtained from the conversion
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public static LocalDateTime convertEpochMillisToLocalDateTime(final long epochMillis, final String targetTimeZoneId) {
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            return DateTimeMetrics.recordSuccess(MetricOperation.CONVERT_ZONE, startTime, LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneRegistry.getZoneId(targetTimeZoneId)));
+        } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_ZONE, startTime);
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts a LocalDateTime object to Epoch time value in milliseconds
+     *
+     * @param localDateTime the local date time to be converted
+     * @param timeZoneId    the time zone id to be used in the conversion e.g. "Africa/Johannesburg"
+     * @return the epoch millis time value obtained from the conversion
+     * @throws NullPointerException        if the local date time is null
+     * @throws DateTimeConversionException if the date conversion fails
+     * @since 2.3.0
+     */
+    public static long convertLocalDateTimeToEpochMillis(final LocalDateTime localDateTime, final String timeZoneId) {
+        Objects.requireNonNull(localDateTime, ErrorMessages.LOCAL_DATE_TIME_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        try {
+            ZoneOffset offset = ZoneRegistry.getZoneRules(timeZoneId).getOffset(localDateTime);
+            long epochMillis = Math.addExact(Math.multiplyExact(localDateTime.toEpochSecond(offset), 1000L), localDateTime.getNano() / 1_000_000);
+            DateTimeMetrics.recordOutcome(MetricOperation.CONVERT_ZONE, startTime, true);
+            return epochMillis;
+        } catch (Exception e) {
+            DateTimeMetrics.recordFailure(MetricOperation.CONVERT_ZONE, startTime);
+            throw new DateTimeConversionException(e.getMessage());
+        }
+    }
+}
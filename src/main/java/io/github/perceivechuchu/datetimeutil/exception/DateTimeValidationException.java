@@ -36,4 +36,16 @@ public class DateTimeValidationException extends RuntimeException {
         this.message = message;
     }
 
+    /**
+     * the constructor that instantiates an instance of DateTimeValidationException with the exception that caused it
+     *
+     * @param message the message that is returned when the exception is thrown
+     * @param cause   the exception that caused the validation to fail
+     * @since 2.3.0
+     */
+    public DateTimeValidationException(String message, Throwable cause) {
+        super(message, cause);
+        this.message = message;
+    }
+
 }
@@ -0,0 +1,106 @@
+package io.github.perceivechuchu.datetimeutil.flow;
+
+/**
+ * This class holds the interfaces of the reactive conversion flow. They have the same methods and contract as the interfaces nested in
+ * java.util.concurrent.Flow, which only exists from Java 9, so that the library keeps running on Java 8 while a Flow publisher or
+ * subscriber can be adapted by a thin wrapper that delegates each method.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class ConversionFlow {
+
+    private ConversionFlow() {
+    }
+
+    /**
+     * A producer of elements that are received by subscribers according to their demand
+     *
+     * @param <T> the type of the published elements
+     * @since 2.3.0
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+
+        /**
+         * Adds a subscriber, which receives onSubscribe followed by elements up to its demand and then onComplete or onError
+         *
+         * @param subscriber the subscriber to be added
+         * @since 2.3.0
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of elements that signals its demand through its subscription
+     *
+     * @param <T> the type of the received elements
+     * @since 2.3.0
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Invoked once before any other method with the subscription that elements are requested through
+         *
+         * @param subscription the subscription of the subscriber
+         * @since 2.3.0
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Invoked with the next element, never more often than the elements requested
+         *
+         * @param item the element
+         * @since 2.3.0
+         */
+        void onNext(T item);
+
+        /**
+         * Invoked when the publisher or subscription fails, after which no further method is invoked
+         *
+         * @param throwable the failure
+         * @since 2.3.0
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Invoked when all the elements have been received, after which no further method is invoked
+         *
+         * @since 2.3.0
+         */
+        void onComplete();
+    }
+
+    /**
+     * The link between a publisher and a subscriber
+     *
+     * @since 2.3.0
+     */
+    public interface Subscription {
+
+        /**
+         * Adds a number of elements to the demand of the subscriber
+         *
+         * @param n the number of elements, must be greater than zero or the subscriber receives onError
+         * @since 2.3.0
+         */
+        void request(long n);
+
+        /**
+         * Stops the delivery of elements to the subscriber, possibly after a few elements that were already on their way
+         *
+         * @since 2.3.0
+         */
+        void cancel();
+    }
+
+    /**
+     * A component that is both a subscriber and a publisher, transforming the elements it receives
+     *
+     * @param <T> the type of the received elements
+     * @param <R> the type of the published elements
+     * @since 2.3.0
+     */
+    public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {
+    }
+}
@@ -0,0 +1,581 @@
+package io.github.perceivechuchu.datetimeutil.flow;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * This class is a processor that applies a conversion or validation to each element of a stream, honouring the demand of its single
+ * subscriber. The demand of the subscriber is forwarded upstream, so no more elements are buffered than were requested. Received elements
+ * are converted in micro-batches on the supplied executor, one batch per task, and the conversion is expected to have resolved its zones and
+ * formatters once e.g. ConversionProcessor.builder(profile::convertToText) with a ConversionProfile. When the executor rejects a task the
+ * batch is converted on the calling thread.
+ *
+ * @param <T> the type of the received elements
+ * @param <R> the type of the converted elements
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class ConversionProcessor<T, R> implements ConversionFlow.Processor<T, R> {
+
+    /**
+     * The default maximum number of elements converted by one executor task
+     *
+     * @since 2.3.0
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * The factory method of the virtual thread executor, null when the Java runtime does not have virtual threads
+     *
+     * @since 2.3.0
+     */
+    private static final Method VIRTUAL_THREAD_EXECUTOR_FACTORY = findVirtualThreadExecutorFactory();
+
+    /**
+     * The subscription given to a subscriber that is rejected
+     *
+     * @since 2.3.0
+     */
+    private static final ConversionFlow.Subscription REJECTED_SUBSCRIPTION = new ConversionFlow.Subscription() {
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private final Function<? super T, ? extends R> conversion;
+
+    private final Executor executor;
+
+    private final int batchSize;
+
+    /**
+     * The received elements that have not been converted yet
+     *
+     * @since 2.3.0
+     */
+    private final Queue<T> items = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The demand of the subscriber that has not been met yet
+     *
+     * @since 2.3.0
+     */
+    private final AtomicLong requested = new AtomicLong();
+
+    /**
+     * The demand of the subscriber that has not been forwarded upstream yet
+     *
+     * @since 2.3.0
+     */
+    private final AtomicLong upstreamDemand = new AtomicLong();
+
+    /**
+     * The number of drain requests, the drain loop only runs on the thread that moves it away from zero
+     *
+     * @since 2.3.0
+     */
+    private final AtomicInteger drainCount = new AtomicInteger();
+
+    private final AtomicReference<ConversionFlow.Subscription> upstream = new AtomicReference<>();
+
+    private final AtomicReference<ConversionFlow.Subscriber<? super R>> downstream = new AtomicReference<>();
+
+    /**
+     * The elements of the batch being converted, only accessed by the drain loop
+     *
+     * @since 2.3.0
+     */
+    private final Object[] batch;
+
+    /**
+     * The converted elements of the batch, only accessed by the drain loop
+     *
+     * @since 2.3.0
+     */
+    private final Object[] convertedBatch;
+
+    /**
+     * The subscriber, set once its onSubscribe method has returned so that no element is delivered before
+     *
+     * @since 2.3.0
+     */
+    private volatile ConversionFlow.Subscriber<? super R> subscriber;
+
+    private volatile boolean done;
+
+    private volatile Throwable error;
+
+    private volatile boolean cancelled;
+
+    /**
+     * Whether onComplete or onError has been delivered to the subscriber, only accessed by the drain loop
+     *
+     * @since 2.3.0
+     */
+    private boolean terminated;
+
+    private ConversionProcessor(final Builder<T, R> builder) {
+        this.conversion = builder.conversion;
+        this.executor = builder.executor;
+        this.batchSize = builder.batchSize;
+        this.batch = new Object[batchSize];
+        this.convertedBatch = new Object[batchSize];
+    }
+
+    /**
+     * Creates a builder for a processor that applies the supplied conversion to each element. Without further settings the processor runs on
+     * the common ForkJoinPool with batches of 256 elements
+     *
+     * @param conversion the conversion or validation to be applied to each element e.g. profile::convertToText or DateTimeValidator::isValid
+     * @param <T>        the type of the received elements
+     * @param <R>        the type of the converted elements
+     * @return the new builder
+     * @throws IllegalArgumentException if parameter is not valid
+     * @since 2.3.0
+     */
+    public static <T, R> Builder<T, R> builder(final Function<? super T, ? extends R> conversion) {
+        ValidationUtil.rejectEmpty(conversion, ErrorMessages.CONVERSION_NULL);
+        return new Builder<>(conversion);
+    }
+
+    /**
+     * Checks whether the Java runtime has virtual threads, which are available from Java 21
+     *
+     * @return true if newVirtualThreadExecutor can be used, false otherwise
+     * @since 2.3.0
+     */
+    public static boolean isVirtualThreadExecutorSupported() {
+        return VIRTUAL_THREAD_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task, which the caller is expected to shut down
+     *
+     * @return the new virtual thread executor
+     * @throws UnsupportedOperationException if the Java runtime does not have virtual threads
+     * @since 2.3.0
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR_FACTORY == null) {
+            throw new UnsupportedOperationException(ErrorMessages.VIRTUAL_THREADS_UNSUPPORTED);
+        }
+        try {
+            return (ExecutorService) VIRTUAL_THREAD_EXECUTOR_FACTORY.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException(ErrorMessages.VIRTUAL_THREADS_UNSUPPORTED, e);
+        }
+    }
+
+    @Override
+    public void subscribe(final ConversionFlow.Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber, ErrorMessages.SUBSCRIBER_NULL);
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(REJECTED_SUBSCRIPTION);
+            subscriber.onError(new IllegalStateException(ErrorMessages.SUBSCRIBER_ALREADY_PRESENT));
+            return;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        this.subscriber = subscriber;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(final ConversionFlow.Subscription subscription) {
+        Objects.requireNonNull(subscription, ErrorMessages.SUBSCRIPTION_NULL);
+        if (!upstream.compareAndSet(null, subscription) || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        requestUpstream();
+    }
+
+    @Override
+    public void onNext(final T item) {
+        Objects.requireNonNull(item, ErrorMessages.ITEM_NULL);
+        if (done) {
+            return;
+        }
+        items.offer(item);
+        drain();
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        Objects.requireNonNull(throwable, ErrorMessages.THROWABLE_NULL);
+        if (done) {
+            return;
+        }
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    /**
+     * Gets the maximum number of elements converted by one executor task
+     *
+     * @return the batch size
+     * @since 2.3.0
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Forwards the demand of the subscriber that has not been forwarded yet to the upstream subscription
+     *
+     * @since 2.3.0
+     */
+    private void requestUpstream() {
+        ConversionFlow.Subscription subscription = upstream.get();
+        if (subscription == null || cancelled) {
+            return;
+        }
+        long n = upstreamDemand.getAndSet(0);
+        if (n > 0) {
+            subscription.request(n);
+        }
+    }
+
+    /**
+     * Cancels the upstream subscription if there is one
+     *
+     * @since 2.3.0
+     */
+    private void cancelUpstream() {
+        ConversionFlow.Subscription subscription = upstream.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Schedules the drain loop on the executor unless it is already scheduled or running, in which case that loop runs once more
+     *
+     * @since 2.3.0
+     */
+    private void drain() {
+        if (drainCount.getAndIncrement() != 0) {
+            return;
+        }
+        try {
+            executor.execute(this::drainLoop);
+        } catch (RejectedExecutionException e) {
+            drainLoop();
+        }
+    }
+
+    /**
+     * Delivers converted elements and the terminal signal to the subscriber until there is no demand or no element left. After each batch the
+     * loop is handed to a new executor task, so that a fast upstream does not hold on to one thread of the executor
+     *
+     * @since 2.3.0
+     */
+    private void drainLoop() {
+        int missed = 1;
+        while (true) {
+            ConversionFlow.Subscriber<? super R> current = subscriber;
+            if (terminated || cancelled) {
+                items.clear();
+            } else if (current != null && emit(current)) {
+                if (resubmit()) {
+                    return;
+                }
+                continue;
+            }
+            missed = drainCount.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Hands the drain loop to a new executor task, which keeps the drain count so that no other loop starts in between
+     *
+     * @return true if the task runs the loop, false if the executor rejected the task or ran it on the calling thread, which then goes on
+     * @since 2.3.0
+     */
+    private boolean resubmit() {
+        DrainTask task = new DrainTask();
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+        return task.handOff();
+    }
+
+    /**
+     * Converts and delivers a batch of elements within the demand of the subscriber, or the terminal signal when no element is left
+     *
+     * @param current the subscriber
+     * @return true if a batch was delivered, so that more elements may be waiting
+     * @since 2.3.0
+     */
+    @SuppressWarnings("unchecked")
+    private boolean emit(final ConversionFlow.Subscriber<? super R> current) {
+        Throwable failure = error;
+        if (failure != null) {
+            terminate(current, failure);
+            return false;
+        }
+        boolean upstreamDone = done;
+        long limit = Math.min(batchSize, requested.get());
+        int count = 0;
+        while (count < limit) {
+            T item = items.poll();
+            if (item == null) {
+                break;
+            }
+            batch[count++] = item;
+        }
+        if (count == 0) {
+            if (upstreamDone && items.isEmpty()) {
+                terminated = true;
+                current.onComplete();
+            }
+            return false;
+        }
+        int converted = 0;
+        try {
+            while (converted < count) {
+                convertedBatch[converted] = Objects.requireNonNull(conversion.apply((T) batch[converted]), ErrorMessages.ELEMENT_NULL);
+                converted++;
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        for (int i = 0; i < converted; i++) {
+            current.onNext((R) convertedBatch[i]);
+            convertedBatch[i] = null;
+        }
+        for (int i = 0; i < count; i++) {
+            batch[i] = null;
+        }
+        produced(converted);
+        if (failure != null) {
+            cancelled = true;
+            cancelUpstream();
+            terminate(current, failure);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Delivers a failure to the subscriber and discards the elements left
+     *
+     * @param current the subscriber
+     * @param failure the failure
+     * @since 2.3.0
+     */
+    private void terminate(final ConversionFlow.Subscriber<? super R> current, final Throwable failure) {
+        terminated = true;
+        items.clear();
+        current.onError(failure);
+    }
+
+    /**
+     * Removes the delivered elements from the demand of the subscriber, unless the demand is unbounded
+     *
+     * @param emitted the number of delivered elements
+     * @since 2.3.0
+     */
+    private void produced(final long emitted) {
+        if (emitted == 0) {
+            return;
+        }
+        while (true) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE || requested.compareAndSet(current, current - emitted)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds a demand to a counter, capping it at Long.MAX_VALUE which stands for an unbounded demand
+     *
+     * @param counter the demand counter
+     * @param n       the demand to be added
+     * @since 2.3.0
+     */
+    private static void addDemand(final AtomicLong counter, final long n) {
+        while (true) {
+            long current = counter.get();
+            long next = current + n;
+            if (next < 0) {
+                next = Long.MAX_VALUE;
+            }
+            if (current == Long.MAX_VALUE || counter.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private static Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The executor task that takes over the drain loop after a batch. An executor that runs the task on the submitting thread before
+     * execute returns leaves the loop with that thread instead, so that the batches do not nest on its stack
+     *
+     * @since 2.3.0
+     */
+    private final class DrainTask implements Runnable {
+
+        private final Thread submitter = Thread.currentThread();
+
+        private volatile boolean submitted;
+
+        /**
+         * Whether the task ran on the submitting thread before execute returned, only accessed by the submitting thread
+         *
+         * @since 2.3.0
+         */
+        private boolean ranOnSubmitter;
+
+        @Override
+        public void run() {
+            if (!submitted && Thread.currentThread() == submitter) {
+                ranOnSubmitter = true;
+                return;
+            }
+            drainLoop();
+        }
+
+        /**
+         * Marks the task as submitted once execute has returned
+         *
+         * @return true if the task runs the loop, false if it already ran on the submitting thread
+         * @since 2.3.0
+         */
+        private boolean handOff() {
+            submitted = true;
+            return !ranOnSubmitter;
+        }
+    }
+
+    /**
+     * The subscription given to the subscriber of the processor
+     *
+     * @since 2.3.0
+     */
+    private final class DownstreamSubscription implements ConversionFlow.Subscription {
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                if (error == null) {
+                    error = new IllegalArgumentException(ErrorMessages.REQUEST_INVALID);
+                }
+                done = true;
+                cancelUpstream();
+                drain();
+                return;
+            }
+            addDemand(requested, n);
+            addDemand(upstreamDemand, n);
+            requestUpstream();
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelUpstream();
+            drain();
+        }
+    }
+
+    /**
+     * The builder of a conversion processor
+     *
+     * @param <T> the type of the received elements
+     * @param <R> the type of the converted elements
+     * @since 2.3.0
+     */
+    public static final class Builder<T, R> {
+
+        private final Function<? super T, ? extends R> conversion;
+
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Builder(final Function<? super T, ? extends R> conversion) {
+            this.conversion = conversion;
+        }
+
+        /**
+         * Sets the executor that converts the batches e.g. an executor from ConversionProcessor.newVirtualThreadExecutor()
+         *
+         * @param executor the executor
+         * @return this builder
+         * @throws IllegalArgumentException if parameter is not valid
+         * @since 2.3.0
+         */
+        public Builder<T, R> executor(final Executor executor) {
+            ValidationUtil.rejectEmpty(executor, ErrorMessages.EXECUTOR_NULL);
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of elements converted by one executor task
+         *
+         * @param batchSize the batch size, must be greater than zero
+         * @return this builder
+         * @throws IllegalArgumentException if the batch size is not greater than zero
+         * @since 2.3.0
+         */
+        public Builder<T, R> batchSize(final int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException(ErrorMessages.BATCH_SIZE_INVALID);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Builds the processor, which accepts a single upstream subscription and a single subscriber
+         *
+         * @return the new conversion processor
+         * @since 2.3.0
+         */
+        public ConversionProcessor<T, R> build() {
+            return new ConversionProcessor<>(this);
+        }
+    }
+}
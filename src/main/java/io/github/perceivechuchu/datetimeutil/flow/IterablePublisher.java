@@ -0,0 +1,144 @@
+package io.github.perceivechuchu.datetimeutil.flow;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class publishes the elements of an Iterable e.g. a List or the elements polled by a message consumer, so that plain Java code can feed
+ * a ConversionProcessor. Each subscriber receives its own iteration, and elements are delivered on the thread that requests them.
+ *
+ * @param <T> the type of the published elements
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class IterablePublisher<T> implements ConversionFlow.Publisher<T> {
+
+    private final Iterable<? extends T> iterable;
+
+    /**
+     * Creates a publisher of the elements of an Iterable
+     *
+     * @param iterable the elements to be published, which cannot contain null
+     * @throws IllegalArgumentException if parameter is not valid
+     * @since 2.3.0
+     */
+    public IterablePublisher(final Iterable<? extends T> iterable) {
+        ValidationUtil.rejectEmpty(iterable, ErrorMessages.ITERABLE_NULL);
+        this.iterable = iterable;
+    }
+
+    @Override
+    public void subscribe(final ConversionFlow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, ErrorMessages.SUBSCRIBER_NULL);
+        Iterator<? extends T> iterator;
+        try {
+            iterator = iterable.iterator();
+        } catch (RuntimeException e) {
+            subscriber.onSubscribe(new IteratorSubscription<>(subscriber, null));
+            subscriber.onError(e);
+            return;
+        }
+        subscriber.onSubscribe(new IteratorSubscription<>(subscriber, iterator));
+    }
+
+    /**
+     * The subscription that delivers the elements of one iteration
+     *
+     * @param <T> the type of the published elements
+     * @since 2.3.0
+     */
+    private static final class IteratorSubscription<T> implements ConversionFlow.Subscription {
+
+        private final ConversionFlow.Subscriber<? super T> subscriber;
+
+        private final Iterator<? extends T> iterator;
+
+        /**
+         * The demand of the subscriber that has not been met yet, the elements are delivered by the thread that moves it away from zero
+         *
+         * @since 2.3.0
+         */
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile boolean cancelled;
+
+        private IteratorSubscription(final ConversionFlow.Subscriber<? super T> subscriber, final Iterator<? extends T> iterator) {
+            this.subscriber = subscriber;
+            this.iterator = iterator;
+            this.cancelled = iterator == null;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (cancelled) {
+                return;
+            }
+            if (n <= 0) {
+                cancelled = true;
+                subscriber.onError(new IllegalArgumentException(ErrorMessages.REQUEST_INVALID));
+                return;
+            }
+            long previous;
+            long next;
+            do {
+                previous = requested.get();
+                next = previous + n < 0 ? Long.MAX_VALUE : previous + n;
+            } while (previous != Long.MAX_VALUE && !requested.compareAndSet(previous, next));
+            if (previous == 0) {
+                emit();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Delivers elements until the demand is met, the iteration is exhausted or the subscription is cancelled
+         *
+         * @since 2.3.0
+         */
+        private void emit() {
+            long emitted = 0;
+            long demand = requested.get();
+            while (true) {
+                try {
+                    while (emitted != demand) {
+                        if (cancelled) {
+                            return;
+                        }
+                        if (!iterator.hasNext()) {
+                            cancelled = true;
+                            subscriber.onComplete();
+                            return;
+                        }
+                        subscriber.onNext(Objects.requireNonNull(iterator.next(), ErrorMessages.ELEMENT_NULL));
+                        emitted++;
+                    }
+                    if (!cancelled && !iterator.hasNext()) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                } catch (RuntimeException e) {
+                    cancelled = true;
+                    subscriber.onError(e);
+                    return;
+                }
+                if (demand == Long.MAX_VALUE) {
+                    continue;
+                }
+                demand = requested.addAndGet(-emitted);
+                emitted = 0;
+                if (demand == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
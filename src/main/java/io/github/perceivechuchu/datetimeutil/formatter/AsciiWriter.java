@@ -0,0 +1,53 @@
+package io.github.perceivechuchu.datetimeutil.formatter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class copies ASCII characters into byte arrays and buffers for the writers of this package. It is the Java 8 baseline, the multi-release
+ * JAR replaces it on Java 17 and later with an implementation in src/main/java17 that stores eight bytes at a time.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+final class AsciiWriter {
+
+    /**
+     * The name of the implementation, which tells the variants of the multi-release JAR apart
+     *
+     * @since 2.3.0
+     */
+    static final String IMPLEMENTATION = "java8";
+
+    private AsciiWriter() {
+    }
+
+    /**
+     * Copies ASCII characters into a byte array, the caller checks that the array is long enough
+     *
+     * @param source the characters to be copied
+     * @param length the number of characters to be copied
+     * @param target the array to write to
+     * @param offset the position of the first byte in the array
+     * @since 2.3.0
+     */
+    static void write(final char[] source, final int length, final byte[] target, final int offset) {
+        for (int i = 0; i < length; i++) {
+            target[offset + i] = (byte) source[i];
+        }
+    }
+
+    /**
+     * Copies ASCII characters into a buffer at its current position, which is advanced past them. The caller checks that the buffer has enough
+     * remaining space
+     *
+     * @param source the characters to be copied
+     * @param length the number of characters to be copied
+     * @param target the buffer to write to
+     * @since 2.3.0
+     */
+    static void write(final char[] source, final int length, final ByteBuffer target) {
+        for (int i = 0; i < length; i++) {
+            target.put((byte) source[i]);
+        }
+    }
+}
@@ -0,0 +1,540 @@
+package io.github.perceivechuchu.datetimeutil.formatter;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.model.DateTextTableStatistics;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class holds optional per-format tables of date texts indexed by epoch day over a window of years, so that formatting a date that
+ * has been seen before is an array read returning a shared String. Tables are filled lazily as dates are formatted, or eagerly with warmUp.
+ * The memory used by the tables is estimated and capped, and dates outside the window, or dates that would exceed the cap, are formatted with
+ * the formatter itself.
+ * <p>
+ * A table is created only for DateTimeFormatter.ISO_LOCAL_DATE, for a date format pattern and locale, or for a formatter registered with
+ * warmUp. Other formatters are formatted as usual, so formatters created for a single call do not each reserve a table and use up the cap.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class DateTextTable {
+
+    /**
+     * The system property that enables the date text tables for DateTimeConverter.convertToLocalDateText
+     *
+     * @since 2.3.0
+     */
+    public static final String ENABLED_PROPERTY = "datetimeutil.dateText.enabled";
+
+    /**
+     * The system property that overrides the default maximum number of bytes the tables may use
+     *
+     * @since 2.3.0
+     */
+    public static final String MAXIMUM_BYTES_PROPERTY = "datetimeutil.dateText.maximumBytes";
+
+    /**
+     * The default maximum number of bytes the tables may use
+     *
+     * @since 2.3.0
+     */
+    public static final long DEFAULT_MAXIMUM_BYTES = 16L * 1024 * 1024;
+
+    /**
+     * The default first year of the window
+     *
+     * @since 2.3.0
+     */
+    public static final int DEFAULT_START_YEAR = 1970;
+
+    /**
+     * The default last year of the window
+     *
+     * @since 2.3.0
+     */
+    public static final int DEFAULT_END_YEAR = 2100;
+
+    /**
+     * The smallest first year of the window
+     *
+     * @since 2.3.0
+     */
+    private static final int MINIMUM_YEAR = 1;
+
+    /**
+     * The largest last year of the window
+     *
+     * @since 2.3.0
+     */
+    private static final int MAXIMUM_YEAR = 9999;
+
+    /**
+     * The estimated size of a table array header
+     *
+     * @since 2.3.0
+     */
+    private static final long TABLE_HEADER_BYTES = 16;
+
+    /**
+     * The estimated size of a reference held by a table
+     *
+     * @since 2.3.0
+     */
+    private static final long REFERENCE_BYTES = 8;
+
+    /**
+     * The estimated size of a String and its character array, excluding the characters
+     *
+     * @since 2.3.0
+     */
+    private static final long TEXT_HEADER_BYTES = 40;
+
+    /**
+     * The number of dates that were served from a table
+     *
+     * @since 2.3.0
+     */
+    private static final LongAdder hitCount = new LongAdder();
+
+    /**
+     * The number of dates that were formatted and stored in a table
+     *
+     * @since 2.3.0
+     */
+    private static final LongAdder missCount = new LongAdder();
+
+    /**
+     * The number of dates that were formatted without being stored
+     *
+     * @since 2.3.0
+     */
+    private static final LongAdder fallbackCount = new LongAdder();
+
+    /**
+     * Whether DateTimeConverter.convertToLocalDateText renders dates through the tables
+     *
+     * @since 2.3.0
+     */
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /**
+     * The maximum number of bytes the tables may use
+     *
+     * @since 2.3.0
+     */
+    private static volatile long maximumBytes = Long.getLong(MAXIMUM_BYTES_PROPERTY, DEFAULT_MAXIMUM_BYTES);
+
+    /**
+     * The tables of the current window, replaced as a whole when the window changes or the tables are cleared
+     *
+     * @since 2.3.0
+     */
+    private static volatile TableSet tableSet = new TableSet(DEFAULT_START_YEAR, DEFAULT_END_YEAR);
+
+    private DateTextTable() {
+    }
+
+    /**
+     * Formats a local date with the supplied formatter, returning the shared text from the formatter table when the date is inside the window.
+     * Only DateTimeFormatter.ISO_LOCAL_DATE and formatters registered with warmUp have a table, other formatters are used directly
+     *
+     * @param localDate the local date object to be formatted
+     * @param formatter the formatter that the local date is to be formatted with
+     * @return the local date text
+     * @throws IllegalArgumentException if parameter is not valid
+     * @throws java.time.DateTimeException if an error occurs during printing
+     * @since 2.3.0
+     */
+    public static String format(final LocalDate localDate, final DateTimeFormatter formatter) {
+        ValidationUtil.rejectEmpty(localDate, ErrorMessages.LOCAL_DATE_NULL);
+        ValidationUtil.rejectEmpty(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        TableSet current = tableSet;
+        int index = current.indexOf(localDate);
+        AtomicReferenceArray<String> table = null;
+        if (index >= 0) {
+            table = formatter == DateTimeFormatter.ISO_LOCAL_DATE ? current.getTable(formatter) : current.tables.get(formatter);
+        }
+        if (table == null) {
+            fallbackCount.increment();
+            return formatter.format(localDate);
+        }
+        String text = table.get(index);
+        if (text != null) {
+            hitCount.increment();
+            return text;
+        }
+        return current.store(table, index, formatter.format(localDate));
+    }
+
+    /**
+     * Formats a local date with a date format pattern and locale, returning the shared text from the table of the pattern and locale when the
+     * date is inside the window. The formatter is obtained from DateTimeFormatterCache only when the date is not in the table
+     *
+     * @param localDate         the local date object to be formatted
+     * @param dateFormatPattern the date format pattern that the local date is to be formatted with e.g. "dd/MM/yyyy"
+     * @param locale            the locale to be applied to the formatter
+     * @return the local date text
+     * @throws IllegalArgumentException if parameter is not valid or the date format pattern is not valid
+     * @throws java.time.DateTimeException if an error occurs during printing
+     * @since 2.3.0
+     */
+    public static String format(final LocalDate localDate, final String dateFormatPattern, final Locale locale) {
+        ValidationUtil.rejectEmpty(localDate, ErrorMessages.LOCAL_DATE_NULL);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        ValidationUtil.rejectEmpty(locale, ErrorMessages.LOCALE_NULL);
+        TableSet current = tableSet;
+        int index = current.indexOf(localDate);
+        if (index < 0) {
+            fallbackCount.increment();
+            return DateTimeFormatterCache.getFormatter(dateFormatPattern, locale).format(localDate);
+        }
+        PatternKey key = new PatternKey(dateFormatPattern, locale);
+        AtomicReferenceArray<String> table = current.tables.get(key);
+        if (table != null) {
+            String text = table.get(index);
+            if (text != null) {
+                hitCount.increment();
+                return text;
+            }
+        }
+        // The formatter is obtained before a table is created, so that a pattern that is not valid does not reserve one
+        DateTimeFormatter formatter = DateTimeFormatterCache.getFormatter(dateFormatPattern, locale);
+        if (table == null) {
+            table = current.getTable(key);
+        }
+        if (table == null) {
+            fallbackCount.increment();
+            return formatter.format(localDate);
+        }
+        return current.store(table, index, formatter.format(localDate));
+    }
+
+    /**
+     * Registers the supplied formatter and fills its table with every date of the window, stopping early if the memory cap is reached
+     *
+     * @param formatter the formatter whose table is to be filled
+     * @return the number of dates held by the table of the formatter after warm-up
+     * @throws IllegalArgumentException if parameter is not valid
+     * @throws java.time.DateTimeException if an error occurs during printing
+     * @since 2.3.0
+     */
+    public static int warmUp(final DateTimeFormatter formatter) {
+        ValidationUtil.rejectEmpty(formatter, ErrorMessages.DATE_FORMATTER_NULL);
+        return fill(tableSet, formatter, formatter);
+    }
+
+    /**
+     * Fills the table of a date format pattern and locale with every date of the window, stopping early if the memory cap is reached
+     *
+     * @param dateFormatPattern the date format pattern whose table is to be filled e.g. "dd/MM/yyyy"
+     * @param locale            the locale to be applied to the formatter
+     * @return the number of dates held by the table of the date format pattern and locale after warm-up
+     * @throws IllegalArgumentException if parameter is not valid or the date format pattern is not valid
+     * @throws java.time.DateTimeException if an error occurs during printing
+     * @since 2.3.0
+     */
+    public static int warmUp(final String dateFormatPattern, final Locale locale) {
+        DateTimeFormatter formatter = DateTimeFormatterCache.getFormatter(dateFormatPattern, locale);
+        return fill(tableSet, new PatternKey(dateFormatPattern, locale), formatter);
+    }
+
+    /**
+     * Sets the window of years covered by the tables. Existing tables are released because their indexes no longer apply
+     *
+     * @param startYear the first year of the window e.g. 1970
+     * @param endYear   the last year of the window e.g. 2100
+     * @throws IllegalArgumentException if parameter is not valid
+     * @since 2.3.0
+     */
+    public static synchronized void setWindow(final int startYear, final int endYear) {
+        if (startYear > endYear || startYear < MINIMUM_YEAR || endYear > MAXIMUM_YEAR) {
+            throw new IllegalArgumentException(ErrorMessages.YEAR_RANGE_INVALID);
+        }
+        tableSet = new TableSet(startYear, endYear);
+    }
+
+    /**
+     * Gets the first year of the window
+     *
+     * @return the first year of the window
+     * @since 2.3.0
+     */
+    public static int getStartYear() {
+        return tableSet.startYear;
+    }
+
+    /**
+     * Gets the last year of the window
+     *
+     * @return the last year of the window
+     * @since 2.3.0
+     */
+    public static int getEndYear() {
+        return tableSet.endYear;
+    }
+
+    /**
+     * Enables or disables rendering through the tables in DateTimeConverter.convertToLocalDateText
+     *
+     * @param enable true to render through the tables, false to format every date
+     * @since 2.3.0
+     */
+    public static void setEnabled(final boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * Checks whether DateTimeConverter.convertToLocalDateText renders dates through the tables
+     *
+     * @return true if the tables are enabled, false otherwise
+     * @since 2.3.0
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the maximum number of bytes the tables may use. Tables that already exceed a lowered cap are kept until they are cleared,
+     * but no further dates are stored
+     *
+     * @param bytes the maximum number of bytes, must be greater than zero
+     * @throws IllegalArgumentException if the number of bytes is not greater than zero
+     * @since 2.3.0
+     */
+    public static void setMaximumBytes(final long bytes) {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException(ErrorMessages.MAXIMUM_BYTES_INVALID);
+        }
+        maximumBytes = bytes;
+    }
+
+    /**
+     * Gets the maximum number of bytes the tables may use
+     *
+     * @return the maximum number of bytes
+     * @since 2.3.0
+     */
+    public static long getMaximumBytes() {
+        return maximumBytes;
+    }
+
+    /**
+     * Gets a snapshot of the table counters and the estimated memory use
+     *
+     * @return the date text table statistics
+     * @since 2.3.0
+     */
+    public static DateTextTableStatistics getStatistics() {
+        TableSet current = tableSet;
+        return DateTextTableStatistics.getInstance(hitCount.sum(), missCount.sum(), fallbackCount.sum(), current.tables.size(),
+                current.entryCount.get(), current.estimatedBytes.get(), maximumBytes);
+    }
+
+    /**
+     * Releases all the tables and resets the counters, keeping the current window
+     *
+     * @since 2.3.0
+     */
+    public static synchronized void clear() {
+        TableSet current = tableSet;
+        tableSet = new TableSet(current.startYear, current.endYear);
+        hitCount.reset();
+        missCount.reset();
+        fallbackCount.reset();
+    }
+
+    /**
+     * Fills the table of a key with every date of the window, stopping early if the memory cap is reached
+     *
+     * @param current   the tables of the current window
+     * @param key       the formatter or the date format pattern and locale that the table is kept for
+     * @param formatter the formatter that the dates are to be formatted with
+     * @return the number of dates held by the table after warm-up
+     * @since 2.3.0
+     */
+    private static int fill(final TableSet current, final Object key, final DateTimeFormatter formatter) {
+        AtomicReferenceArray<String> table = current.getTable(key);
+        if (table == null) {
+            return 0;
+        }
+        int filled = 0;
+        for (int index = 0; index < current.length; index++) {
+            if (table.get(index) == null) {
+                current.store(table, index, formatter.format(LocalDate.ofEpochDay(current.startEpochDay + index)));
+                if (table.get(index) == null) {
+                    break;
+                }
+            }
+            filled++;
+        }
+        return filled;
+    }
+
+    /**
+     * Estimates the number of bytes held by a date text
+     *
+     * @param text the date text
+     * @return the estimated number of bytes
+     * @since 2.3.0
+     */
+    private static long estimateTextBytes(final String text) {
+        return TEXT_HEADER_BYTES + 2L * text.length();
+    }
+
+    /**
+     * The tables of one window, together with the memory they use
+     *
+     * @since 2.3.0
+     */
+    private static final class TableSet {
+
+        private final int startYear;
+
+        private final int endYear;
+
+        private final long startEpochDay;
+
+        private final int length;
+
+        private final ConcurrentMap<Object, AtomicReferenceArray<String>> tables = new ConcurrentHashMap<>();
+
+        private final AtomicLong estimatedBytes = new AtomicLong();
+
+        private final AtomicLong entryCount = new AtomicLong();
+
+        private TableSet(final int startYear, final int endYear) {
+            this.startYear = startYear;
+            this.endYear = endYear;
+            this.startEpochDay = LocalDate.of(startYear, 1, 1).toEpochDay();
+            this.length = (int) (LocalDate.of(endYear, 12, 31).toEpochDay() - startEpochDay + 1);
+        }
+
+        /**
+         * Gets the index of a date in the tables
+         *
+         * @param localDate the local date
+         * @return the index of the date, or -1 if the date is outside the window
+         * @since 2.3.0
+         */
+        private int indexOf(final LocalDate localDate) {
+            long index = localDate.toEpochDay() - startEpochDay;
+            return index < 0 || index >= length ? -1 : (int) index;
+        }
+
+        /**
+         * Gets the table of a key, creating it when the memory cap allows
+         *
+         * @param key the formatter or the date format pattern and locale whose table is needed
+         * @return the table of the key, or null if creating it would exceed the memory cap
+         * @since 2.3.0
+         */
+        private AtomicReferenceArray<String> getTable(final Object key) {
+            AtomicReferenceArray<String> table = tables.get(key);
+            if (table != null) {
+                return table;
+            }
+            long tableBytes = TABLE_HEADER_BYTES + REFERENCE_BYTES * length;
+            if (!reserve(tableBytes)) {
+                return null;
+            }
+            table = new AtomicReferenceArray<>(length);
+            AtomicReferenceArray<String> existing = tables.putIfAbsent(key, table);
+            if (existing != null) {
+                estimatedBytes.addAndGet(-tableBytes);
+                return existing;
+            }
+            return table;
+        }
+
+        /**
+         * Stores a date text in a table when the memory cap allows, keeping the text stored by a concurrent caller if there is one
+         *
+         * @param table the table to store the text in
+         * @param index the index of the date in the table
+         * @param text  the formatted date text
+         * @return the shared text held by the table, or the supplied text if it could not be stored
+         * @since 2.3.0
+         */
+        private String store(final AtomicReferenceArray<String> table, final int index, final String text) {
+            long textBytes = estimateTextBytes(text);
+            if (!reserve(textBytes)) {
+                fallbackCount.increment();
+                return text;
+            }
+            if (!table.compareAndSet(index, null, text)) {
+                estimatedBytes.addAndGet(-textBytes);
+                hitCount.increment();
+                return table.get(index);
+            }
+            entryCount.incrementAndGet();
+            missCount.increment();
+            return text;
+        }
+
+        /**
+         * Reserves a number of bytes against the memory cap
+         *
+         * @param bytes the number of bytes to reserve
+         * @return true if the bytes were reserved, false if they would exceed the memory cap
+         * @since 2.3.0
+         */
+        private boolean reserve(final long bytes) {
+            long limit = maximumBytes;
+            while (true) {
+                long used = estimatedBytes.get();
+                if (used + bytes > limit) {
+                    return false;
+                }
+                if (estimatedBytes.compareAndSet(used, used + bytes)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * The table key made up of the date format pattern and the locale
+     *
+     * @since 2.3.0
+     */
+    private static final class PatternKey {
+
+        private final String dateFormatPattern;
+
+        private final Locale locale;
+
+        private final int hash;
+
+        private PatternKey(final String dateFormatPattern, final Locale locale) {
+            this.dateFormatPattern = dateFormatPattern;
+            this.locale = locale;
+            this.hash = 31 * dateFormatPattern.hashCode() + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof PatternKey)) {
+                return false;
+            }
+            PatternKey key = (PatternKey) other;
+            return dateFormatPattern.equals(key.dateFormatPattern) && Objects.equals(locale, key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package io.github.perceivechuchu.datetimeutil.formatter;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.model.CacheStatistics;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a shared, size-bounded cache of compiled date time formatters keyed by pattern and locale.
+ * DateTimeFormatter instances are immutable and thread-safe, so a pattern only needs to be compiled once per JVM.
+ * When the cache grows beyond its maximum size the oldest entries are evicted first.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class DateTimeFormatterCache {
+
+    /**
+     * The default maximum number of formatters held by the cache
+     *
+     * @since 2.3.0
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    /**
+     * The system property that overrides the default maximum number of formatters held by the cache
+     *
+     * @since 2.3.0
+     */
+    public static final String MAXIMUM_SIZE_PROPERTY = "datetimeutil.formatter.cache.maximumSize";
+
+    /**
+     * The holder for the compiled formatters
+     *
+     * @since 2.3.0
+     */
+    private static final ConcurrentMap<FormatterKey, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of the compiled formatters in the order in which they were added, used for eviction
+     *
+     * @since 2.3.0
+     */
+    private static final Queue<FormatterKey> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of lookups that were served from the cache
+     *
+     * @since 2.3.0
+     */
+    private static final LongAdder hitCount = new LongAdder();
+
+    /**
+     * The number of lookups that had to compile a new formatter
+     *
+     * @since 2.3.0
+     */
+    private static final LongAdder missCount = new LongAdder();
+
+    /**
+     * The number of formatters that were evicted to keep the cache within its maximum size
+     *
+     * @since 2.3.0
+     */
+    private static final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * The maximum number of formatters held by the cache
+     *
+     * @since 2.3.0
+     */
+    private static volatile int maximumSize = Integer.getInteger(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE);
+
+    private DateTimeFormatterCache() {
+    }
+
+    /**
+     * Gets the compiled formatter for a date format pattern using the default formatting locale, which is what DateTimeFormatter.ofPattern(String) uses
+     *
+     * @param dateFormatPattern the date format pattern in textual format e.g. "yyyy-MM-dd HH:mm:ss"
+     * @return the compiled date time formatter
+     * @throws IllegalArgumentException if the date format pattern is not valid
+     * @since 2.3.0
+     */
+    public static DateTimeFormatter getFormatter(final String dateFormatPattern) {
+        return getFormatter(dateFormatPattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Gets the compiled formatter for a date format pattern and locale
+     *
+     * @param dateFormatPattern the date format pattern in textual format e.g. "yyyy-MM-dd HH:mm:ss"
+     * @param locale            the locale to be applied to the formatter
+     * @return the compiled date time formatter
+     * @throws IllegalArgumentException if parameter is not valid or the date format pattern is not valid
+     * @since 2.3.0
+     */
+    public static DateTimeFormatter getFormatter(final String dateFormatPattern, final Locale locale) {
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        ValidationUtil.rejectEmpty(locale, ErrorMessages.LOCALE_NULL);
+        FormatterKey key = new FormatterKey(dateFormatPattern, locale);
+        DateTimeFormatter formatter = formatters.get(key);
+        if (formatter != null) {
+            hitCount.increment();
+            return formatter;
+        }
+        missCount.increment();
+        formatter = DateTimeFormatter.ofPattern(dateFormatPattern, locale);
+        DateTimeFormatter existing = formatters.putIfAbsent(key, formatter);
+        if (existing != null) {
+            return existing;
+        }
+        insertionOrder.offer(key);
+        evictExcessEntries();
+        return formatter;
+    }
+
+    /**
+     * Sets the maximum number of formatters held by the cache. Entries exceeding the new size are evicted immediately
+     *
+     * @param size the maximum number of formatters, must be greater than zero
+     * @throws IllegalArgumentException if the size is not greater than zero
+     * @since 2.3.0
+     */
+    public static void setMaximumSize(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(ErrorMessages.CACHE_MAXIMUM_SIZE_INVALID);
+        }
+        maximumSize = size;
+        evictExcessEntries();
+    }
+
+    /**
+     * Gets the maximum number of formatters held by the cache
+     *
+     * @return the maximum number of formatters
+     * @since 2.3.0
+     */
+    public static int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets a snapshot of the cache counters
+     *
+     * @return the cache statistics
+     * @since 2.3.0
+     */
+    public static CacheStatistics getStatistics() {
+        return CacheStatistics.getInstance(hitCount.sum(), missCount.sum(), evictionCount.sum(), formatters.size(), maximumSize);
+    }
+
+    /**
+     * Removes all formatters from the cache and resets the counters
+     *
+     * @since 2.3.0
+     */
+    public static void clear() {
+        formatters.clear();
+        insertionOrder.clear();
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    /**
+     * Evicts the oldest formatters until the cache is within its maximum size
+     *
+     * @since 2.3.0
+     */
+    private static void evictExcessEntries() {
+        while (formatters.size() > maximumSize) {
+            FormatterKey eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (formatters.remove(eldest) != null) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    /**
+     * The cache key made up of the date format pattern and the locale
+     *
+     * @since 2.3.0
+     */
+    private static final class FormatterKey {
+
+        private final String dateFormatPattern;
+
+        private final Locale locale;
+
+        private final int hash;
+
+        private FormatterKey(final String dateFormatPattern, final Locale locale) {
+            this.dateFormatPattern = dateFormatPattern;
+            this.locale = locale;
+            this.hash = 31 * dateFormatPattern.hashCode() + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof FormatterKey)) {
+                return false;
+            }
+            FormatterKey key = (FormatterKey) other;
+            return dateFormatPattern.equals(key.dateFormatPattern) && Objects.equals(locale, key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
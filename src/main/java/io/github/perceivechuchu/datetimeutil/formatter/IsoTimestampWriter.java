@@ -0,0 +1,425 @@
+package io.github.perceivechuchu.datetimeutil.formatter;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.constant.IsoTimestampLayout;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * This class writes instants as ISO-8601 UTC timestamps e.g. "2023-11-10T10:00:00.254Z" straight into a caller-supplied
+ * StringBuilder, char array, byte array or ByteBuffer. The digits are computed arithmetically, so no intermediate String or
+ * other object is created per call. The text is identical to what DateTimeFormatter produces for the pattern of the layout,
+ * and years outside 1 to 9999 are written through that formatter.
+ * <p>
+ * The prefix cache is off by default. When on, the rendered date and time of day of the most recent epoch seconds are kept, so
+ * timestamps that fall in a cached second only have their fraction written. The cache is a small table of immutable cells indexed
+ * by epoch second, which threads read and replace without locking.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class IsoTimestampWriter {
+
+    /**
+     * The system property that turns the prefix cache on when set to "true"
+     *
+     * @since 2.3.0
+     */
+    public static final String PREFIX_CACHE_ENABLED_PROPERTY = "datetimeutil.formatter.prefixCache.enabled";
+
+    /**
+     * The smallest epoch second that is written without the formatter, the start of the year 1
+     *
+     * @since 2.3.0
+     */
+    private static final long MINIMUM_EPOCH_SECOND = -62135596800L;
+
+    /**
+     * The largest epoch second that is written without the formatter, the end of the year 9999
+     *
+     * @since 2.3.0
+     */
+    private static final long MAXIMUM_EPOCH_SECOND = 253402300799L;
+
+    /**
+     * The number of seconds in a day
+     *
+     * @since 2.3.0
+     */
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * The number of days in a 400 year cycle
+     *
+     * @since 2.3.0
+     */
+    private static final int DAYS_PER_CYCLE = 146097;
+
+    /**
+     * The number of days from the year 0 to 1970
+     *
+     * @since 2.3.0
+     */
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    /**
+     * The largest number of characters a timestamp can have, used for the per-thread scratch buffer
+     *
+     * @since 2.3.0
+     */
+    private static final int MAXIMUM_LENGTH = 48;
+
+    /**
+     * The number of characters of the date and time of day, "yyyy-MM-ddTHH:mm:ss"
+     *
+     * @since 2.3.0
+     */
+    private static final int PREFIX_LENGTH = 19;
+
+    /**
+     * The number of recent epoch seconds held by the prefix cache, a power of two
+     *
+     * @since 2.3.0
+     */
+    private static final int PREFIX_CACHE_SIZE = 8;
+
+    /**
+     * The cached prefixes, each in the slot of its epoch second modulo the cache size
+     *
+     * @since 2.3.0
+     */
+    private static final AtomicReferenceArray<SecondPrefix> prefixes = new AtomicReferenceArray<>(PREFIX_CACHE_SIZE);
+
+    /**
+     * The flag to indicate that the prefix cache is on
+     *
+     * @since 2.3.0
+     */
+    private static volatile boolean prefixCacheEnabled = Boolean.getBoolean(PREFIX_CACHE_ENABLED_PROPERTY);
+
+    /**
+     * The per-thread scratch buffer for the targets that are not char arrays
+     *
+     * @since 2.3.0
+     */
+    private static final ThreadLocal<char[]> buffers = ThreadLocal.withInitial(() -> new char[MAXIMUM_LENGTH]);
+
+    private IsoTimestampWriter() {
+    }
+
+    /**
+     * Appends an instant in epoch millis to a StringBuilder
+     *
+     * @param epochMillis the instant in epoch millis
+     * @param layout      the layout of the timestamp
+     * @param target      the builder to append to
+     * @return the number of characters appended
+     * @throws IllegalArgumentException if parameter is not valid
+     * @since 2.3.0
+     */
+    public static int write(final long epochMillis, final IsoTimestampLayout layout, final StringBuilder target) {
+        return write(Math.floorDiv(epochMillis, 1000L), (int) Math.floorMod(epochMillis, 1000L) * 1_000_000, layout, target);
+    }
+
+    /**
+     * Appends an instant to a StringBuilder
+     *
+     * @param epochSecond  the seconds of the instant from the epoch
+     * @param nanoOfSecond the nanoseconds within the second, from 0 to 999,999,999
+     * @param layout       the layout of the timestamp
+     * @param target       the builder to append to
+     * @return the number of characters appended
+     * @throws IllegalArgumentException if parameter is not valid
+     * @since 2.3.0
+     */
+    public static int write(final long epochSecond, final int nanoOfSecond, final IsoTimestampLayout layout, final StringBuilder target) {
+        ValidationUtil.rejectEmpty(target, ErrorMessages.TARGET_NULL);
+        char[] buffer = buffers.get();
+        int length = write(epochSecond, nanoOfSecond, layout, buffer, 0);
+        target.append(buffer, 0, length);
+        return length;
+    }
+
+    /**
+     * Writes an instant in epoch millis into a char array
+     *
+     * @param epochMillis the instant in epoch millis
+     * @param layout      the layout of the timestamp
+     * @param target      the array to write to
+     * @param offset      the position of the first character in the array
+     * @return the number of characters written
+     * @throws IllegalArgumentException  if parameter is not valid
+     * @throws IndexOutOfBoundsException if the array is too short
+     * @since 2.3.0
+     */
+    public static int write(final long epochMillis, final IsoTimestampLayout layout, final char[] target, final int offset) {
+        return write(Math.floorDiv(epochMillis, 1000L), (int) Math.floorMod(epochMillis, 1000L) * 1_000_000, layout, target, offset);
+    }
+
+    /**
+     * Writes an instant into a char array
+     *
+     * @param epochSecond  the seconds of the instant from the epoch
+     * @param nanoOfSecond the nanoseconds within the second, from 0 to 999,999,999
+     * @param layout       the layout of the timestamp
+     * @param target       the array to write to
+     * @param offset       the position of the first character in the array
+     * @return the number of characters written
+     * @throws IllegalArgumentException  if parameter is not valid
+     * @throws IndexOutOfBoundsException if the array is too short
+     * @since 2.3.0
+     */
+    public static int write(final long epochSecond, final int nanoOfSecond, final IsoTimestampLayout layout, final char[] target, final int offset) {
+        ValidationUtil.rejectEmpty(layout, ErrorMessages.TIMESTAMP_LAYOUT_NULL);
+        ValidationUtil.rejectEmpty(target, ErrorMessages.TARGET_NULL);
+        if (nanoOfSecond < 0 || nanoOfSecond > 999_999_999) {
+            throw new IllegalArgumentException(ErrorMessages.NANO_OF_SECOND_INVALID);
+        }
+        if (epochSecond < MINIMUM_EPOCH_SECOND || epochSecond > MAXIMUM_EPOCH_SECOND) {
+            return writeWithFormatter(epochSecond, nanoOfSecond, layout, target, offset);
+        }
+        if (offset < 0 || offset + layout.getLength() > target.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + layout.getLength() + ", capacity " + target.length);
+        }
+        int position = prefixCacheEnabled ? writeCachedPrefix(epochSecond, target, offset) : writePrefix(epochSecond, target, offset);
+        int fractionDigits = layout.getFractionDigits();
+        if (fractionDigits > 0) {
+            target[position++] = '.';
+            int fraction = nanoOfSecond;
+            for (int i = fractionDigits; i < 9; i++) {
+                fraction /= 10;
+            }
+            position = writeDigits(fraction, fractionDigits, target, position);
+        }
+        target[position++] = 'Z';
+        return position - offset;
+    }
+
+    /**
+     * Writes an instant in epoch millis into a byte array as ASCII
+     *
+     * @param epochMillis the instant in epoch millis
+     * @param layout      the layout of the timestamp
+     * @param target      the array to write to
+     * @param offset      the position of the first byte in the array
+     * @return the number of bytes written
+     * @throws IllegalArgumentException  if parameter is not valid
+     * @throws IndexOutOfBoundsException if the array is too short
+     * @since 2.3.0
+     */
+    public static int write(final long epochMillis, final IsoTimestampLayout layout, final byte[] target, final int offset) {
+        return write(Math.floorDiv(epochMillis, 1000L), (int) Math.floorMod(epochMillis, 1000L) * 1_000_000, layout, target, offset);
+    }
+
+    /**
+     * Writes an instant into a byte array as ASCII
+     *
+     * @param epochSecond  the seconds of the instant from the epoch
+     * @param nanoOfSecond the nanoseconds within the second, from 0 to 999,999,999
+     * @param layout       the layout of the timestamp
+     * @param target       the array to write to
+     * @param offset       the position of the first byte in the array
+     * @return the number of bytes written
+     * @throws IllegalArgumentException  if parameter is not valid
+     * @throws IndexOutOfBoundsException if the array is too short
+     * @since 2.3.0
+     */
+    public static int write(final long epochSecond, final int nanoOfSecond, final IsoTimestampLayout layout, final byte[] target, final int offset) {
+        ValidationUtil.rejectEmpty(target, ErrorMessages.TARGET_NULL);
+        char[] buffer = buffers.get();
+        int length = write(epochSecond, nanoOfSecond, layout, buffer, 0);
+        if (offset < 0 || offset + length > target.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", capacity " + target.length);
+        }
+        AsciiWriter.write(buffer, length, target, offset);
+        return length;
+    }
+
+    /**
+     * Writes an instant in epoch millis into a ByteBuffer as ASCII at its current position, which is advanced past the timestamp
+     *
+     * @param epochMillis the instant in epoch millis
+     * @param layout      the layout of the timestamp
+     * @param target      the buffer to write to
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if parameter is not valid
+     * @throws BufferOverflowException  if the buffer does not have enough remaining space
+     * @since 2.3.0
+     */
+    public static int write(final long epochMillis, final IsoTimestampLayout layout, final ByteBuffer target) {
+        return write(Math.floorDiv(epochMillis, 1000L), (int) Math.floorMod(epochMillis, 1000L) * 1_000_000, layout, target);
+    }
+
+    /**
+     * Writes an instant into a ByteBuffer as ASCII at its current position, which is advanced past the timestamp
+     *
+     * @param epochSecond  the seconds of the instant from the epoch
+     * @param nanoOfSecond the nanoseconds within the second, from 0 to 999,999,999
+     * @param layout       the layout of the timestamp
+     * @param target       the buffer to write to
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if parameter is not valid
+     * @throws BufferOverflowException  if the buffer does not have enough remaining space
+     * @since 2.3.0
+     */
+    public static int write(final long epochSecond, final int nanoOfSecond, final IsoTimestampLayout layout, final ByteBuffer target) {
+        ValidationUtil.rejectEmpty(target, ErrorMessages.TARGET_NULL);
+        char[] buffer = buffers.get();
+        int length = write(epochSecond, nanoOfSecond, layout, buffer, 0);
+        if (target.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        AsciiWriter.write(buffer, length, target);
+        return length;
+    }
+
+    /**
+     * Turns the prefix cache on or off. The cached prefixes are cleared when it is turned off
+     *
+     * @param enabled the flag to indicate that the prefix cache is on
+     * @since 2.3.0
+     */
+    public static void setPrefixCacheEnabled(final boolean enabled) {
+        prefixCacheEnabled = enabled;
+        if (!enabled) {
+            for (int i = 0; i < PREFIX_CACHE_SIZE; i++) {
+                prefixes.set(i, null);
+            }
+        }
+    }
+
+    /**
+     * Checks if the prefix cache is on
+     *
+     * @return the flag to indicate that the prefix cache is on
+     * @since 2.3.0
+     */
+    public static boolean isPrefixCacheEnabled() {
+        return prefixCacheEnabled;
+    }
+
+    /**
+     * Writes a timestamp with the formatter of the layout, for the years the arithmetic path does not cover
+     *
+     * @param epochSecond  the seconds of the instant from the epoch
+     * @param nanoOfSecond the nanoseconds within the second
+     * @param layout       the layout of the timestamp
+     * @param target       the array to write to
+     * @param offset       the position of the first character in the array
+     * @return the number of characters written
+     * @since 2.3.0
+     */
+    private static int writeWithFormatter(final long epochSecond, final int nanoOfSecond, final IsoTimestampLayout layout, final char[] target, final int offset) {
+        String text = DateTimeFormatterCache.getFormatter(layout.getDateFormatPattern()).format(Instant.ofEpochSecond(epochSecond, nanoOfSecond).atOffset(ZoneOffset.UTC));
+        if (offset < 0 || offset + text.length() > target.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + text.length() + ", capacity " + target.length);
+        }
+        text.getChars(0, text.length(), target, offset);
+        return text.length();
+    }
+
+    /**
+     * Writes the date and time of day of an epoch second, copying it from the prefix cache when the second is cached and caching it otherwise
+     *
+     * @param epochSecond the seconds of the instant from the epoch, within the years 1 to 9999
+     * @param target      the array to write to
+     * @param offset      the position of the first character in the array
+     * @return the position after the seconds of the time of day
+     * @since 2.3.0
+     */
+    private static int writeCachedPrefix(final long epochSecond, final char[] target, final int offset) {
+        int slot = (int) epochSecond & (PREFIX_CACHE_SIZE - 1);
+        SecondPrefix prefix = prefixes.get(slot);
+        if (prefix != null && prefix.epochSecond == epochSecond) {
+            System.arraycopy(prefix.text, 0, target, offset, PREFIX_LENGTH);
+            return offset + PREFIX_LENGTH;
+        }
+        int position = writePrefix(epochSecond, target, offset);
+        // A racing writer of another second may replace this cell right away, which only costs a later miss
+        prefixes.lazySet(slot, new SecondPrefix(epochSecond, Arrays.copyOfRange(target, offset, position)));
+        return position;
+    }
+
+    /**
+     * Writes the date and time of day of an epoch second as "yyyy-MM-ddTHH:mm:ss"
+     *
+     * @param epochSecond the seconds of the instant from the epoch, within the years 1 to 9999
+     * @param target      the array to write to
+     * @param offset      the position of the first character in the array
+     * @return the position after the seconds of the time of day
+     * @since 2.3.0
+     */
+    private static int writePrefix(final long epochSecond, final char[] target, final int offset) {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        // Civil date from the epoch day, the algorithm of LocalDate.ofEpochDay for years that start in March
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long year = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long dayOfYear = zeroDay - (365 * year + year / 4 - year / 100 + year / 400);
+        if (dayOfYear < 0) {
+            year--;
+            dayOfYear = zeroDay - (365 * year + year / 4 - year / 100 + year / 400);
+        }
+        int marchDayOfYear = (int) dayOfYear;
+        int marchMonth = (marchDayOfYear * 5 + 2) / 153;
+        int month = (marchMonth + 2) % 12 + 1;
+        int dayOfMonth = marchDayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+        year += marchMonth / 10;
+
+        int position = offset;
+        position = writeDigits((int) year, 4, target, position);
+        target[position++] = '-';
+        position = writeDigits(month, 2, target, position);
+        target[position++] = '-';
+        position = writeDigits(dayOfMonth, 2, target, position);
+        target[position++] = 'T';
+        position = writeDigits(secondOfDay / 3600, 2, target, position);
+        target[position++] = ':';
+        position = writeDigits(secondOfDay / 60 % 60, 2, target, position);
+        target[position++] = ':';
+        position = writeDigits(secondOfDay % 60, 2, target, position);
+        return position;
+    }
+
+    /**
+     * Writes a non-negative number as a fixed number of zero padded digits
+     *
+     * @param value  the number to be written
+     * @param digits the number of digits
+     * @param target the array to write to
+     * @param offset the position of the first digit
+     * @return the position after the last digit
+     * @since 2.3.0
+     */
+    private static int writeDigits(final int value, final int digits, final char[] target, final int offset) {
+        int remaining = value;
+        for (int position = offset + digits - 1; position >= offset; position--) {
+            target[position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return offset + digits;
+    }
+
+    /**
+     * The immutable cell of the prefix cache, the rendered date and time of day of an epoch second
+     *
+     * @since 2.3.0
+     */
+    private static final class SecondPrefix {
+
+        private final long epochSecond;
+
+        private final char[] text;
+
+        private SecondPrefix(final long epochSecond, final char[] text) {
+            this.epochSecond = epochSecond;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package io.github.perceivechuchu.datetimeutil.metrics;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.constant.MetricOperation;
+import io.github.perceivechuchu.datetimeutil.model.ConversionResult;
+import io.github.perceivechuchu.datetimeutil.model.HistogramStatistics;
+import io.github.perceivechuchu.datetimeutil.model.OperationStatistics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class records the call counts, failure counts and latencies of the operations of DateTimeConverter, DateTimeValidator and TimeZoneUtil,
+ * and the number of date format patterns tried by each validation against the catalog. Recording is off by default, and then costs a single
+ * flag check per call. When on, the counters are striped LongAdders and the histograms are fixed arrays of them, so recording does not allocate.
+ * The statistics are pulled with {@link #getStatistics()} e.g. by a scheduled task that publishes them to a metrics system.
+ * <p>
+ * The record methods are called by the library and are not meant to be called by applications.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class DateTimeMetrics {
+
+    /**
+     * The system property that enables recording when set to "true"
+     *
+     * @since 2.3.0
+     */
+    public static final String ENABLED_PROPERTY = "datetimeutil.metrics.enabled";
+
+    /**
+     * The start time returned when recording is off, which tells the record methods to skip the call
+     *
+     * @since 2.3.0
+     */
+    private static final long NOT_RECORDED = Long.MIN_VALUE;
+
+    /**
+     * The counters of each operation, by ordinal
+     *
+     * @since 2.3.0
+     */
+    private static final OperationCounters[] counters = createCounters();
+
+    /**
+     * The histogram of the number of date format patterns tried by each validation against the catalog
+     *
+     * @since 2.3.0
+     */
+    private static final Histogram patternsTried = new Histogram();
+
+    /**
+     * The flag to indicate that recording is on
+     *
+     * @since 2.3.0
+     */
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private DateTimeMetrics() {
+    }
+
+    /**
+     * Turns recording on or off. The counters keep their values when recording is turned off
+     *
+     * @param enabled the flag to indicate that recording is on
+     * @since 2.3.0
+     */
+    public static void setEnabled(final boolean enabled) {
+        DateTimeMetrics.enabled = enabled;
+    }
+
+    /**
+     * Checks if recording is on
+     *
+     * @return the flag to indicate that recording is on
+     * @since 2.3.0
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the start time of a call to be recorded
+     *
+     * @return the start time in nanoseconds, or a marker that skips the call when recording is off
+     * @since 2.3.0
+     */
+    public static long startTime() {
+        return enabled ? System.nanoTime() : NOT_RECORDED;
+    }
+
+    /**
+     * Records a call that succeeded
+     *
+     * @param operation the recorded operation
+     * @param startTime the start time of the call
+     * @param value     the result of the call
+     * @param <T>       the type of the result
+     * @return the supplied result
+     * @since 2.3.0
+     */
+    public static <T> T recordSuccess(final MetricOperation operation, final long startTime, final T value) {
+        record(operation, startTime, true);
+        return value;
+    }
+
+    /**
+     * Records a call that failed
+     *
+     * @param operation the recorded operation
+     * @param startTime the start time of the call
+     * @since 2.3.0
+     */
+    public static void recordFailure(final MetricOperation operation, final long startTime) {
+        record(operation, startTime, false);
+    }
+
+    /**
+     * Records a call that filled in a conversion result
+     *
+     * @param operation the recorded operation
+     * @param startTime the start time of the call
+     * @param result    the result of the call, which failed unless it holds a value
+     * @param <R>       the type of the result
+     * @return the supplied result
+     * @since 2.3.0
+     */
+    public static <R extends ConversionResult<?>> R recordResult(final MetricOperation operation, final long startTime, final R result) {
+        if (startTime != NOT_RECORDED) {
+            record(operation, startTime, result.isSuccess());
+        }
+        return result;
+    }
+
+    /**
+     * Records a call with a boolean outcome
+     *
+     * @param operation the recorded operation
+     * @param startTime the start time of the call
+     * @param success   the outcome of the call, false for a failure
+     * @return the supplied outcome
+     * @since 2.3.0
+     */
+    public static boolean recordOutcome(final MetricOperation operation, final long startTime, final boolean success) {
+        record(operation, startTime, success);
+        return success;
+    }
+
+    /**
+     * Records the number of date format patterns tried by a validation
+     *
+     * @param count the number of patterns tried
+     * @since 2.3.0
+     */
+    public static void recordPatternsTried(final int count) {
+        if (enabled) {
+            patternsTried.record(count);
+        }
+    }
+
+    /**
+     * Gets a snapshot of the statistics of an operation
+     *
+     * @param operation the recorded operation
+     * @return the operation statistics
+     * @throws IllegalArgumentException if the operation is null
+     * @since 2.3.0
+     */
+    public static OperationStatistics getStatistics(final MetricOperation operation) {
+        ValidationUtil.rejectEmpty(operation, ErrorMessages.METRIC_OPERATION_NULL);
+        OperationCounters operationCounters = counters[operation.ordinal()];
+        return OperationStatistics.getInstance(operation, operationCounters.calls.sum(), operationCounters.failures.sum(), operationCounters.latencyNanos.getStatistics());
+    }
+
+    /**
+     * Gets a snapshot of the statistics of every operation
+     *
+     * @return the unmodifiable map of operations to their statistics, in declaration order
+     * @since 2.3.0
+     */
+    public static Map<MetricOperation, OperationStatistics> getStatistics() {
+        Map<MetricOperation, OperationStatistics> statistics = new EnumMap<>(MetricOperation.class);
+        for (MetricOperation operation : MetricOperation.values()) {
+            statistics.put(operation, getStatistics(operation));
+        }
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Gets a snapshot of the histogram of the number of date format patterns tried by each validation against the catalog
+     *
+     * @return the histogram statistics
+     * @since 2.3.0
+     */
+    public static HistogramStatistics getPatternsTriedStatistics() {
+        return patternsTried.getStatistics();
+    }
+
+    /**
+     * Resets every counter and histogram
+     *
+     * @since 2.3.0
+     */
+    public static void reset() {
+        for (OperationCounters operationCounters : counters) {
+            operationCounters.calls.reset();
+            operationCounters.failures.reset();
+            operationCounters.latencyNanos.reset();
+        }
+        patternsTried.reset();
+    }
+
+    /**
+     * Records a call unless recording was off when it started
+     *
+     * @param operation the recorded operation
+     * @param startTime the start time of the call
+     * @param success   the outcome of the call, false for a failure
+     * @since 2.3.0
+     */
+    private static void record(final MetricOperation operation, final long startTime, final boolean success) {
+        if (startTime == NOT_RECORDED) {
+            return;
+        }
+        OperationCounters operationCounters = counters[operation.ordinal()];
+        operationCounters.latencyNanos.record(System.nanoTime() - startTime);
+        operationCounters.calls.increment();
+        if (!success) {
+            operationCounters.failures.increment();
+        }
+    }
+
+    /**
+     * Creates the counters of each operation
+     *
+     * @return the counters by ordinal
+     * @since 2.3.0
+     */
+    private static OperationCounters[] createCounters() {
+        OperationCounters[] operationCounters = new OperationCounters[MetricOperation.values().length];
+        for (int i = 0; i < operationCounters.length; i++) {
+            operationCounters[i] = new OperationCounters();
+        }
+        return operationCounters;
+    }
+
+    /**
+     * The counters of an operation
+     *
+     * @since 2.3.0
+     */
+    private static final class OperationCounters {
+
+        private final LongAdder calls = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final Histogram latencyNanos = new Histogram();
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.perceivechuchu.datetimeutil.metrics;
+
+import io.github.perceivechuchu.datetimeutil.model.HistogramStatistics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a concurrent histogram of non-negative values in power of two buckets. Recording a value updates striped counters
+ * and does not allocate objects
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+final class Histogram {
+
+    /**
+     * The number of buckets, which covers every non-negative long value
+     *
+     * @since 2.3.0
+     */
+    static final int BUCKET_COUNT = 64;
+
+    /**
+     * The number of recorded values per bucket
+     *
+     * @since 2.3.0
+     */
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    /**
+     * The sum of the recorded values
+     *
+     * @since 2.3.0
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * The largest recorded value
+     *
+     * @since 2.3.0
+     */
+    private final LongAccumulator maximum = new LongAccumulator(Math::max, 0L);
+
+    Histogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a value, negative values are recorded as 0
+     *
+     * @param value the value to be recorded
+     * @since 2.3.0
+     */
+    void record(final long value) {
+        long recorded = Math.max(value, 0L);
+        buckets[BUCKET_COUNT - Long.numberOfLeadingZeros(recorded)].increment();
+        sum.add(recorded);
+        maximum.accumulate(recorded);
+    }
+
+    /**
+     * Gets a snapshot of the histogram. The counters are read one after the other, so values recorded meanwhile may be partly included
+     *
+     * @return the histogram statistics
+     * @since 2.3.0
+     */
+    HistogramStatistics getStatistics() {
+        long[] bucketCounts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketCounts[i] = buckets[i].sum();
+            count += bucketCounts[i];
+        }
+        return HistogramStatistics.getInstance(count, sum.sum(), maximum.get(), bucketCounts);
+    }
+
+    /**
+     * Resets the histogram
+     *
+     * @since 2.3.0
+     */
+    void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        sum.reset();
+        maximum.reset();
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.perceivechuchu.datetimeutil.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * CacheStatistics class holds a point-in-time snapshot of the counters of one of the library caches
+ *
+ * @since 2.3.0
+ *
+ * @author Perceive Chuchu
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatistics {
+
+    /**
+     * The number of lookups that were served from the cache
+     *
+     * @since 2.3.0
+     */
+    private long hitCount;
+
+    /**
+     * The number of lookups that had to create a new cache entry
+     *
+     * @since 2.3.0
+     */
+    private long missCount;
+
+    /**
+     * The number of entries that were removed to keep the cache within its maximum size
+     *
+     * @since 2.3.0
+     */
+    private long evictionCount;
+
+    /**
+     * The number of entries currently held by the cache
+     *
+     * @since 2.3.0
+     */
+    private int size;
+
+    /**
+     * The maximum number of entries the cache may hold
+     *
+     * @since 2.3.0
+     */
+    private int maximumSize;
+
+    /**
+     * Gets an instance of cache statistics
+     *
+     * @param hitCount      the number of lookups that were served from the cache
+     * @param missCount     the number of lookups that had to create a new cache entry
+     * @param evictionCount the number of entries that were removed to keep the cache within its maximum size
+     * @param size          the number of entries currently held by the cache
+     * @param maximumSize   the maximum number of entries the cache may hold
+     * @return the new cache statistics that have been instantiated
+     * @since 2.3.0
+     */
+    public static CacheStatistics getInstance(long hitCount, long missCount, long evictionCount, int size, int maximumSize) {
+        return new CacheStatistics(hitCount, missCount, evictionCount, size, maximumSize);
+    }
+}
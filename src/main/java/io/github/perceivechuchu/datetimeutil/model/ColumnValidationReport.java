@@ -0,0 +1,88 @@
+package io.github.perceivechuchu.datetimeutil.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * ColumnValidationReport class holds the outcome of validating the date time values of a column of a delimited file
+ *
+ * @since 2.3.0
+ *
+ * @author Perceive Chuchu
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnValidationReport {
+
+    /**
+     * The number of lines that were validated, not counting the header line
+     *
+     * @since 2.3.0
+     */
+    private long lineCount;
+
+    /**
+     * The number of lines with a valid date time value in the column
+     *
+     * @since 2.3.0
+     */
+    private long validCount;
+
+    /**
+     * The number of lines with an invalid date time value in the column, or without the column
+     *
+     * @since 2.3.0
+     */
+    private long invalidCount;
+
+    /**
+     * The number of lines with an empty or blank value in the column, which are not validated
+     *
+     * @since 2.3.0
+     */
+    private long emptyCount;
+
+    /**
+     * The line numbers of the invalid lines as ranges, every pair of values holds the first and the last line number of a range.
+     * Line numbers start at 1 for the first line of the file, the header line included
+     *
+     * @since 2.3.0
+     */
+    private long[] invalidLineRanges;
+
+    /**
+     * The number of valid values per matching date format pattern
+     *
+     * @since 2.3.0
+     */
+    private Map<String, Long> patternCounts;
+
+    /**
+     * Checks if a line of the file was reported as invalid
+     *
+     * @param lineNumber the line number, starting at 1 for the first line of the file
+     * @return the boolean flag to indicate an invalid line
+     * @since 2.3.0
+     */
+    public boolean isInvalidLine(long lineNumber) {
+        int low = 0;
+        int high = invalidLineRanges.length / 2 - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (lineNumber < invalidLineRanges[2 * middle]) {
+                high = middle - 1;
+            } else if (lineNumber > invalidLineRanges[2 * middle + 1]) {
+                low = middle + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.perceivechuchu.datetimeutil.model;
+
+import io.github.perceivechuchu.datetimeutil.constant.ConversionErrorCode;
+import lombok.Data;
+
+/**
+ * ConversionResult class holds the outcome of an exception-free conversion or validation: either the converted value, or
+ * an error code and the position in the text at which the error was detected. A result can be reused across calls to
+ * avoid allocating one per value
+ *
+ * @param <T> the type of the converted value
+ * @since 2.3.0
+ *
+ * @author Perceive Chuchu
+ */
+@Data
+public class ConversionResult<T> {
+
+    /**
+     * The converted value, null when the conversion failed
+     *
+     * @since 2.3.0
+     */
+    private T value;
+
+    /**
+     * The error code, NONE when the conversion succeeded
+     *
+     * @since 2.3.0
+     */
+    private ConversionErrorCode errorCode = ConversionErrorCode.NOT_CONVERTED;
+
+    /**
+     * The position in the text at which the error was detected, -1 when it is not known or the conversion succeeded
+     *
+     * @since 2.3.0
+     */
+    private int errorIndex = -1;
+
+    /**
+     * Instantiates a new, empty ConversionResult object
+     *
+     * @param <T> the type of the converted value
+     * @return the new ConversionResult object
+     * @since 2.3.0
+     */
+    public static <T> ConversionResult<T> getInstance() {
+        return new ConversionResult<>();
+    }
+
+    /**
+     * Checks if the conversion succeeded
+     *
+     * @return the boolean flag to indicate that the result holds a converted value
+     * @since 2.3.0
+     */
+    public boolean isSuccess() {
+        return errorCode == ConversionErrorCode.NONE;
+    }
+
+    /**
+     * Records a successful conversion
+     *
+     * @param value the converted value
+     * @return this result
+     * @since 2.3.0
+     */
+    public ConversionResult<T> success(final T value) {
+        this.value = value;
+        this.errorCode = ConversionErrorCode.NONE;
+        this.errorIndex = -1;
+        return this;
+    }
+
+    /**
+     * Records a failed conversion
+     *
+     * @param errorCode  the error code describing the failure
+     * @param errorIndex the position in the text at which the error was detected, -1 when it is not known
+     * @return this result
+     * @since 2.3.0
+     */
+    public ConversionResult<T> failure(final ConversionErrorCode errorCode, final int errorIndex) {
+        this.value = null;
+        this.errorCode = errorCode;
+        this.errorIndex = errorIndex;
+        return this;
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.perceivechuchu.datetimeutil.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DateTextTableStatistics class holds a point-in-time snapshot of the counters and the memory use of the date text tables
+ *
+ * @since 2.3.0
+ *
+ * @author Perceive Chuchu
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DateTextTableStatistics {
+
+    /**
+     * The number of dates that were served from a table
+     *
+     * @since 2.3.0
+     */
+    private long hitCount;
+
+    /**
+     * The number of dates that were formatted and stored in a table
+     *
+     * @since 2.3.0
+     */
+    private long missCount;
+
+    /**
+     * The number of dates that were formatted without being stored, because they were outside the window or the memory cap was reached
+     *
+     * @since 2.3.0
+     */
+    private long fallbackCount;
+
+    /**
+     * The number of formatters that have a table
+     *
+     * @since 2.3.0
+     */
+    private int tableCount;
+
+    /**
+     * The number of date texts held by all the tables
+     *
+     * @since 2.3.0
+     */
+    private long entryCount;
+
+    /**
+     * The estimated number of bytes used by all the tables and their date texts
+     *
+     * @since 2.3.0
+     */
+    private long estimatedBytes;
+
+    /**
+     * The maximum number of bytes the tables may use
+     *
+     * @since 2.3.0
+     */
+    private long maximumBytes;
+
+    /**
+     * Gets an instance of date text table statistics
+     *
+     * @param hitCount       the number of dates that were served from a table
+     * @param missCount      the number of dates that were formatted and stored in a table
+     * @param fallbackCount  the number of dates that were formatted without being stored
+     * @param tableCount     the number of formatters that have a table
+     * @param entryCount     the number of date texts held by all the tables
+     * @param estimatedBytes the estimated number of bytes used by all the tables
+     * @param maximumBytes   the maximum number of bytes the tables may use
+     * @return the new date text table statistics that have been instantiated
+     * @since 2.3.0
+     */
+    public static DateTextTableStatistics getInstance(long hitCount, long missCount, long fallbackCount, int tableCount, long entryCount,
+                                                      long estimatedBytes, long maximumBytes) {
+        return new DateTextTableStatistics(hitCount, missCount, fallbackCount, tableCount, entryCount, estimatedBytes, maximumBytes);
+    }
+}
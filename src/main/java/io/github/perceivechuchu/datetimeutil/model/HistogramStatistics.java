@@ -0,0 +1,101 @@
+package io.github.perceivechuchu.datetimeutil.model;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * HistogramStatistics class holds a point-in-time snapshot of a histogram of DateTimeMetrics. The values are counted in power of two
+ * buckets: bucket 0 holds the value 0 and bucket i holds the values from 2^(i-1) to 2^i - 1
+ *
+ * @since 2.3.0
+ *
+ * @author Perceive Chuchu
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistogramStatistics {
+
+    /**
+     * The number of recorded values
+     *
+     * @since 2.3.0
+     */
+    private long count;
+
+    /**
+     * The sum of the recorded values
+     *
+     * @since 2.3.0
+     */
+    private long sum;
+
+    /**
+     * The largest recorded value
+     *
+     * @since 2.3.0
+     */
+    private long maximum;
+
+    /**
+     * The number of recorded values per bucket
+     *
+     * @since 2.3.0
+     */
+    private long[] bucketCounts;
+
+    /**
+     * Gets an instance of histogram statistics
+     *
+     * @param count        the number of recorded values
+     * @param sum          the sum of the recorded values
+     * @param maximum      the largest recorded value
+     * @param bucketCounts the number of recorded values per bucket
+     * @return the new histogram statistics that have been instantiated
+     * @since 2.3.0
+     */
+    public static HistogramStatistics getInstance(long count, long sum, long maximum, long[] bucketCounts) {
+        return new HistogramStatistics(count, sum, maximum, bucketCounts);
+    }
+
+    /**
+     * Gets the mean of the recorded values
+     *
+     * @return the mean, or 0 when no value was recorded
+     * @since 2.3.0
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Gets an upper bound of a percentile of the recorded values, which is the largest value of the bucket that holds the percentile
+     *
+     * @param percentile the percentile, greater than 0 and at most 100 e.g. 99.9
+     * @return the upper bound of the percentile, or 0 when no value was recorded
+     * @throws IllegalArgumentException if the percentile is not greater than 0 and at most 100
+     * @since 2.3.0
+     */
+    public long getPercentile(double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException(ErrorMessages.PERCENTILE_INVALID);
+        }
+        long total = 0;
+        for (long bucketCount : bucketCounts) {
+            total += bucketCount;
+        }
+        long rank = (long) Math.ceil(percentile / 100 * total);
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(i == 0 ? 0 : (i == 63 ? Long.MAX_VALUE : (1L << i) - 1), maximum);
+            }
+        }
+        return 0;
+    }
+}
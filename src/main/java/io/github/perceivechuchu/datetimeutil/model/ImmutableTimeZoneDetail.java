@@ -0,0 +1,75 @@
+package io.github.perceivechuchu.datetimeutil.model;
+
+import lombok.Value;
+
+/**
+ * ImmutableTimeZoneDetail class holds the time zone details of the time zone catalog snapshot. The fields cannot be changed, so the same
+ * objects are shared by every caller; {@link #toTimeZoneDetail()} gives a TimeZoneDetail that can be changed
+ *
+ * @since 2.3.0
+ *
+ * @author Perceive Chuchu
+ */
+@Value
+public class ImmutableTimeZoneDetail {
+
+    /**
+     * The id for a time zone
+     *
+     * @since 2.3.0
+     */
+    String id;
+
+    /**
+     * The display name for a time zone e.g. "South Africa Standard Time"
+     *
+     * @since 2.3.0
+     */
+    String displayName;
+
+    /**
+     * The abbreviation for a time zone e.g. "SAST"
+     *
+     * @since 2.3.0
+     */
+    String abbreviation;
+
+    /**
+     * The difference in milliseconds from Coordinated Universal Time (UTC) e.g. "7200000"
+     *
+     * @since 2.3.0
+     */
+    Integer offsetMillis;
+
+    /**
+     * The difference in hours and minutes from Coordinated Universal Time (UTC) e.g. "+02:00"
+     *
+     * @since 2.3.0
+     */
+    String offsetText;
+
+    /**
+     * Gets an instance of an immutable time zone detail
+     *
+     * @param id           the id for a time zone e.g. "Africa/Johannesburg"
+     * @param displayName  the display name for a time zone e.g. "South Africa Standard Time"
+     * @param abbreviation the abbreviation for a time zone e.g. "SAST"
+     * @param offsetMillis the difference in milliseconds from Coordinated Universal Time (UTC) e.g. "7200000"
+     * @param offsetText   the difference in hours and minutes from Coordinated Universal Time (UTC) e.g. "+02:00"
+     * @return the new immutable time zone detail that has been instantiated
+     * @since 2.3.0
+     */
+    public static ImmutableTimeZoneDetail getInstance(String id, String displayName, String abbreviation, Integer offsetMillis, String offsetText) {
+        return new ImmutableTimeZoneDetail(id, displayName, abbreviation, offsetMillis, offsetText);
+    }
+
+    /**
+     * Copies the values into a time zone detail
+     *
+     * @return the new time zone detail with the same values
+     * @since 2.3.0
+     */
+    public TimeZoneDetail toTimeZoneDetail() {
+        return TimeZoneDetail.getInstance(id, displayName, abbreviation, offsetMillis, offsetText);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.perceivechuchu.datetimeutil.model;
+
+import io.github.perceivechuchu.datetimeutil.constant.MetricOperation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * OperationStatistics class holds a point-in-time snapshot of the counters and the latency histogram of an operation recorded by DateTimeMetrics
+ *
+ * @since 2.3.0
+ *
+ * @author Perceive Chuchu
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OperationStatistics {
+
+    /**
+     * The recorded operation
+     *
+     * @since 2.3.0
+     */
+    private MetricOperation operation;
+
+    /**
+     * The number of calls
+     *
+     * @since 2.3.0
+     */
+    private long callCount;
+
+    /**
+     * The number of calls that failed
+     *
+     * @since 2.3.0
+     */
+    private long failureCount;
+
+    /**
+     * The latency histogram of the calls, in nanoseconds
+     *
+     * @since 2.3.0
+     */
+    private HistogramStatistics latencyNanos;
+
+    /**
+     * Gets an instance of operation statistics
+     *
+     * @param operation    the recorded operation
+     * @param callCount    the number of calls
+     * @param failureCount the number of calls that failed
+     * @param latencyNanos the latency histogram of the calls, in nanoseconds
+     * @return the new operation statistics that have been instantiated
+     * @since 2.3.0
+     */
+    public static OperationStatistics getInstance(MetricOperation operation, long callCount, long failureCount, HistogramStatistics latencyNanos) {
+        return new OperationStatistics(operation, callCount, failureCount, latencyNanos);
+    }
+
+    /**
+     * Gets the ratio of the calls that failed
+     *
+     * @return the failure ratio between 0 and 1, or 0 when no call was recorded
+     * @since 2.3.0
+     */
+    public double getFailureRatio() {
+        return callCount == 0 ? 0 : (double) failureCount / callCount;
+    }
+}
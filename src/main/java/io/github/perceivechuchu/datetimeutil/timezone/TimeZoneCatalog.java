@@ -0,0 +1,163 @@
+package io.github.perceivechuchu.datetimeutil.timezone;
+
+import io.github.perceivechuchu.datetimeutil.model.ImmutableTimeZoneDetail;
+import io.github.perceivechuchu.datetimeutil.model.TimeZoneDetail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * This class is an immutable snapshot of the time zones listed by TimeZoneUtil, built once on first use. The time zone details are
+ * computed when the snapshot is built and cannot be changed, so the same unmodifiable lists are handed to every caller without allocating.
+ * An index from the offset text to the time zones makes the offset search a map lookup. The TimeZoneUtil methods that return TimeZoneDetail
+ * copy the snapshot, as their callers may change the list and its details.
+ * <p>
+ * The display names and abbreviations are those of the default locale at the time the snapshot is built.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class TimeZoneCatalog {
+
+    /**
+     * The regex for time zone id prefixes
+     *
+     * @since 2.3.0
+     */
+    private static final String TIMEZONE_ID_PREFIXES = "^(Africa|America|Asia|Atlantic|Australia|Europe|Indian|Pacific)/.*";
+
+    /**
+     * The time zone details sorted by id
+     *
+     * @since 2.3.0
+     */
+    private final List<ImmutableTimeZoneDetail> timeZones;
+
+    /**
+     * The time zone details by id
+     *
+     * @since 2.3.0
+     */
+    private final Map<String, ImmutableTimeZoneDetail> timeZonesById;
+
+    /**
+     * The time zone details sorted by id, by their offset text
+     *
+     * @since 2.3.0
+     */
+    private final Map<String, List<ImmutableTimeZoneDetail>> timeZonesByOffsetText;
+
+    private TimeZoneCatalog(final List<ImmutableTimeZoneDetail> timeZones) {
+        Map<String, ImmutableTimeZoneDetail> byId = new HashMap<>();
+        Map<String, List<ImmutableTimeZoneDetail>> byOffsetText = new HashMap<>();
+        for (ImmutableTimeZoneDetail timeZone : timeZones) {
+            byId.put(timeZone.getId(), timeZone);
+            byOffsetText.computeIfAbsent(timeZone.getOffsetText(), key -> new ArrayList<>()).add(timeZone);
+        }
+        byOffsetText.replaceAll((offsetText, details) -> Collections.unmodifiableList(details));
+        this.timeZones = Collections.unmodifiableList(timeZones);
+        this.timeZonesById = Collections.unmodifiableMap(byId);
+        this.timeZonesByOffsetText = Collections.unmodifiableMap(byOffsetText);
+    }
+
+    /**
+     * Gets the snapshot of the time zones, building it on first use
+     *
+     * @return the shared time zone catalog
+     * @since 2.3.0
+     */
+    public static TimeZoneCatalog getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Gets all time zones
+     *
+     * @return the shared unmodifiable list of time zone details sorted by id
+     * @since 2.3.0
+     */
+    public List<ImmutableTimeZoneDetail> getTimeZones() {
+        return timeZones;
+    }
+
+    /**
+     * Gets a time zone by id
+     *
+     * @param timeZoneId the time zone id e.g. "Africa/Johannesburg"
+     * @return the time zone detail, or null if the id is not in the catalog
+     * @since 2.3.0
+     */
+    public ImmutableTimeZoneDetail getTimeZone(final String timeZoneId) {
+        return timeZonesById.get(timeZoneId);
+    }
+
+    /**
+     * Gets the time zones with an offset text
+     *
+     * @param offsetText the difference in hours and minutes from Coordinated Universal Time (UTC) e.g. "+02:00"
+     * @return the shared unmodifiable list of time zone details sorted by id, empty if no time zone has the offset text
+     * @since 2.3.0
+     */
+    public List<ImmutableTimeZoneDetail> getTimeZonesByOffsetText(final String offsetText) {
+        return timeZonesByOffsetText.getOrDefault(offsetText, Collections.emptyList());
+    }
+
+    /**
+     * Gets the offset texts of the catalog
+     *
+     * @return the unmodifiable set of the offset texts that at least one time zone has
+     * @since 2.3.0
+     */
+    public Set<String> getOffsetTexts() {
+        return timeZonesByOffsetText.keySet();
+    }
+
+    /**
+     * Copies time zone details of the snapshot into a new list that the caller can change
+     *
+     * @param timeZones the time zone details of the snapshot
+     * @return the new list of time zone details in the same order
+     * @since 2.3.0
+     */
+    static List<TimeZoneDetail> toTimeZoneDetails(final List<ImmutableTimeZoneDetail> timeZones) {
+        List<TimeZoneDetail> details = new ArrayList<>(timeZones.size());
+        for (ImmutableTimeZoneDetail timeZone : timeZones) {
+            details.add(timeZone.toTimeZoneDetail());
+        }
+        return details;
+    }
+
+    /**
+     * Builds the snapshot from the available time zone ids
+     *
+     * @return the new time zone catalog
+     * @since 2.3.0
+     */
+    private static TimeZoneCatalog load() {
+        List<ImmutableTimeZoneDetail> details = new ArrayList<>();
+        for (String id : TimeZone.getAvailableIDs()) {
+            if (id.matches(TIMEZONE_ID_PREFIXES)) {
+                TimeZone timeZone = ZoneRegistry.getTimeZone(id);
+                details.add(ImmutableTimeZoneDetail.getInstance(timeZone.getID(), timeZone.getDisplayName(), timeZone.getDisplayName(false, TimeZone.SHORT),
+                        timeZone.getRawOffset(), ZoneOffsetUtil.deduceZoneOffset(timeZone.getRawOffset())));
+            }
+        }
+        details.sort((first, second) -> first.getId().compareTo(second.getId()));
+        return new TimeZoneCatalog(details);
+    }
+
+    /**
+     * The lazy holder of the snapshot
+     *
+     * @since 2.3.0
+     */
+    private static final class Holder {
+
+        private static final TimeZoneCatalog INSTANCE = load();
+    }
+}
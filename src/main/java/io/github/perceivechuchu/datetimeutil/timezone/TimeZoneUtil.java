@@ -2,15 +2,16 @@ package io.github.perceivechuchu.datetimeutil.timezone;
 
 
 import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
-import io.github.perceivechuchu.datetimeutil.commons.model.ValidationEntry;
 import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.constant.MetricOperation;
+import io.github.perceivechuchu.datetimeutil.metrics.DateTimeMetrics;
+import io.github.perceivechuchu.datetimeutil.model.ImmutableTimeZoneDetail;
 import io.github.perceivechuchu.datetimeutil.model.TimeZoneDetail;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.TimeZone;
-import java.util.stream.Collectors;
 
 /**
  * This class is a utility for time zones
@@ -21,56 +22,74 @@ import java.util.stream.Collectors;
 public final class TimeZoneUtil {
 
     /**
-     * The regex for time zone id prefixes
+     * The GMT time zone value
      *
      * @since 1.0.0
      */
-    private static final String TIMEZONE_ID_PREFIXES = "^(Africa|America|Asia|Atlantic|Australia|Europe|Indian|Pacific)/.*";
+    private static final String ZONE_ID_GMT = "GMT";
 
     /**
-     * The GMT time zone value
+     * The default first year of the offset index used by the search at an instant
      *
-     * @since 1.0.0
+     * @since 2.3.0
      */
-    private static final String ZONE_ID_GMT = "GMT";
+    public static final int DEFAULT_OFFSET_INDEX_START_YEAR = 1970;
 
     /**
-     * The list that holds the retrieved time zones
+     * The default last year of the offset index used by the search at an instant
      *
-     * @since 1.0.0
+     * @since 2.3.0
      */
-    private static List<TimeZone> timeZones = null;
+    public static final int DEFAULT_OFFSET_INDEX_END_YEAR = ZoneOffsetTable.TABULATED_END_YEAR;
 
-    private TimeZoneUtil() {
-    }
+    /**
+     * The smallest year the offset index can start at
+     *
+     * @since 2.3.0
+     */
+    private static final int MINIMUM_OFFSET_INDEX_YEAR = 1;
 
     /**
-     * Gets all available time zones. This was implemented as a singleton to improve performance by fetching the already existing list in memory
+     * The largest year the offset index can end at
      *
-     * @return the list of all time zone details
-     * @since 1.0.0
+     * @since 2.3.0
      */
-    public static List<TimeZoneDetail> getAllTimeZones() {
-        if (timeZones == null) {
-            loadTimeZones();
-        }
-        return timeZones.stream().map(timeZone -> TimeZoneDetail.getInstance(timeZone.getID(), timeZone.getDisplayName(), getTimeZoneAbbreviation(timeZone.getID()), timeZone.getRawOffset(), ZoneOffsetUtil.deduceZoneOffset(timeZone.getRawOffset()))).collect(Collectors.toList());
+    private static final int MAXIMUM_OFFSET_INDEX_YEAR = 9999;
+
+    /**
+     * The first year of the offset index
+     *
+     * @since 2.3.0
+     */
+    private static int offsetIndexStartYear = DEFAULT_OFFSET_INDEX_START_YEAR;
+
+    /**
+     * The last year of the offset index
+     *
+     * @since 2.3.0
+     */
+    private static int offsetIndexEndYear = DEFAULT_OFFSET_INDEX_END_YEAR;
+
+    /**
+     * The offset index of the time zone catalog, built on first use
+     *
+     * @since 2.3.0
+     */
+    private static volatile ZoneOffsetIndex offsetIndex;
+
+    private TimeZoneUtil() {
     }
 
     /**
-     * Loads and sorts time zones
+     * Gets all available time zones. The time zone details are built once into a snapshot, see {@link TimeZoneCatalog},
+     * and every call returns a new list of copies that the caller can change
      *
+     * @return the list of all time zone details sorted by id
      * @since 1.0.0
      */
-    private static void loadTimeZones() {
-        timeZones = new ArrayList<>();
-        final String[] timeZoneIds = TimeZone.getAvailableIDs();
-        for (final String id : timeZoneIds) {
-            if (id.matches(TIMEZONE_ID_PREFIXES)) {
-                timeZones.add(TimeZone.getTimeZone(id));
-            }
-        }
-        timeZones.sort(Comparator.comparing(TimeZone::getID));
+    public static List<TimeZoneDetail> getAllTimeZones() {
+        long startTime = DateTimeMetrics.startTime();
+        return DateTimeMetrics.recordSuccess(MetricOperation.TIME_ZONE_SEARCH, startTime, TimeZoneCatalog.toTimeZoneDetails(TimeZoneCatalog.getInstance().getTimeZones()));
     }
 
     /**
@@ -82,8 +101,10 @@ public final class TimeZoneUtil {
      * @since 1.0.0
      */
     public static boolean isValidTimeZoneId(final String timeZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY));
-        return (timeZoneId.equals(ZONE_ID_GMT) || !TimeZone.getTimeZone(timeZoneId).getID().equals(ZONE_ID_GMT));
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
+        return DateTimeMetrics.recordOutcome(MetricOperation.TIME_ZONE_LOOKUP, startTime,
+                timeZoneId.equals(ZONE_ID_GMT) || !ZoneRegistry.getTimeZone(timeZoneId).getID().equals(ZONE_ID_GMT));
     }
 
     /**
@@ -95,11 +116,11 @@ public final class TimeZoneUtil {
      * @since 1.0.0
      */
     public static String getTimeZoneAbbreviation(final String timeZoneId) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY));
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
         if (!isValidTimeZoneId(timeZoneId)) {
             throw new IllegalArgumentException(ErrorMessages.TIME_ZONE_ID_INVALID);
         }
-        TimeZone timeZone = TimeZone.getTimeZone(timeZoneId);
+        TimeZone timeZone = ZoneRegistry.getTimeZone(timeZoneId);
         return timeZone.getDisplayName(false, java.util.TimeZone.SHORT);
     }
 
@@ -107,14 +128,69 @@ public final class TimeZoneUtil {
      * Search time zones by the offset text e.g. search by "+02:00"
      *
      * @param offsetText The difference in hours and minutes from Coordinated Universal Time (UTC) e.g. "+02:00"
-     * @return the list of time zone details
+     * @return the new list of copies of the time zone details sorted by id, looked up in the offset index of the snapshot
      * @throws IllegalArgumentException if parameter is not valid
      * @since 1.0.0
      */
     public static List<TimeZoneDetail> searchTimeZonesByOffsetText(final String offsetText) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(offsetText, ErrorMessages.TIME_OFFSET_TEXT_EMPTY));
-        List<TimeZoneDetail> timeZoneDetails = TimeZoneUtil.getAllTimeZones();
-        return timeZoneDetails.stream().filter(timeZoneDetail -> timeZoneDetail.getOffsetText().equals(offsetText)).collect(Collectors.toList());
+        ValidationUtil.rejectEmpty(offsetText, ErrorMessages.TIME_OFFSET_TEXT_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
+        return DateTimeMetrics.recordSuccess(MetricOperation.TIME_ZONE_SEARCH, startTime, TimeZoneCatalog.toTimeZoneDetails(TimeZoneCatalog.getInstance().getTimeZonesByOffsetText(offsetText)));
     }
 
+    /**
+     * Search time zones by the offset that applies at an instant, daylight saving included e.g. search by "+01:00" in July finds "Europe/London".
+     * The offsets are looked up in an index of the offset periods of every time zone, see {@link ZoneOffsetIndex}, so a search does a binary
+     * search per time zone. Instants outside the year range of the index are resolved through the ZoneRules
+     *
+     * @param offset  the offset from Coordinated Universal Time (UTC) e.g. ZoneOffset.ofHours(1)
+     * @param instant the instant at which the offset applies
+     * @return the unmodifiable list of the shared time zone details of the catalog sorted by id, see {@link TimeZoneCatalog}
+     * @throws IllegalArgumentException if parameter is not valid
+     * @since 2.3.0
+     */
+    public static List<ImmutableTimeZoneDetail> searchTimeZonesByOffset(final ZoneOffset offset, final Instant instant) {
+        ValidationUtil.rejectEmpty(offset, ErrorMessages.ZONE_OFFSET_NULL);
+        ValidationUtil.rejectEmpty(instant, ErrorMessages.INSTANT_NULL);
+        long startTime = DateTimeMetrics.startTime();
+        return DateTimeMetrics.recordSuccess(MetricOperation.TIME_ZONE_SEARCH, startTime, getOffsetIndex().getTimeZones(offset, instant));
+    }
+
+    /**
+     * Sets the range of years of the offset index used by the search at an instant. The index is rebuilt on the next search,
+     * and holds about two transitions per year for every time zone that observes daylight saving
+     *
+     * @param startYear the first year of the range e.g. 1970
+     * @param endYear   the last year of the range e.g. 2100
+     * @throws IllegalArgumentException if parameter is not valid
+     * @since 2.3.0
+     */
+    public static synchronized void setOffsetIndexYearRange(final int startYear, final int endYear) {
+        if (startYear > endYear || startYear < MINIMUM_OFFSET_INDEX_YEAR || endYear > MAXIMUM_OFFSET_INDEX_YEAR) {
+            throw new IllegalArgumentException(ErrorMessages.YEAR_RANGE_INVALID);
+        }
+        offsetIndexStartYear = startYear;
+        offsetIndexEndYear = endYear;
+        offsetIndex = null;
+    }
+
+    /**
+     * Gets the offset index of the time zone catalog, building it on first use
+     *
+     * @return the offset index
+     * @since 2.3.0
+     */
+    public static ZoneOffsetIndex getOffsetIndex() {
+        ZoneOffsetIndex index = offsetIndex;
+        if (index == null) {
+            synchronized (TimeZoneUtil.class) {
+                index = offsetIndex;
+                if (index == null) {
+                    index = ZoneOffsetIndex.of(TimeZoneCatalog.getInstance(), offsetIndexStartYear, offsetIndexEndYear);
+                    offsetIndex = index;
+                }
+            }
+        }
+        return index;
+    }
 }
@@ -0,0 +1,190 @@
+package io.github.perceivechuchu.datetimeutil.timezone;
+
+import io.github.perceivechuchu.datetimeutil.model.ImmutableTimeZoneDetail;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class is an immutable index of the offset periods of the time zones of a {@link TimeZoneCatalog} over a range of years.
+ * Every time zone has a table of the instants at which its offset changes, daylight saving included, so the offset of a time zone at an
+ * instant in the range is found with a binary search. Instants outside the range are resolved through the ZoneRules.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class ZoneOffsetIndex {
+
+    /**
+     * The first year of the range
+     *
+     * @since 2.3.0
+     */
+    private final int startYear;
+
+    /**
+     * The last year of the range
+     *
+     * @since 2.3.0
+     */
+    private final int endYear;
+
+    /**
+     * The first epoch second of the range
+     *
+     * @since 2.3.0
+     */
+    private final long startEpochSecond;
+
+    /**
+     * The first epoch second after the range
+     *
+     * @since 2.3.0
+     */
+    private final long endEpochSecond;
+
+    /**
+     * The time zone details in catalog order
+     *
+     * @since 2.3.0
+     */
+    private final ImmutableTimeZoneDetail[] timeZones;
+
+    /**
+     * The rules of every time zone, used outside the range
+     *
+     * @since 2.3.0
+     */
+    private final ZoneRules[] zoneRules;
+
+    /**
+     * The epoch seconds of the transitions of every time zone within the range, in ascending order
+     *
+     * @since 2.3.0
+     */
+    private final long[][] transitionSeconds;
+
+    /**
+     * The offsets in seconds of every time zone, where index 0 applies from the start of the range and index i + 1 applies after transition i
+     *
+     * @since 2.3.0
+     */
+    private final int[][] offsetSeconds;
+
+    private ZoneOffsetIndex(final List<ImmutableTimeZoneDetail> timeZones, final int startYear, final int endYear) {
+        int size = timeZones.size();
+        Instant start = LocalDateTime.of(startYear, 1, 1, 0, 0).toInstant(ZoneOffset.UTC);
+        Instant end = LocalDateTime.of(endYear + 1, 1, 1, 0, 0).toInstant(ZoneOffset.UTC);
+        this.startYear = startYear;
+        this.endYear = endYear;
+        this.startEpochSecond = start.getEpochSecond();
+        this.endEpochSecond = end.getEpochSecond();
+        this.timeZones = timeZones.toArray(new ImmutableTimeZoneDetail[0]);
+        this.zoneRules = new ZoneRules[size];
+        this.transitionSeconds = new long[size][];
+        this.offsetSeconds = new int[size][];
+        for (int i = 0; i < size; i++) {
+            ZoneRules rules = ZoneRegistry.getZoneRules(timeZones.get(i).getId());
+            List<ZoneOffsetTransition> transitions = new ArrayList<>();
+            ZoneOffsetTransition transition = rules.nextTransition(start);
+            while (transition != null && transition.getInstant().isBefore(end)) {
+                transitions.add(transition);
+                transition = rules.nextTransition(transition.getInstant());
+            }
+            zoneRules[i] = rules;
+            transitionSeconds[i] = new long[transitions.size()];
+            offsetSeconds[i] = new int[transitions.size() + 1];
+            offsetSeconds[i][0] = rules.getOffset(start).getTotalSeconds();
+            for (int j = 0; j < transitions.size(); j++) {
+                transitionSeconds[i][j] = transitions.get(j).getInstant().getEpochSecond();
+                offsetSeconds[i][j + 1] = transitions.get(j).getOffsetAfter().getTotalSeconds();
+            }
+        }
+    }
+
+    /**
+     * Builds the index for the time zones of a catalog
+     *
+     * @param catalog   the time zone catalog
+     * @param startYear the first year of the range
+     * @param endYear   the last year of the range
+     * @return the new offset index
+     * @since 2.3.0
+     */
+    static ZoneOffsetIndex of(final TimeZoneCatalog catalog, final int startYear, final int endYear) {
+        return new ZoneOffsetIndex(catalog.getTimeZones(), startYear, endYear);
+    }
+
+    /**
+     * Gets the time zones that have an offset at an instant, daylight saving included
+     *
+     * @param offset  the offset from Coordinated Universal Time (UTC)
+     * @param instant the instant at which the offset applies
+     * @return the unmodifiable list of the shared time zone details of the catalog sorted by id
+     * @since 2.3.0
+     */
+    public List<ImmutableTimeZoneDetail> getTimeZones(final ZoneOffset offset, final Instant instant) {
+        int target = offset.getTotalSeconds();
+        long epochSecond = instant.getEpochSecond();
+        boolean indexed = epochSecond >= startEpochSecond && epochSecond < endEpochSecond;
+        List<ImmutableTimeZoneDetail> result = null;
+        for (int i = 0; i < timeZones.length; i++) {
+            int zoneOffset = indexed ? offsetSeconds[i][countTransitions(transitionSeconds[i], epochSecond)] : zoneRules[i].getOffset(instant).getTotalSeconds();
+            if (zoneOffset == target) {
+                if (result == null) {
+                    result = new ArrayList<>();
+                }
+                result.add(timeZones[i]);
+            }
+        }
+        return result == null ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Gets the first year of the range
+     *
+     * @return the first year
+     * @since 2.3.0
+     */
+    public int getStartYear() {
+        return startYear;
+    }
+
+    /**
+     * Gets the last year of the range
+     *
+     * @return the last year
+     * @since 2.3.0
+     */
+    public int getEndYear() {
+        return endYear;
+    }
+
+    /**
+     * Counts the values of a sorted array that are less than or equal to a key
+     *
+     * @param sortedSeconds the sorted array
+     * @param key           the key to be looked up
+     * @return the number of values that are less than or equal to the key
+     * @since 2.3.0
+     */
+    private static int countTransitions(final long[] sortedSeconds, final long key) {
+        int low = 0;
+        int high = sortedSeconds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedSeconds[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
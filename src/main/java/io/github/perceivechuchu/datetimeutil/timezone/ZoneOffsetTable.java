@@ -0,0 +1,269 @@
+package io.github.perceivechuchu.datetimeutil.timezone;
+
+import io.github.perceivechuchu.datetimeutil.constant.DstGapPolicy;
+import io.github.perceivechuchu.datetimeutil.constant.DstOverlapPolicy;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is an immutable table of the offset transitions of a time zone, precomputed from its ZoneRules, that shifts
+ * epoch millis to local wall-clock millis and back with a binary search and without allocating objects.
+ * Local wall-clock millis are the epoch millis of the local date time read as if it were UTC.
+ * Transitions are tabulated up to the end of {@value #TABULATED_END_YEAR}; values beyond that are resolved through the ZoneRules.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class ZoneOffsetTable {
+
+    /**
+     * The year up to the end of which offset transitions are tabulated
+     *
+     * @since 2.3.0
+     */
+    public static final int TABULATED_END_YEAR = 2100;
+
+    /**
+     * The largest offset a time zone can have, in milliseconds
+     *
+     * @since 2.3.0
+     */
+    private static final long MAXIMUM_OFFSET_MILLIS = ZoneOffset.MAX.getTotalSeconds() * 1000L;
+
+    /**
+     * The rules the table was built from, used beyond the tabulated range
+     *
+     * @since 2.3.0
+     */
+    private final ZoneRules zoneRules;
+
+    /**
+     * The instants of the transitions in epoch millis, in ascending order
+     *
+     * @since 2.3.0
+     */
+    private final long[] transitionMillis;
+
+    /**
+     * The offsets in milliseconds, where index 0 applies before the first transition and index i + 1 applies after transition i
+     *
+     * @since 2.3.0
+     */
+    private final int[] offsetMillis;
+
+    /**
+     * The earliest local wall-clock millis affected by each transition, in ascending order
+     *
+     * @since 2.3.0
+     */
+    private final long[] localLowMillis;
+
+    /**
+     * The local wall-clock millis from which the offset after each transition applies unambiguously
+     *
+     * @since 2.3.0
+     */
+    private final long[] localHighMillis;
+
+    /**
+     * The epoch millis from which values are resolved through the ZoneRules
+     *
+     * @since 2.3.0
+     */
+    private final long tabulatedEndMillis;
+
+    private ZoneOffsetTable(final ZoneRules zoneRules, final List<ZoneOffsetTransition> transitions, final long tabulatedEndMillis) {
+        int size = transitions.size();
+        this.zoneRules = zoneRules;
+        this.transitionMillis = new long[size];
+        this.offsetMillis = new int[size + 1];
+        this.localLowMillis = new long[size];
+        this.localHighMillis = new long[size];
+        this.tabulatedEndMillis = tabulatedEndMillis;
+        this.offsetMillis[0] = size == 0 ? zoneRules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000 : transitions.get(0).getOffsetBefore().getTotalSeconds() * 1000;
+        for (int i = 0; i < size; i++) {
+            ZoneOffsetTransition transition = transitions.get(i);
+            long instantMillis = transition.getInstant().getEpochSecond() * 1000L;
+            int before = transition.getOffsetBefore().getTotalSeconds() * 1000;
+            int after = transition.getOffsetAfter().getTotalSeconds() * 1000;
+            transitionMillis[i] = instantMillis;
+            offsetMillis[i + 1] = after;
+            localLowMillis[i] = instantMillis + Math.min(before, after);
+            localHighMillis[i] = instantMillis + Math.max(before, after);
+        }
+    }
+
+    /**
+     * Builds the table for the rules of a time zone
+     *
+     * @param zoneRules the rules of the time zone
+     * @return the new offset table
+     * @since 2.3.0
+     */
+    static ZoneOffsetTable of(final ZoneRules zoneRules) {
+        List<ZoneOffsetTransition> transitions = new ArrayList<>(zoneRules.getTransitions());
+        if (zoneRules.getTransitionRules().isEmpty()) {
+            return new ZoneOffsetTable(zoneRules, transitions, Long.MAX_VALUE);
+        }
+        Instant tabulatedEnd = LocalDateTime.of(TABULATED_END_YEAR + 1, 1, 1, 0, 0).toInstant(ZoneOffset.UTC);
+        Instant from = transitions.isEmpty() ? LocalDateTime.of(1900, 1, 1, 0, 0).toInstant(ZoneOffset.UTC) : transitions.get(transitions.size() - 1).getInstant();
+        ZoneOffsetTransition transition = zoneRules.nextTransition(from);
+        while (transition != null && transition.getInstant().isBefore(tabulatedEnd)) {
+            transitions.add(transition);
+            transition = zoneRules.nextTransition(transition.getInstant());
+        }
+        return new ZoneOffsetTable(zoneRules, transitions, tabulatedEnd.toEpochMilli());
+    }
+
+    /**
+     * Gets the offset that applies at an instant
+     *
+     * @param epochMillis the instant in epoch millis
+     * @return the offset in milliseconds
+     * @since 2.3.0
+     */
+    public int getOffsetMillis(final long epochMillis) {
+        if (epochMillis >= tabulatedEndMillis) {
+            return zoneRules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000;
+        }
+        return offsetMillis[countTransitions(transitionMillis, epochMillis)];
+    }
+
+    /**
+     * Converts an instant to the local wall-clock millis of the time zone
+     *
+     * @param epochMillis the instant in epoch millis
+     * @return the local wall-clock millis
+     * @throws ArithmeticException if the result overflows a long
+     * @since 2.3.0
+     */
+    public long toLocalMillis(final long epochMillis) {
+        return Math.addExact(epochMillis, getOffsetMillis(epochMillis));
+    }
+
+    /**
+     * Converts local wall-clock millis of the time zone to an instant, resolving daylight saving gaps and overlaps with the supplied policies
+     *
+     * @param localMillis   the local wall-clock millis
+     * @param gapPolicy     the policy for local times that do not exist in the time zone
+     * @param overlapPolicy the policy for local times that occur twice in the time zone
+     * @return the instant in epoch millis
+     * @throws DateTimeConversionException if the local time is rejected by one of the policies
+     * @throws ArithmeticException         if the result overflows a long
+     * @since 2.3.0
+     */
+    public long toEpochMillis(final long localMillis, final DstGapPolicy gapPolicy, final DstOverlapPolicy overlapPolicy) {
+        if (localMillis >= tabulatedEndMillis - MAXIMUM_OFFSET_MILLIS) {
+            return toEpochMillisWithRules(localMillis, gapPolicy, overlapPolicy);
+        }
+        int count = countTransitions(localLowMillis, localMillis);
+        if (count == 0 || localMillis >= localHighMillis[count - 1]) {
+            return Math.subtractExact(localMillis, offsetMillis[count]);
+        }
+        int transition = count - 1;
+        return resolve(localMillis, transitionMillis[transition], offsetMillis[transition], offsetMillis[count], gapPolicy, overlapPolicy);
+    }
+
+    /**
+     * Gets the rules the table was built from
+     *
+     * @return the rules of the time zone
+     * @since 2.3.0
+     */
+    public ZoneRules getZoneRules() {
+        return zoneRules;
+    }
+
+    /**
+     * Gets the number of transitions in the table
+     *
+     * @return the number of tabulated transitions
+     * @since 2.3.0
+     */
+    public int size() {
+        return transitionMillis.length;
+    }
+
+    /**
+     * Converts local wall-clock millis beyond the tabulated range to an instant through the ZoneRules
+     *
+     * @param localMillis   the local wall-clock millis
+     * @param gapPolicy     the policy for local times that do not exist in the time zone
+     * @param overlapPolicy the policy for local times that occur twice in the time zone
+     * @return the instant in epoch millis
+     * @since 2.3.0
+     */
+    private long toEpochMillisWithRules(final long localMillis, final DstGapPolicy gapPolicy, final DstOverlapPolicy overlapPolicy) {
+        LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L), 0, ZoneOffset.UTC);
+        ZoneOffsetTransition transition = zoneRules.getTransition(localDateTime);
+        if (transition == null) {
+            return Math.subtractExact(localMillis, zoneRules.getOffset(localDateTime).getTotalSeconds() * 1000L);
+        }
+        return resolve(localMillis, transition.getInstant().getEpochSecond() * 1000L, transition.getOffsetBefore().getTotalSeconds() * 1000,
+                transition.getOffsetAfter().getTotalSeconds() * 1000, gapPolicy, overlapPolicy);
+    }
+
+    /**
+     * Resolves local wall-clock millis that fall in the gap or overlap of a transition
+     *
+     * @param localMillis    the local wall-clock millis
+     * @param instantMillis  the instant of the transition in epoch millis
+     * @param before         the offset before the transition in milliseconds
+     * @param after          the offset after the transition in milliseconds
+     * @param gapPolicy      the policy for local times that do not exist in the time zone
+     * @param overlapPolicy  the policy for local times that occur twice in the time zone
+     * @return the instant in epoch millis
+     * @since 2.3.0
+     */
+    private static long resolve(final long localMillis, final long instantMillis, final int before, final int after,
+                                final DstGapPolicy gapPolicy, final DstOverlapPolicy overlapPolicy) {
+        if (after > before) {
+            switch (gapPolicy) {
+                case SHIFT_FORWARD:
+                    return Math.subtractExact(localMillis, before);
+                case NEXT_VALID_TIME:
+                    return instantMillis;
+                default:
+                    throw new DateTimeConversionException(ErrorMessages.LOCAL_TIME_IN_GAP);
+            }
+        }
+        switch (overlapPolicy) {
+            case EARLIER_OFFSET:
+                return Math.subtractExact(localMillis, before);
+            case LATER_OFFSET:
+                return Math.subtractExact(localMillis, after);
+            default:
+                throw new DateTimeConversionException(ErrorMessages.LOCAL_TIME_IN_OVERLAP);
+        }
+    }
+
+    /**
+     * Counts the values of a sorted array that are less than or equal to a key
+     *
+     * @param sortedMillis the sorted array
+     * @param key          the key to be looked up
+     * @return the number of values that are less than or equal to the key
+     * @since 2.3.0
+     */
+    private static int countTransitions(final long[] sortedMillis, final long key) {
+        int low = 0;
+        int high = sortedMillis.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedMillis[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
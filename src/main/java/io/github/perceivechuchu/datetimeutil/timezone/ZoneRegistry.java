@@ -0,0 +1,251 @@
+package io.github.perceivechuchu.datetimeutil.timezone;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.time.zone.ZoneRulesException;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class is a central registry that resolves each time zone id once into a shared ZoneId and its ZoneRules.
+ * Reads are lock-free map lookups, and ids that fail to resolve are remembered so that invalid input does not pay for
+ * parsing and rule provider lookups again.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class ZoneRegistry {
+
+    /**
+     * The maximum number of entries held by each of the registry maps. Ids beyond this limit are still resolved but not remembered
+     *
+     * @since 2.3.0
+     */
+    public static final int MAXIMUM_ENTRIES = 4096;
+
+    /**
+     * The holder for the resolved zones
+     *
+     * @since 2.3.0
+     */
+    private static final ConcurrentMap<String, ZoneEntry> zones = new ConcurrentHashMap<>();
+
+    /**
+     * The holder for the ids that failed to resolve
+     *
+     * @since 2.3.0
+     */
+    private static final ConcurrentMap<String, InvalidZoneEntry> invalidZones = new ConcurrentHashMap<>();
+
+    /**
+     * The holder for the resolved java.util.TimeZone objects. These are mutable, so they are only shared within this package
+     *
+     * @since 2.3.0
+     */
+    private static final ConcurrentMap<String, TimeZone> timeZones = new ConcurrentHashMap<>();
+
+    private ZoneRegistry() {
+    }
+
+    /**
+     * Gets the ZoneId for a time zone id
+     *
+     * @param timeZoneId the time zone id to be resolved e.g. "Africa/Johannesburg"
+     * @return the shared ZoneId for the supplied time zone id
+     * @throws IllegalArgumentException if parameter is not valid
+     * @throws DateTimeException        if the time zone id has an invalid format or cannot be found
+     * @since 2.3.0
+     */
+    public static ZoneId getZoneId(final String timeZoneId) {
+        return resolve(timeZoneId).zoneId;
+    }
+
+    /**
+     * Gets the ZoneRules for a time zone id
+     *
+     * @param timeZoneId the time zone id to be resolved e.g. "Africa/Johannesburg"
+     * @return the shared ZoneRules for the supplied time zone id
+     * @throws IllegalArgumentException if parameter is not valid
+     * @throws DateTimeException        if the time zone id has an invalid format or cannot be found
+     * @since 2.3.0
+     */
+    public static ZoneRules getZoneRules(final String timeZoneId) {
+        return resolve(timeZoneId).zoneRules;
+    }
+
+    /**
+     * Gets the table of offset transitions for a time zone id. The table is built on first use and shared afterwards
+     *
+     * @param timeZoneId the time zone id to be resolved e.g. "Africa/Johannesburg"
+     * @return the shared offset table for the supplied time zone id
+     * @throws IllegalArgumentException if parameter is not valid
+     * @throws DateTimeException        if the time zone id has an invalid format or cannot be found
+     * @since 2.3.0
+     */
+    public static ZoneOffsetTable getZoneOffsetTable(final String timeZoneId) {
+        ZoneEntry entry = resolve(timeZoneId);
+        ZoneOffsetTable offsetTable = entry.offsetTable;
+        if (offsetTable == null) {
+            // Concurrent first calls may each build a table, they are equal and only one is kept
+            offsetTable = ZoneOffsetTable.of(entry.zoneRules);
+            entry.offsetTable = offsetTable;
+        }
+        return offsetTable;
+    }
+
+    /**
+     * Checks if a time zone id can be resolved to a ZoneId
+     *
+     * @param timeZoneId the time zone id to be checked e.g. "Africa/Johannesburg"
+     * @return the boolean value showing the validation result: "true or false"
+     * @throws IllegalArgumentException if parameter is not valid
+     * @since 2.3.0
+     */
+    public static boolean isResolvable(final String timeZoneId) {
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        if (zones.containsKey(timeZoneId)) {
+            return true;
+        }
+        if (invalidZones.containsKey(timeZoneId)) {
+            return false;
+        }
+        try {
+            resolve(timeZoneId);
+            return true;
+        } catch (DateTimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the java.util.TimeZone for a time zone id. The returned object is shared and must not be modified
+     *
+     * @param timeZoneId the time zone id to be resolved e.g. "Africa/Johannesburg"
+     * @return the time zone for the supplied id, or the GMT zone if the id is not understood
+     * @throws IllegalArgumentException if parameter is not valid
+     * @since 2.3.0
+     */
+    static TimeZone getTimeZone(final String timeZoneId) {
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        TimeZone timeZone = timeZones.get(timeZoneId);
+        if (timeZone == null) {
+            timeZone = TimeZone.getTimeZone(timeZoneId);
+            if (timeZones.size() < MAXIMUM_ENTRIES) {
+                TimeZone existing = timeZones.putIfAbsent(timeZoneId, timeZone);
+                timeZone = existing == null ? timeZone : existing;
+            }
+        }
+        return timeZone;
+    }
+
+    /**
+     * Gets a copy of the java.util.TimeZone for a time zone id, which can be handed to a Calendar. Only the copy is allocated, the time zone
+     * is resolved once and shared by the registry
+     *
+     * @param timeZoneId the time zone id to be resolved e.g. "Africa/Johannesburg"
+     * @return the new copy of the time zone for the supplied id
+     * @throws IllegalArgumentException if parameter is not valid
+     * @throws DateTimeException        if the time zone id has an invalid format or cannot be found
+     * @since 2.3.0
+     */
+    public static TimeZone copyTimeZone(final String timeZoneId) {
+        ZoneId zoneId = resolve(timeZoneId).zoneId;
+        TimeZone timeZone = getTimeZone(timeZoneId);
+        // java.util.TimeZone falls back to GMT for offset ids such as "+02:00", they are converted from the normalized ZoneId instead
+        if ("GMT".equals(timeZone.getID()) && !"GMT".equals(timeZoneId)) {
+            return TimeZone.getTimeZone(zoneId.normalized());
+        }
+        return (TimeZone) timeZone.clone();
+    }
+
+    /**
+     * Removes all resolved and invalid entries from the registry
+     *
+     * @since 2.3.0
+     */
+    public static void clear() {
+        zones.clear();
+        invalidZones.clear();
+        timeZones.clear();
+    }
+
+    /**
+     * Resolves a time zone id into its zone entry, consulting the registry before ZoneId.of
+     *
+     * @param timeZoneId the time zone id to be resolved e.g. "Africa/Johannesburg"
+     * @return the zone entry for the supplied time zone id
+     * @throws IllegalArgumentException if parameter is not valid
+     * @throws DateTimeException        if the time zone id has an invalid format or cannot be found
+     * @since 2.3.0
+     */
+    private static ZoneEntry resolve(final String timeZoneId) {
+        ValidationUtil.rejectEmpty(timeZoneId, ErrorMessages.TIME_ZONE_ID_EMPTY);
+        ZoneEntry entry = zones.get(timeZoneId);
+        if (entry != null) {
+            return entry;
+        }
+        InvalidZoneEntry invalidEntry = invalidZones.get(timeZoneId);
+        if (invalidEntry != null) {
+            throw invalidEntry.toException();
+        }
+        try {
+            ZoneId zoneId = ZoneId.of(timeZoneId);
+            entry = new ZoneEntry(zoneId, zoneId.getRules());
+        } catch (DateTimeException e) {
+            if (invalidZones.size() < MAXIMUM_ENTRIES) {
+                invalidZones.putIfAbsent(timeZoneId, new InvalidZoneEntry(e));
+            }
+            throw e;
+        }
+        if (zones.size() < MAXIMUM_ENTRIES) {
+            ZoneEntry existing = zones.putIfAbsent(timeZoneId, entry);
+            entry = existing == null ? entry : existing;
+        }
+        return entry;
+    }
+
+    /**
+     * The resolved pair of a ZoneId and its ZoneRules
+     *
+     * @since 2.3.0
+     */
+    private static final class ZoneEntry {
+
+        private final ZoneId zoneId;
+
+        private final ZoneRules zoneRules;
+
+        private volatile ZoneOffsetTable offsetTable;
+
+        private ZoneEntry(final ZoneId zoneId, final ZoneRules zoneRules) {
+            this.zoneId = zoneId;
+            this.zoneRules = zoneRules;
+        }
+    }
+
+    /**
+     * The remembered outcome of a time zone id that failed to resolve
+     *
+     * @since 2.3.0
+     */
+    private static final class InvalidZoneEntry {
+
+        private final String message;
+
+        private final boolean rulesException;
+
+        private InvalidZoneEntry(final DateTimeException exception) {
+            this.message = exception.getMessage();
+            this.rulesException = exception instanceof ZoneRulesException;
+        }
+
+        private DateTimeException toException() {
+            return rulesException ? new ZoneRulesException(message) : new DateTimeException(message);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class is the immutable catalog of date format patterns loaded from the formats file, together with the
+ * structures precomputed from it. A catalog is fully built before it is published, so it can be shared by all threads
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+final class DateFormatCatalog {
+
+    /**
+     * The section header of the ISO-8601 patterns, which are part of the catalog of every locale
+     *
+     * @since 2.3.0
+     */
+    private static final String ISO_8601_SECTION = "ISO_8601_Formats";
+
+    /**
+     * The locales of the section headers in the formats file
+     *
+     * @since 2.3.0
+     */
+    private static final Map<String, Locale> sectionLocales = createSectionLocales();
+
+    /**
+     * The date format patterns in file order
+     *
+     * @since 2.3.0
+     */
+    private final List<String> dateFormats;
+
+    /**
+     * The section header of every date format pattern, null for patterns that belong to every locale
+     *
+     * @since 2.3.0
+     */
+    private final List<String> sections;
+
+    /**
+     * The index of the date format patterns by the shape of the text they can match
+     *
+     * @since 2.3.0
+     */
+    private final DateFormatShapeIndex shapeIndex;
+
+    /**
+     * The catalogs of the sections of each locale, built on first use
+     *
+     * @since 2.3.0
+     */
+    private final ConcurrentMap<Locale, DateFormatCatalog> localeCatalogs = new ConcurrentHashMap<>();
+
+    private DateFormatCatalog(final List<String> dateFormats, final List<String> sections) {
+        this.dateFormats = Collections.unmodifiableList(dateFormats);
+        this.sections = sections;
+        this.shapeIndex = DateFormatShapeIndex.build(dateFormats);
+    }
+
+    /**
+     * Builds the catalog from date format patterns that belong to every locale
+     *
+     * @param dateFormats the date format patterns in file order
+     * @return the new catalog
+     * @since 2.3.0
+     */
+    static DateFormatCatalog of(final List<String> dateFormats) {
+        return new DateFormatCatalog(new ArrayList<>(dateFormats), new ArrayList<>(Collections.nCopies(dateFormats.size(), (String) null)));
+    }
+
+    /**
+     * Builds the catalog from date format patterns and the section headers they appear under
+     *
+     * @param dateFormats the date format patterns in file order
+     * @param sections    the section header of every date format pattern, null for patterns that belong to every locale
+     * @return the new catalog
+     * @since 2.3.0
+     */
+    static DateFormatCatalog of(final List<String> dateFormats, final List<String> sections) {
+        return new DateFormatCatalog(new ArrayList<>(dateFormats), new ArrayList<>(sections));
+    }
+
+    /**
+     * Gets the date format patterns in file order
+     *
+     * @return the unmodifiable list of date format patterns
+     * @since 2.3.0
+     */
+    List<String> getDateFormats() {
+        return dateFormats;
+    }
+
+    /**
+     * Gets the catalog of the ISO-8601 patterns and the sections for the language, and country when both have one, of the locale
+     *
+     * @param locale the locale for the date time text
+     * @return the catalog of the locale, built once per locale
+     * @since 2.3.0
+     */
+    DateFormatCatalog forLocale(final Locale locale) {
+        return localeCatalogs.computeIfAbsent(locale, this::createLocaleCatalog);
+    }
+
+    /**
+     * Gets the patterns that could match the supplied text, in file order
+     *
+     * @param dateTimeText the date time text to be validated
+     * @return the candidate date format patterns
+     * @since 2.3.0
+     */
+    String[] getCandidates(final String dateTimeText) {
+        return shapeIndex.getCandidates(dateTimeText);
+    }
+
+    /**
+     * Gets the catalog positions of the patterns that could match the supplied text, in catalog order
+     *
+     * @param dateTimeText the date time text to be validated
+     * @return the catalog positions of the candidate date format patterns
+     * @since 2.3.0
+     */
+    int[] getCandidateOrdinals(final String dateTimeText) {
+        return shapeIndex.getCandidateOrdinals(dateTimeText);
+    }
+
+    /**
+     * Gets the date format pattern at a catalog position
+     *
+     * @param ordinal the catalog position
+     * @return the date format pattern
+     * @since 2.3.0
+     */
+    String getDateFormat(final int ordinal) {
+        return dateFormats.get(ordinal);
+    }
+
+    /**
+     * Gets the number of date format patterns in the catalog
+     *
+     * @return the number of date format patterns
+     * @since 2.3.0
+     */
+    int size() {
+        return dateFormats.size();
+    }
+
+    /**
+     * Builds the catalog of the patterns of this catalog that belong to the locale
+     *
+     * @param locale the locale for the date time text
+     * @return the new catalog of the locale
+     * @since 2.3.0
+     */
+    private DateFormatCatalog createLocaleCatalog(final Locale locale) {
+        List<String> localeDateFormats = new ArrayList<>();
+        List<String> localeSections = new ArrayList<>();
+        for (int i = 0; i < dateFormats.size(); i++) {
+            String section = sections.get(i);
+            if (section == null || ISO_8601_SECTION.equals(section) || matches(sectionLocales.get(section), locale)) {
+                localeDateFormats.add(dateFormats.get(i));
+                localeSections.add(section);
+            }
+        }
+        return new DateFormatCatalog(localeDateFormats, localeSections);
+    }
+
+    /**
+     * Checks if the locale of a section applies to a locale, which requires the same language and the same country when both have one
+     *
+     * @param sectionLocale the locale of the section, null for an unknown section
+     * @param locale        the locale for the date time text
+     * @return the boolean flag to indicate that the section applies
+     * @since 2.3.0
+     */
+    private static boolean matches(final Locale sectionLocale, final Locale locale) {
+        if (sectionLocale == null || !sectionLocale.getLanguage().equals(locale.getLanguage())) {
+            return false;
+        }
+        return sectionLocale.getCountry().isEmpty() || locale.getCountry().isEmpty() || sectionLocale.getCountry().equals(locale.getCountry());
+    }
+
+    /**
+     * Creates the locales of the section headers in the formats file
+     *
+     * @return the unmodifiable map of section headers to locales
+     * @since 2.3.0
+     */
+    private static Map<String, Locale> createSectionLocales() {
+        Map<String, Locale> locales = new HashMap<>();
+        locales.put("Belarussian_Formats", new Locale("be"));
+        locales.put("Czech_Formats", new Locale("cs"));
+        locales.put("Danish_Formats", new Locale("da"));
+        locales.put("Germany_Formats", new Locale("de"));
+        locales.put("English_Canada_Formats", new Locale("en", "CA"));
+        locales.put("English_United_Kingdom_Formats", new Locale("en", "GB"));
+        locales.put("English_United_States_Formats", new Locale("en", "US"));
+        locales.put("Spanish_Formats", new Locale("es"));
+        locales.put("Estonian_Formats", new Locale("et"));
+        locales.put("Finnish_Formats", new Locale("fi"));
+        locales.put("French_Canada_Formats", new Locale("fr", "CA"));
+        locales.put("French_France_Formats", new Locale("fr", "FR"));
+        locales.put("Irish_Formats", new Locale("ga"));
+        locales.put("Croatian_Formats", new Locale("hr"));
+        locales.put("Hungarian_Formats", new Locale("hu"));
+        locales.put("Icelandic_Formats", new Locale("is"));
+        locales.put("Italian_Italy_Formats", new Locale("it", "IT"));
+        locales.put("Hebrew_Formats", new Locale("he"));
+        locales.put("Japanese_Japan_Formats", new Locale("ja", "JP"));
+        locales.put("Korean_Formats", new Locale("ko"));
+        locales.put("Lithuanian_Formats", new Locale("lt"));
+        locales.put("Latvian_Formats", new Locale("lv"));
+        locales.put("Macedonian_Formats", new Locale("mk"));
+        locales.put("Dutch_Formats", new Locale("nl"));
+        locales.put("Portuguese_Formats", new Locale("pt"));
+        locales.put("Russian_Formats", new Locale("ru"));
+        locales.put("Albanian_Formats", new Locale("sq"));
+        locales.put("Serbian_Formats", new Locale("sr"));
+        locales.put("Vietnamese_Formats", new Locale("vi"));
+        locales.put("Chinese_China_Formats", new Locale("zh", "CN"));
+        return Collections.unmodifiableMap(locales);
+    }
+}
@@ -0,0 +1,263 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class indexes date format patterns by the shape of the text they can match, so that validation only tries the
+ * patterns that could possibly parse a given input.
+ * <p>
+ * The shape of a text is the sequence of its separator characters (anything that is not a letter, digit or whitespace),
+ * whether it contains letters and its length. Patterns made up of numeric fields only are grouped by their exact separator
+ * sequence, as numeric fields consume nothing but digits and leading whitespace. The remaining patterns contain text or
+ * zone fields that may consume separators, so they are only required to find their literal separators in order, to have
+ * letters available when they need them and to fit in the text.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+final class DateFormatShapeIndex {
+
+    /**
+     * The pattern letters that are always parsed as numbers
+     *
+     * @since 2.3.0
+     */
+    private static final String NUMERIC_FIELDS = "yYdDFwWuHhkKmsS";
+
+    /**
+     * The pattern letters that can only be parsed from text containing letters e.g. era, day name and am/pm marker
+     *
+     * @since 2.3.0
+     */
+    private static final String LETTER_FIELDS = "GEa";
+
+    /**
+     * The date format patterns in catalog order
+     *
+     * @since 2.3.0
+     */
+    private final String[] dateFormatPatterns;
+
+    /**
+     * The catalog positions of the numeric-only patterns grouped by their separator sequence
+     *
+     * @since 2.3.0
+     */
+    private final Map<String, int[]> numericPatternsBySeparators;
+
+    /**
+     * The shapes of the patterns that contain text or zone fields
+     *
+     * @since 2.3.0
+     */
+    private final PatternShape[] textPatternShapes;
+
+    private DateFormatShapeIndex(final String[] dateFormatPatterns, final Map<String, int[]> numericPatternsBySeparators, final PatternShape[] textPatternShapes) {
+        this.dateFormatPatterns = dateFormatPatterns;
+        this.numericPatternsBySeparators = numericPatternsBySeparators;
+        this.textPatternShapes = textPatternShapes;
+    }
+
+    /**
+     * Builds the shape index for the date format patterns
+     *
+     * @param dateFormatPatterns the date format patterns in catalog order
+     * @return the shape index for the supplied patterns
+     * @since 2.3.0
+     */
+    static DateFormatShapeIndex build(final List<String> dateFormatPatterns) {
+        Map<String, List<Integer>> numericGroups = new HashMap<>();
+        List<PatternShape> textShapes = new ArrayList<>();
+        for (int ordinal = 0; ordinal < dateFormatPatterns.size(); ordinal++) {
+            PatternShape shape = PatternShape.of(ordinal, dateFormatPatterns.get(ordinal));
+            if (shape.numericOnly) {
+                numericGroups.computeIfAbsent(shape.separators, key -> new ArrayList<>()).add(ordinal);
+            } else {
+                textShapes.add(shape);
+            }
+        }
+        Map<String, int[]> numericPatternsBySeparators = new HashMap<>();
+        numericGroups.forEach((separators, ordinals) -> numericPatternsBySeparators.put(separators, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+        return new DateFormatShapeIndex(dateFormatPatterns.toArray(new String[0]), numericPatternsBySeparators, textShapes.toArray(new PatternShape[0]));
+    }
+
+    /**
+     * Gets the patterns that could match the supplied text, in catalog order
+     *
+     * @param dateTimeText the date time text to be validated
+     * @return the candidate date format patterns, empty if no pattern can match the text
+     * @since 2.3.0
+     */
+    String[] getCandidates(final String dateTimeText) {
+        int[] ordinals = getCandidateOrdinals(dateTimeText);
+        String[] candidates = new String[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            candidates[i] = dateFormatPatterns[ordinals[i]];
+        }
+        return candidates;
+    }
+
+    /**
+     * Gets the catalog positions of the patterns that could match the supplied text, in catalog order
+     *
+     * @param dateTimeText the date time text to be validated
+     * @return the catalog positions of the candidate date format patterns, empty if no pattern can match the text
+     * @since 2.3.0
+     */
+    int[] getCandidateOrdinals(final String dateTimeText) {
+        StringBuilder separators = new StringBuilder();
+        boolean hasLetters = false;
+        for (int i = 0; i < dateTimeText.length(); i++) {
+            char c = dateTimeText.charAt(i);
+            if (Character.isLetter(c)) {
+                hasLetters = true;
+            } else if (isSeparator(c)) {
+                separators.append(c);
+            }
+        }
+        String textSeparators = separators.toString();
+        int[] numericOrdinals = hasLetters ? null : numericPatternsBySeparators.get(textSeparators);
+        int numericCount = numericOrdinals == null ? 0 : numericOrdinals.length;
+        int[] ordinals = new int[numericCount + textPatternShapes.length];
+        if (numericOrdinals != null) {
+            System.arraycopy(numericOrdinals, 0, ordinals, 0, numericCount);
+        }
+        int count = numericCount;
+        for (PatternShape shape : textPatternShapes) {
+            if (shape.admits(dateTimeText.length(), hasLetters, textSeparators)) {
+                ordinals[count++] = shape.ordinal;
+            }
+        }
+        Arrays.sort(ordinals, 0, count);
+        return count == ordinals.length ? ordinals : Arrays.copyOf(ordinals, count);
+    }
+
+    /**
+     * Gets the number of patterns held by the index
+     *
+     * @return the number of indexed patterns
+     * @since 2.3.0
+     */
+    int size() {
+        return dateFormatPatterns.length;
+    }
+
+    /**
+     * Checks if a character is a separator, i.e. neither a letter, a digit nor whitespace
+     *
+     * @param c the character to be checked
+     * @return the boolean flag to indicate that the character is a separator
+     * @since 2.3.0
+     */
+    private static boolean isSeparator(final char c) {
+        return !Character.isLetterOrDigit(c) && !Character.isWhitespace(c);
+    }
+
+    /**
+     * The shape of a single date format pattern
+     *
+     * @since 2.3.0
+     */
+    private static final class PatternShape {
+
+        private final int ordinal;
+
+        private final String separators;
+
+        private final boolean numericOnly;
+
+        private final boolean requiresLetters;
+
+        private final int minimumLength;
+
+        private PatternShape(final int ordinal, final String separators, final boolean numericOnly, final boolean requiresLetters, final int minimumLength) {
+            this.ordinal = ordinal;
+            this.separators = separators;
+            this.numericOnly = numericOnly;
+            this.requiresLetters = requiresLetters;
+            this.minimumLength = minimumLength;
+        }
+
+        /**
+         * Derives the shape of a date format pattern from its fields and literals
+         *
+         * @param ordinal           the catalog position of the pattern
+         * @param dateFormatPattern the date format pattern e.g. "dd.MM.yyyy HH:mm"
+         * @return the shape of the pattern
+         * @since 2.3.0
+         */
+        private static PatternShape of(final int ordinal, final String dateFormatPattern) {
+            StringBuilder separators = new StringBuilder();
+            boolean numericOnly = true;
+            boolean requiresLetters = false;
+            int minimumLength = 0;
+            int i = 0;
+            while (i < dateFormatPattern.length()) {
+                char c = dateFormatPattern.charAt(i);
+                if (c == '\'') {
+                    int end = dateFormatPattern.indexOf('\'', i + 1);
+                    end = end < 0 ? dateFormatPattern.length() : end;
+                    if (end == i + 1) {
+                        separators.append('\'');
+                        minimumLength++;
+                    }
+                    for (int j = i + 1; j < end; j++) {
+                        char literal = dateFormatPattern.charAt(j);
+                        if (Character.isLetter(literal)) {
+                            numericOnly = false;
+                            requiresLetters = true;
+                        } else if (isSeparator(literal)) {
+                            separators.append(literal);
+                        }
+                        minimumLength += Character.isWhitespace(literal) ? 0 : 1;
+                    }
+                    i = end + 1;
+                } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                    int end = i;
+                    while (end < dateFormatPattern.length() && dateFormatPattern.charAt(end) == c) {
+                        end++;
+                    }
+                    boolean numericField = NUMERIC_FIELDS.indexOf(c) >= 0 || ((c == 'M' || c == 'L') && end - i <= 2);
+                    numericOnly &= numericField;
+                    requiresLetters |= LETTER_FIELDS.indexOf(c) >= 0 || ((c == 'M' || c == 'L') && end - i > 2);
+                    minimumLength++;
+                    i = end;
+                } else {
+                    if (isSeparator(c)) {
+                        separators.append(c);
+                    }
+                    minimumLength += Character.isWhitespace(c) ? 0 : 1;
+                    i++;
+                }
+            }
+            return new PatternShape(ordinal, separators.toString(), numericOnly, requiresLetters, minimumLength);
+        }
+
+        /**
+         * Checks if a text with the supplied shape could be matched by this pattern
+         *
+         * @param length         the length of the text
+         * @param hasLetters     the flag to indicate that the text contains letters
+         * @param textSeparators the separator sequence of the text
+         * @return the boolean flag to indicate that the pattern is a candidate for the text
+         * @since 2.3.0
+         */
+        private boolean admits(final int length, final boolean hasLetters, final String textSeparators) {
+            if (length < minimumLength || (requiresLetters && !hasLetters)) {
+                return false;
+            }
+            int position = 0;
+            for (int i = 0; i < separators.length(); i++) {
+                position = textSeparators.indexOf(separators.charAt(i), position) + 1;
+                if (position == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
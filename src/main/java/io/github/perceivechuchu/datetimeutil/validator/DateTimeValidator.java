@@ -1,16 +1,22 @@
 package io.github.perceivechuchu.datetimeutil.validator;
 
-import io.github.perceivechuchu.datetimeutil.commons.model.ValidationEntry;
 import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ConversionErrorCode;
 import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.constant.FormatCatalogScope;
+import io.github.perceivechuchu.datetimeutil.constant.MetricOperation;
 import io.github.perceivechuchu.datetimeutil.exception.DateTimeValidationException;
+import io.github.perceivechuchu.datetimeutil.metrics.DateTimeMetrics;
+import io.github.perceivechuchu.datetimeutil.model.ConversionResult;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.time.DateUtils;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.text.ParseException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -33,17 +39,24 @@ public class DateTimeValidator {
     protected static String fileLocation = "datetime/formats/all_formats.txt";
 
     /**
-     * The holder for all the date format list items
+     * The holder for the immutable catalog of date format patterns. It is only assigned once the catalog is fully built
      *
-     * @since 2.1.0
+     * @since 2.3.0
+     */
+    private static volatile DateFormatCatalog catalog;
+
+    /**
+     * The part of the catalog a locale supplied to the validation methods is validated against
+     *
+     * @since 2.3.0
      */
-    protected static List<String> dateFormats;
+    private static volatile FormatCatalogScope catalogScope = FormatCatalogScope.LOCALE_SECTIONS;
 
     private DateTimeValidator() {
     }
 
     /**
-     * Validates the date and time in textual format. This method uses the default locale: "Locale.ENGLISH"
+     * Validates the date and time in textual format against the patterns of every section of the catalog. This method uses the default locale: "Locale.ENGLISH"
      *
      * @param dateTimeText the date time text to be validated
      * @return the boolean flag to indicate validity of the supplied datetime text
@@ -51,11 +64,13 @@ public class DateTimeValidator {
      * @since 2.1.0
      */
     public static boolean isValid(String dateTimeText) {
-        return isValid(dateTimeText, Locale.ENGLISH);
+        ValidationUtil.rejectEmpty(dateTimeText, ErrorMessages.DATE_TIME_TEXT_EMPTY);
+        return validate(dateTimeText, Locale.ENGLISH, getCatalog());
     }
 
     /**
-     * Validates the date and time in textual format with the locale
+     * Validates the date and time in textual format with the locale. The text is validated against the ISO-8601 patterns and the
+     * patterns of the sections for the locale, or against every pattern when the catalog scope is "FormatCatalogScope.ALL_SECTIONS"
      *
      * @param dateTimeText the date time text to be validated
      * @param locale       the locale for the dateTimeText value
@@ -64,15 +79,9 @@ public class DateTimeValidator {
      * @since 2.1.0
      */
     public static boolean isValid(String dateTimeText, Locale locale) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(dateTimeText, ErrorMessages.DATE_TIME_TEXT_EMPTY),
-                ValidationEntry.getInstance(locale, ErrorMessages.LOCALE_NULL));
-        try {
-            loadDateFormats();
-            DateUtils.parseDateStrictly(dateTimeText, locale, dateFormats.toArray(new String[0]));
-            return true;
-        } catch (ParseException e) {
-            return false;
-        }
+        ValidationUtil.rejectEmpty(dateTimeText, ErrorMessages.DATE_TIME_TEXT_EMPTY);
+        ValidationUtil.rejectEmpty(locale, ErrorMessages.LOCALE_NULL);
+        return validate(dateTimeText, locale, getCatalog(locale));
     }
 
     /**
@@ -99,16 +108,110 @@ public class DateTimeValidator {
      * @since 2.1.0
      */
     public static boolean isValid(String dateTimeText, Locale locale, String dateFormatPattern) {
-        ValidationUtil.rejectEmpty(ValidationEntry.getInstance(dateTimeText, ErrorMessages.DATE_TIME_TEXT_EMPTY),
-                ValidationEntry.getInstance(locale, ErrorMessages.LOCALE_NULL),
-                ValidationEntry.getInstance(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY));
-        try {
-            loadDateFormats();
-            DateUtils.parseDateStrictly(dateTimeText, locale, dateFormatPattern);
-            return true;
-        } catch (ParseException e) {
-            return false;
+        ValidationUtil.rejectEmpty(dateTimeText, ErrorMessages.DATE_TIME_TEXT_EMPTY);
+        ValidationUtil.rejectEmpty(locale, ErrorMessages.LOCALE_NULL);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        long startTime = DateTimeMetrics.startTime();
+        return DateTimeMetrics.recordOutcome(MetricOperation.VALIDATE, startTime, StrictDateParser.parse(dateTimeText, locale, new String[]{dateFormatPattern}, null) >= 0);
+    }
+
+    /**
+     * Validates the date and time in textual format with the locale without throwing or catching exceptions for invalid text.
+     * On success the result holds the date format pattern that matched. The patterns are chosen by the catalog scope, like isValid with a locale
+     *
+     * @param dateTimeText the date time text to be validated
+     * @param locale       the locale for the dateTimeText value
+     * @param result       the result to be filled in with the matching pattern or the error, it can be reused across calls
+     * @return the supplied result
+     * @throws IllegalArgumentException if the locale or result parameter is null
+     * @since 2.3.0
+     */
+    public static ConversionResult<String> tryValidate(String dateTimeText, Locale locale, ConversionResult<String> result) {
+        ValidationUtil.rejectEmpty(locale, ErrorMessages.LOCALE_NULL);
+        ValidationUtil.rejectEmpty(result, ErrorMessages.CONVERSION_RESULT_NULL);
+        if (StringUtils.isBlank(dateTimeText)) {
+            return result.failure(ConversionErrorCode.EMPTY_INPUT, -1);
         }
+        long startTime = DateTimeMetrics.startTime();
+        String[] candidates = getCatalog(locale).getCandidates(dateTimeText);
+        int match = StrictDateParser.parse(dateTimeText, locale, candidates, result);
+        DateTimeMetrics.recordPatternsTried(match < 0 ? candidates.length : match + 1);
+        return DateTimeMetrics.recordResult(MetricOperation.VALIDATE, startTime, match < 0 ? result : result.success(candidates[match]));
+    }
+
+    /**
+     * Validates the date and time in textual format with locale and the date format pattern to validate against without throwing or catching exceptions for invalid text.
+     * On success the result holds the supplied date format pattern
+     *
+     * @param dateTimeText      the date time text to be validated
+     * @param locale            the locale for the dateTimeText value
+     * @param dateFormatPattern the date format pattern to validate against
+     * @param result            the result to be filled in with the matching pattern or the error, it can be reused across calls
+     * @return the supplied result
+     * @throws IllegalArgumentException if the locale, date format pattern or result parameter is not valid
+     * @since 2.3.0
+     */
+    public static ConversionResult<String> tryValidate(String dateTimeText, Locale locale, String dateFormatPattern, ConversionResult<String> result) {
+        ValidationUtil.rejectEmpty(locale, ErrorMessages.LOCALE_NULL);
+        ValidationUtil.rejectEmpty(dateFormatPattern, ErrorMessages.DATE_FORMAT_PATTERN_EMPTY);
+        ValidationUtil.rejectEmpty(result, ErrorMessages.CONVERSION_RESULT_NULL);
+        if (StringUtils.isBlank(dateTimeText)) {
+            return result.failure(ConversionErrorCode.EMPTY_INPUT, -1);
+        }
+        long startTime = DateTimeMetrics.startTime();
+        int match = StrictDateParser.parse(dateTimeText, locale, new String[]{dateFormatPattern}, result);
+        return DateTimeMetrics.recordResult(MetricOperation.VALIDATE, startTime, match < 0 ? result : result.success(dateFormatPattern));
+    }
+
+    /**
+     * Creates a validation session for a source of date time text that mostly uses one date format e.g. a feed or a file column.
+     * The session tries the patterns that matched most often first, out of every section of the catalog. This method uses the default locale: "Locale.ENGLISH"
+     *
+     * @return the new validation session
+     * @throws DateTimeValidationException thrown when date format pattern file is not found.
+     * @since 2.3.0
+     */
+    public static ValidationSession newSession() {
+        return new ValidationSession(Locale.ENGLISH, getCatalog());
+    }
+
+    /**
+     * Creates a validation session with the locale for a source of date time text that mostly uses one date format e.g. a feed or
+     * a file column. The session tries the patterns that matched most often first, out of the patterns chosen by the catalog scope
+     *
+     * @param locale the locale for the date time text of the source
+     * @return the new validation session
+     * @throws IllegalArgumentException    if the locale is null
+     * @throws DateTimeValidationException thrown when date format pattern file is not found.
+     * @since 2.3.0
+     */
+    public static ValidationSession newSession(Locale locale) {
+        ValidationUtil.rejectEmpty(locale, ErrorMessages.LOCALE_NULL);
+        return new ValidationSession(locale, getCatalog(locale));
+    }
+
+    /**
+     * Sets the part of the catalog a locale supplied to the validation methods is validated against. The default is
+     * "FormatCatalogScope.LOCALE_SECTIONS", "FormatCatalogScope.ALL_SECTIONS" validates every locale against every pattern like
+     * the versions before 2.3.0 did. Sessions keep the scope they were created with
+     *
+     * @param scope the catalog scope
+     * @throws IllegalArgumentException if the scope is null
+     * @since 2.3.0
+     */
+    public static void setCatalogScope(FormatCatalogScope scope) {
+        ValidationUtil.rejectEmpty(scope, ErrorMessages.FORMAT_CATALOG_SCOPE_NULL);
+        catalogScope = scope;
+    }
+
+    /**
+     * Gets the part of the catalog a locale supplied to the validation methods is validated against
+     *
+     * @return the catalog scope
+     * @since 2.3.0
+     */
+    public static FormatCatalogScope getCatalogScope() {
+        return catalogScope;
     }
 
     /**
@@ -119,26 +222,117 @@ public class DateTimeValidator {
      * @since 2.1.0
      */
     private static boolean isValidDateFormatPattern(String dateFormatPattern) {
-        return StringUtils.isNotBlank(dateFormatPattern) && !dateFormatPattern.contains("_Formats");
+        return StringUtils.isNotBlank(dateFormatPattern) && !isSectionHeader(dateFormatPattern);
+    }
+
+    /**
+     * Checks if a line of the file is a section header e.g. "ISO_8601_Formats" or "Germany_Formats"
+     *
+     * @param line the line of the file
+     * @return the boolean flag to indicate a section header
+     * @since 2.3.0
+     */
+    private static boolean isSectionHeader(String line) {
+        return line.contains("_Formats");
+    }
+
+    /**
+     * Loads the date format catalog and prepares the parsers for every pattern, so that the first validation does not pay for
+     * reading the formats file and compiling the patterns. Services can call this at startup
+     *
+     * @param locales the locales that will be validated, the parsers of every section for "Locale.ENGLISH" are prepared when none is supplied
+     * @throws DateTimeValidationException thrown when date format pattern file is not found.
+     * @since 2.3.0
+     */
+    public static void warmUp(Locale... locales) {
+        DateFormatCatalog dateFormatCatalog = getCatalog();
+        if (locales.length == 0) {
+            StrictDateParser.compile(dateFormatCatalog.getDateFormats(), Locale.ENGLISH);
+        }
+        for (Locale locale : locales) {
+            ValidationUtil.rejectEmpty(locale, ErrorMessages.LOCALE_NULL);
+            StrictDateParser.compile(getCatalog(locale).getDateFormats(), locale);
+        }
+    }
+
+    /**
+     * Gets the date format catalog, loading it from the file on first use
+     *
+     * @return the date format catalog
+     * @throws DateTimeValidationException thrown when date format pattern file is not found.
+     * @since 2.3.0
+     */
+    protected static DateFormatCatalog getCatalog() {
+        DateFormatCatalog dateFormatCatalog = catalog;
+        if (dateFormatCatalog == null) {
+            synchronized (DateTimeValidator.class) {
+                dateFormatCatalog = catalog;
+                if (dateFormatCatalog == null) {
+                    dateFormatCatalog = loadDateFormats();
+                    catalog = dateFormatCatalog;
+                }
+            }
+        }
+        return dateFormatCatalog;
+    }
+
+    /**
+     * Gets the catalog a locale supplied to the validation methods is validated against, as chosen by the catalog scope
+     *
+     * @param locale the locale for the date time text
+     * @return the date format catalog of the locale
+     * @throws DateTimeValidationException thrown when date format pattern file is not found.
+     * @since 2.3.0
+     */
+    protected static DateFormatCatalog getCatalog(Locale locale) {
+        DateFormatCatalog dateFormatCatalog = getCatalog();
+        return catalogScope == FormatCatalogScope.ALL_SECTIONS ? dateFormatCatalog : dateFormatCatalog.forLocale(locale);
+    }
+
+    /**
+     * Validates the date and time in textual format against the candidate patterns of a catalog, recording the call and the number of patterns tried
+     *
+     * @param dateTimeText the date time text to be validated
+     * @param locale       the locale for the dateTimeText value
+     * @param catalog      the date format catalog to validate against
+     * @return the boolean flag to indicate validity of the supplied datetime text
+     * @since 2.3.0
+     */
+    private static boolean validate(String dateTimeText, Locale locale, DateFormatCatalog catalog) {
+        long startTime = DateTimeMetrics.startTime();
+        String[] candidates = catalog.getCandidates(dateTimeText);
+        int match = StrictDateParser.parse(dateTimeText, locale, candidates, null);
+        DateTimeMetrics.recordPatternsTried(match < 0 ? candidates.length : match + 1);
+        return DateTimeMetrics.recordOutcome(MetricOperation.VALIDATE, startTime, match >= 0);
     }
 
     /**
-     * Loads date format patterns from a file
+     * Loads date format patterns from a file into a new catalog, keeping the section header each pattern appears under
      *
+     * @return the date format catalog
+     * @throws DateTimeValidationException thrown when date format pattern file is not found.
      * @since 2.1.0
      */
-    protected static void loadDateFormats() {
-        if (Objects.isNull(dateFormats) || dateFormats.isEmpty()) {
-            dateFormats = DateTimeValidator.getFileFromResourceAsStream();
-            dateFormats = dateFormats.stream().filter(DateTimeValidator::isValidDateFormatPattern).collect(Collectors.toList());
+    protected static DateFormatCatalog loadDateFormats() {
+        List<String> dateFormats = new ArrayList<>();
+        List<String> sections = new ArrayList<>();
+        String section = null;
+        for (String line : DateTimeValidator.getFileFromResourceAsStream()) {
+            if (isValidDateFormatPattern(line)) {
+                dateFormats.add(line);
+                sections.add(section);
+            } else if (StringUtils.isNotBlank(line)) {
+                section = line;
+            }
         }
+        return DateFormatCatalog.of(dateFormats, sections);
     }
 
     /**
      * Gets all the date format patterns in a file
      *
      * @return the list of date format patterns form a file
-     * @throws DateTimeValidationException thrown when date format pattern file is not found.
+     * @throws DateTimeValidationException thrown when date format pattern file is not found or cannot be read.
      * @since 2.1.0
      */
     protected static List<String> getFileFromResourceAsStream() {
@@ -146,8 +340,11 @@ public class DateTimeValidator {
         InputStream inputStream = classLoader.getResourceAsStream(fileLocation);
         if (Objects.isNull(inputStream)) {
             throw new DateTimeValidationException("File not found -> " + fileLocation);
-        } else {
-            return new BufferedReader(new InputStreamReader(inputStream)).lines().map(String::trim).collect(Collectors.toList());
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            return reader.lines().map(String::trim).collect(Collectors.toList());
+        } catch (IOException | UncheckedIOException e) {
+            throw new DateTimeValidationException("File could not be read -> " + fileLocation);
         }
     }
 
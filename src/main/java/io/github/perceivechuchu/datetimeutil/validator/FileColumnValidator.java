@@ -0,0 +1,487 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeValidationException;
+import io.github.perceivechuchu.datetimeutil.model.ColumnValidationReport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class validates the date time values of a column of a delimited file e.g. a CSV or TSV extract, without reading the file
+ * into memory. The file is split into chunks at line boundaries, every chunk is memory-mapped and scanned in place in parallel, and
+ * only the values of the chosen column are decoded for validation. Each chunk validates with its own ValidationSession, so a column
+ * that uses one date format costs about one strict parse per value. The line separators are found with LineScanner, which tests eight
+ * bytes at a time on Java 17 and later.
+ * <p>
+ * The file is read as UTF-8 with lines separated by "\n" or "\r\n". A value may be enclosed in double quotes, with double quotes
+ * inside it written twice, but it cannot span lines. A quoted value followed by anything other than the delimiter is invalid.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class FileColumnValidator {
+
+    /**
+     * The default number of bytes of the file that are mapped and scanned by one task
+     *
+     * @since 2.3.0
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 32 * 1024 * 1024;
+
+    /**
+     * The number of bytes read at a time when looking for the line boundary of a chunk
+     *
+     * @since 2.3.0
+     */
+    private static final int BOUNDARY_BUFFER_SIZE = 8192;
+
+    /**
+     * The pool that maps and scans the chunks of the files
+     *
+     * @since 2.3.0
+     */
+    private static volatile ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+    private FileColumnValidator() {
+    }
+
+    /**
+     * Sets the pool that maps and scans the chunks of the files. The common pool is used by default, a dedicated pool keeps the tasks
+     * that block on page faults of the mapped chunks away from the other users of the common pool
+     *
+     * @param pool the fork/join pool
+     * @throws IllegalArgumentException if the pool is null
+     * @since 2.3.0
+     */
+    public static void setForkJoinPool(final ForkJoinPool pool) {
+        ValidationUtil.rejectEmpty(pool, ErrorMessages.FORK_JOIN_POOL_NULL);
+        forkJoinPool = pool;
+    }
+
+    /**
+     * Gets the pool that maps and scans the chunks of the files
+     *
+     * @return the fork/join pool
+     * @since 2.3.0
+     */
+    public static ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * Validates the date time values of a column of a delimited file without a header line
+     *
+     * @param path        the path of the file
+     * @param columnIndex the position of the column in a line, starting at 0
+     * @param delimiter   the ASCII character that separates the columns e.g. ',' or '\t'
+     * @param locale      the locale for the date time values
+     * @return the report of the validation
+     * @throws IllegalArgumentException    if the path or locale is null, the column index is negative or the delimiter is not an ASCII character
+     * @throws DateTimeValidationException if the file cannot be read
+     * @since 2.3.0
+     */
+    public static ColumnValidationReport validateColumn(final Path path, final int columnIndex, final char delimiter, final Locale locale) {
+        return validateColumn(path, columnIndex, delimiter, locale, false);
+    }
+
+    /**
+     * Validates the date time values of a column of a delimited file
+     *
+     * @param path        the path of the file
+     * @param columnIndex the position of the column in a line, starting at 0
+     * @param delimiter   the ASCII character that separates the columns e.g. ',' or '\t'
+     * @param locale      the locale for the date time values
+     * @param hasHeader   the boolean flag to indicate that the first line of the file is a header line, which is not validated
+     * @return the report of the validation
+     * @throws IllegalArgumentException    if the path or locale is null, the column index is negative or the delimiter is not an ASCII character
+     * @throws DateTimeValidationException if the file cannot be read
+     * @since 2.3.0
+     */
+    public static ColumnValidationReport validateColumn(final Path path, final int columnIndex, final char delimiter, final Locale locale, final boolean hasHeader) {
+        return validateColumn(path, columnIndex, delimiter, locale, hasHeader, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Validates the date time values of a column of a delimited file with chunks of the supplied size
+     *
+     * @param path        the path of the file
+     * @param columnIndex the position of the column in a line, starting at 0
+     * @param delimiter   the ASCII character that separates the columns
+     * @param locale      the locale for the date time values
+     * @param hasHeader   the boolean flag to indicate that the first line of the file is a header line
+     * @param chunkSize   the number of bytes scanned by one task
+     * @return the report of the validation
+     * @since 2.3.0
+     */
+    static ColumnValidationReport validateColumn(final Path path, final int columnIndex, final char delimiter, final Locale locale,
+                                                 final boolean hasHeader, final int chunkSize) {
+        ValidationUtil.rejectEmpty(path, ErrorMessages.PATH_NULL);
+        ValidationUtil.rejectEmpty(locale, ErrorMessages.LOCALE_NULL);
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException(ErrorMessages.COLUMN_INDEX_INVALID);
+        }
+        if (delimiter > 0x7F) {
+            // The lines are scanned byte by byte, so the delimiter has to be a single byte in UTF-8
+            throw new IllegalArgumentException(ErrorMessages.DELIMITER_INVALID);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] chunkStarts = getChunkStarts(channel, chunkSize);
+            ScanSettings settings = new ScanSettings(channel, chunkStarts, columnIndex, (byte) delimiter, locale, hasHeader);
+            ChunkResult result = forkJoinPool.invoke(new ScanTask(settings, 0, chunkStarts.length - 1));
+            return result.toReport(hasHeader);
+        } catch (IOException | UncheckedIOException e) {
+            throw new DateTimeValidationException(ErrorMessages.FILE_READ_FAILED + path, e);
+        }
+    }
+
+    /**
+     * Splits the file into chunks that start at the beginning of a line
+     *
+     * @param channel   the channel of the file
+     * @param chunkSize the number of bytes of a chunk, chunks are extended to the end of their last line
+     * @return the start positions of the chunks, followed by the size of the file
+     * @throws IOException if the file cannot be read
+     * @since 2.3.0
+     */
+    private static long[] getChunkStarts(final FileChannel channel, final int chunkSize) throws IOException {
+        long size = channel.size();
+        long[] starts = new long[(int) (size / chunkSize) + 2];
+        int count = 1;
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_BUFFER_SIZE);
+        long position = chunkSize;
+        while (position < size) {
+            long lineStart = nextLineStart(channel, position - 1, size, buffer);
+            if (lineStart >= size) {
+                break;
+            }
+            starts[count++] = lineStart;
+            position = Math.max(lineStart, position) + chunkSize;
+        }
+        starts[count++] = size;
+        return Arrays.copyOf(starts, count);
+    }
+
+    /**
+     * Finds the start of the line that follows the first line separator at or after a position
+     *
+     * @param channel  the channel of the file
+     * @param position the position to start looking at
+     * @param size     the size of the file
+     * @param buffer   the buffer to read into
+     * @return the start of the next line, or the size of the file if there is none
+     * @throws IOException if the file cannot be read
+     * @since 2.3.0
+     */
+    private static long nextLineStart(final FileChannel channel, final long position, final long size, final ByteBuffer buffer) throws IOException {
+        long offset = position;
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                return size;
+            }
+            int separator = LineScanner.indexOf(buffer, 0, read, (byte) '\n');
+            if (separator >= 0) {
+                return offset + separator + 1;
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * The settings shared by the tasks that scan the chunks of a file
+     *
+     * @since 2.3.0
+     */
+    private static final class ScanSettings {
+
+        private final FileChannel channel;
+
+        private final long[] chunkStarts;
+
+        private final int columnIndex;
+
+        private final byte delimiter;
+
+        private final Locale locale;
+
+        private final boolean hasHeader;
+
+        private ScanSettings(final FileChannel channel, final long[] chunkStarts, final int columnIndex, final byte delimiter,
+                             final Locale locale, final boolean hasHeader) {
+            this.channel = channel;
+            this.chunkStarts = chunkStarts;
+            this.columnIndex = columnIndex;
+            this.delimiter = delimiter;
+            this.locale = locale;
+            this.hasHeader = hasHeader;
+        }
+    }
+
+    /**
+     * The task that scans a range of chunks, splitting it in halves until a single chunk is left
+     *
+     * @since 2.3.0
+     */
+    private static final class ScanTask extends RecursiveTask<ChunkResult> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ScanSettings settings;
+
+        private final int from;
+
+        private final int to;
+
+        private ScanTask(final ScanSettings settings, final int from, final int to) {
+            this.settings = settings;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            if (to - from <= 1) {
+                return from == to ? new ChunkResult() : scanChunk(from);
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask right = new ScanTask(settings, middle, to);
+            right.fork();
+            ChunkResult left = new ScanTask(settings, from, middle).compute();
+            return left.append(right.join());
+        }
+
+        /**
+         * Maps a chunk of the file and validates the column of each of its lines
+         *
+         * @param chunk the position of the chunk
+         * @return the result of the chunk
+         * @since 2.3.0
+         */
+        private ChunkResult scanChunk(final int chunk) {
+            long start = settings.chunkStarts[chunk];
+            long end = settings.chunkStarts[chunk + 1];
+            MappedByteBuffer buffer;
+            try {
+                buffer = settings.channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            ChunkResult result = new ChunkResult();
+            ValidationSession session = DateTimeValidator.newSession(settings.locale);
+            byte[] value = new byte[64];
+            int limit = buffer.limit();
+            int lineStart = 0;
+            while (lineStart < limit) {
+                int lineEnd = LineScanner.indexOf(buffer, lineStart, limit, (byte) '\n');
+                if (lineEnd < 0) {
+                    lineEnd = limit;
+                }
+                int next = lineEnd + 1;
+                if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+                if (chunk == 0 && lineStart == 0 && settings.hasHeader) {
+                    result.lineCount++;
+                } else {
+                    value = validateLine(buffer, lineStart, lineEnd, value, session, result);
+                }
+                lineStart = next;
+            }
+            result.patternCounts.putAll(session.getHitCounts());
+            return result;
+        }
+
+        /**
+         * Finds the value of the column in a line and validates it
+         *
+         * @param buffer    the mapped chunk
+         * @param lineStart the position of the first byte of the line
+         * @param lineEnd   the position after the last byte of the line
+         * @param value     the buffer for the bytes of the value
+         * @param session   the validation session of the chunk
+         * @param result    the result of the chunk
+         * @return the buffer for the bytes of the value, replaced when it was too small
+         * @since 2.3.0
+         */
+        private byte[] validateLine(final ByteBuffer buffer, final int lineStart, final int lineEnd, final byte[] value,
+                                    final ValidationSession session, final ChunkResult result) {
+            long line = result.lineCount++;
+            int position = lineStart;
+            for (int column = 0; column < settings.columnIndex; column++) {
+                position = skipValue(buffer, position, lineEnd);
+                if (position >= lineEnd) {
+                    result.addInvalid(line);
+                    return value;
+                }
+                position++;
+            }
+            byte[] bytes = value;
+            int length = 0;
+            boolean quoted = position < lineEnd && buffer.get(position) == '"';
+            int i = quoted ? position + 1 : position;
+            while (i < lineEnd) {
+                byte b = buffer.get(i);
+                if (quoted && b == '"') {
+                    if (i + 1 < lineEnd && buffer.get(i + 1) == '"') {
+                        i++;
+                    } else {
+                        // Only the delimiter or the end of the line may follow the closing quote
+                        if (i + 1 < lineEnd && buffer.get(i + 1) != settings.delimiter) {
+                            result.addInvalid(line);
+                            return bytes;
+                        }
+                        break;
+                    }
+                } else if (!quoted && b == settings.delimiter) {
+                    break;
+                }
+                if (length == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, length * 2);
+                }
+                bytes[length++] = b;
+                i++;
+            }
+            String text = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            if (text.trim().isEmpty()) {
+                result.emptyCount++;
+            } else if (session.isValid(text)) {
+                result.validCount++;
+            } else {
+                result.addInvalid(line);
+            }
+            return bytes;
+        }
+
+        /**
+         * Skips a value of a line, honouring double quotes
+         *
+         * @param buffer   the mapped chunk
+         * @param position the position of the first byte of the value
+         * @param lineEnd  the position after the last byte of the line
+         * @return the position of the delimiter after the value, or the end of the line
+         * @since 2.3.0
+         */
+        private int skipValue(final ByteBuffer buffer, final int position, final int lineEnd) {
+            boolean quoted = false;
+            for (int i = position; i < lineEnd; i++) {
+                byte b = buffer.get(i);
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (!quoted && b == settings.delimiter) {
+                    return i;
+                }
+            }
+            return lineEnd;
+        }
+    }
+
+    /**
+     * The counts of a range of chunks, with the invalid lines numbered from the start of the range
+     *
+     * @since 2.3.0
+     */
+    private static final class ChunkResult {
+
+        private long lineCount;
+
+        private long validCount;
+
+        private long emptyCount;
+
+        private long invalidCount;
+
+        private long[] invalidRanges = new long[0];
+
+        private int rangeCount;
+
+        private final Map<String, Long> patternCounts = new HashMap<>();
+
+        /**
+         * Records an invalid line, extending the last range when the line follows it
+         *
+         * @param line the line, counted from 0 at the start of the range of chunks
+         * @since 2.3.0
+         */
+        private void addInvalid(final long line) {
+            invalidCount++;
+            addRange(line, line);
+        }
+
+        /**
+         * Adds a range of invalid lines, merging it into the last range when it follows it
+         *
+         * @param first the first line of the range
+         * @param last  the last line of the range
+         * @since 2.3.0
+         */
+        private void addRange(final long first, final long last) {
+            if (rangeCount > 0 && invalidRanges[2 * rangeCount - 1] == first - 1) {
+                invalidRanges[2 * rangeCount - 1] = last;
+                return;
+            }
+            if (2 * rangeCount == invalidRanges.length) {
+                invalidRanges = Arrays.copyOf(invalidRanges, Math.max(8, invalidRanges.length * 2));
+            }
+            invalidRanges[2 * rangeCount] = first;
+            invalidRanges[2 * rangeCount + 1] = last;
+            rangeCount++;
+        }
+
+        /**
+         * Appends the result of the chunks that follow this range of chunks
+         *
+         * @param next the result of the following chunks
+         * @return this result
+         * @since 2.3.0
+         */
+        private ChunkResult append(final ChunkResult next) {
+            for (int range = 0; range < next.rangeCount; range++) {
+                addRange(lineCount + next.invalidRanges[2 * range], lineCount + next.invalidRanges[2 * range + 1]);
+            }
+            invalidCount += next.invalidCount;
+            lineCount += next.lineCount;
+            validCount += next.validCount;
+            emptyCount += next.emptyCount;
+            next.patternCounts.forEach((pattern, count) -> patternCounts.merge(pattern, count, Long::sum));
+            return this;
+        }
+
+        /**
+         * Creates the report with line numbers starting at 1
+         *
+         * @param hasHeader the boolean flag to indicate that the first line is a header line
+         * @return the report
+         * @since 2.3.0
+         */
+        private ColumnValidationReport toReport(final boolean hasHeader) {
+            long[] lineRanges = new long[2 * rangeCount];
+            for (int i = 0; i < lineRanges.length; i++) {
+                lineRanges[i] = invalidRanges[i] + 1;
+            }
+            return ColumnValidationReport.builder()
+                    .lineCount(hasHeader && lineCount > 0 ? lineCount - 1 : lineCount)
+                    .validCount(validCount)
+                    .invalidCount(invalidCount)
+                    .emptyCount(emptyCount)
+                    .invalidLineRanges(lineRanges)
+                    .patternCounts(patternCounts)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class finds bytes in the buffers that FileColumnValidator reads, e.g. the line separators of a mapped chunk. It is the Java 8
+ * baseline, the multi-release JAR replaces it on Java 17 and later with an implementation in src/main/java17 that tests eight bytes at a time.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+final class LineScanner {
+
+    /**
+     * The name of the implementation, which tells the variants of the multi-release JAR apart
+     *
+     * @since 2.3.0
+     */
+    static final String IMPLEMENTATION = "java8";
+
+    private LineScanner() {
+    }
+
+    /**
+     * Finds the first position of a byte in a range of a buffer, ignoring the position and limit of the buffer
+     *
+     * @param buffer the buffer to search
+     * @param from   the first position to search
+     * @param to     the position after the last position to search, at most the limit of the buffer
+     * @param value  the byte to find
+     * @return the position of the byte, or -1 if the range does not hold it
+     * @since 2.3.0
+     */
+    static int indexOf(final ByteBuffer buffer, final int from, final int to, final byte value) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,306 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import io.github.perceivechuchu.datetimeutil.constant.ConversionErrorCode;
+import io.github.perceivechuchu.datetimeutil.model.ConversionResult;
+import org.apache.commons.lang3.time.DateParser;
+import org.apache.commons.lang3.time.FastDateFormat;
+
+import java.text.ParsePosition;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class applies the strict parsing rules of DateUtils.parseDateStrictly without calling DateUtils, which compiles a new parser for
+ * every pattern on every call. Each pattern is compiled once per time zone and locale into an immutable, thread-safe FastDateFormat parser,
+ * held in a table shared by all threads, and parsed into a per-thread calendar. For Gregorian calendars the checks a non-lenient calendar
+ * performs when it computes its time are reproduced without exceptions by comparing the parsed fields with the normalized ones, other
+ * calendars e.g. the Buddhist calendar of th_TH are checked by a non-lenient calendar of the locale, like DateUtils does.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+final class StrictDateParser {
+
+    /**
+     * The compiled parsers of each time zone and locale, keyed by date format pattern
+     *
+     * @since 2.3.0
+     */
+    private static final ConcurrentMap<ParserKey, ConcurrentMap<String, DateParser>> parserTables = new ConcurrentHashMap<>();
+
+    /**
+     * The per-thread parser context that is reused across validations
+     *
+     * @since 2.3.0
+     */
+    private static final ThreadLocal<ParserContext> contexts = new ThreadLocal<>();
+
+    private StrictDateParser() {
+    }
+
+    /**
+     * Finds the first pattern that strictly matches the whole text
+     *
+     * @param dateTimeText       the date time text to be validated
+     * @param locale             the locale for the dateTimeText value
+     * @param dateFormatPatterns the date format patterns to try, in order
+     * @param result             the result to be filled in when no pattern matches, may be null
+     * @return the position of the matching pattern in the supplied array, or -1 if no pattern matches
+     * @since 2.3.0
+     */
+    static int parse(final String dateTimeText, final Locale locale, final String[] dateFormatPatterns, final ConversionResult<?> result) {
+        ParserContext context = getContext(locale);
+        ParsePosition position = context.position;
+        ConversionErrorCode errorCode = ConversionErrorCode.UNPARSEABLE_TEXT;
+        int errorIndex = -1;
+        for (int i = 0; i < dateFormatPatterns.length; i++) {
+            if (context.parse(dateFormatPatterns[i], dateTimeText)) {
+                if (position.getIndex() == dateTimeText.length()) {
+                    if (context.hasValidFields()) {
+                        return i;
+                    }
+                    errorCode = ConversionErrorCode.INVALID_FIELD_VALUE;
+                } else {
+                    errorIndex = Math.max(errorIndex, position.getIndex());
+                }
+            } else {
+                errorIndex = Math.max(errorIndex, position.getErrorIndex());
+            }
+        }
+        if (result != null) {
+            result.failure(errorCode, errorCode == ConversionErrorCode.INVALID_FIELD_VALUE ? -1 : errorIndex);
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if a single pattern strictly matches the whole text
+     *
+     * @param dateTimeText      the date time text to be validated
+     * @param locale            the locale for the dateTimeText value
+     * @param dateFormatPattern the date format pattern to try
+     * @return the boolean flag to indicate that the pattern matches
+     * @since 2.3.0
+     */
+    static boolean matches(final String dateTimeText, final Locale locale, final String dateFormatPattern) {
+        ParserContext context = getContext(locale);
+        return context.parse(dateFormatPattern, dateTimeText) && context.position.getIndex() == dateTimeText.length() && context.hasValidFields();
+    }
+
+    /**
+     * Compiles the parsers of the patterns for the default time zone and the locale ahead of the first validation
+     *
+     * @param dateFormatPatterns the date format patterns to be compiled
+     * @param locale             the locale the patterns are parsed with
+     * @since 2.3.0
+     */
+    static void compile(final Collection<String> dateFormatPatterns, final Locale locale) {
+        TimeZone timeZone = TimeZone.getDefault();
+        ConcurrentMap<String, DateParser> parsers = getParserTable(timeZone, locale);
+        for (String dateFormatPattern : dateFormatPatterns) {
+            parsers.computeIfAbsent(dateFormatPattern, pattern -> FastDateFormat.getInstance(pattern, timeZone, locale));
+        }
+    }
+
+    /**
+     * Gets the table of compiled parsers for a time zone and locale
+     *
+     * @param timeZone the time zone the text is parsed in
+     * @param locale   the locale for the text
+     * @return the compiled parsers keyed by date format pattern
+     * @since 2.3.0
+     */
+    private static ConcurrentMap<String, DateParser> getParserTable(final TimeZone timeZone, final Locale locale) {
+        return parserTables.computeIfAbsent(new ParserKey(timeZone, locale), key -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Gets the parser context of the current thread for the default time zone and the locale, replacing it when the locale or the id of the
+     * default time zone changed. The context keeps the time zone it was created with, so the default time zone is only compared by id
+     *
+     * @param locale the locale for the text
+     * @return the parser context
+     * @since 2.3.0
+     */
+    private static ParserContext getContext(final Locale locale) {
+        // The JDK only hands out copies of the default time zone, the copy is kept by a new context and otherwise only its id is read
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        ParserContext context = contexts.get();
+        if (context == null || !context.locale.equals(locale) || !context.timeZone.getID().equals(defaultTimeZone.getID())) {
+            context = new ParserContext(defaultTimeZone, locale, getParserTable(defaultTimeZone, locale));
+            contexts.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * The key of a table of compiled parsers
+     *
+     * @since 2.3.0
+     */
+    private static final class ParserKey {
+
+        private final TimeZone timeZone;
+
+        private final Locale locale;
+
+        private ParserKey(final TimeZone timeZone, final Locale locale) {
+            this.timeZone = timeZone;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ParserKey)) {
+                return false;
+            }
+            ParserKey key = (ParserKey) other;
+            return timeZone.equals(key.timeZone) && locale.equals(key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(timeZone, locale);
+        }
+    }
+
+    /**
+     * The compiled parsers, calendar and parse position a thread validates with for one time zone and locale
+     *
+     * @since 2.3.0
+     */
+    private static final class ParserContext {
+
+        private final TimeZone timeZone;
+
+        private final Locale locale;
+
+        private final ConcurrentMap<String, DateParser> parsers;
+
+        private final ParsePosition position = new ParsePosition(0);
+
+        /**
+         * The calendar of Gregorian locales, null for other calendars
+         *
+         * @since 2.3.0
+         */
+        private final CheckedCalendar checkedCalendar;
+
+        /**
+         * The calendar the text is parsed into, non-lenient when the calendar of the locale is not Gregorian
+         *
+         * @since 2.3.0
+         */
+        private final Calendar calendar;
+
+        private ParserContext(final TimeZone timeZone, final Locale locale, final ConcurrentMap<String, DateParser> parsers) {
+            this.timeZone = timeZone;
+            this.locale = locale;
+            this.parsers = parsers;
+            Calendar localeCalendar = Calendar.getInstance(timeZone, locale);
+            if (localeCalendar.getClass() == GregorianCalendar.class) {
+                this.checkedCalendar = new CheckedCalendar(timeZone, locale);
+                this.calendar = checkedCalendar;
+            } else {
+                localeCalendar.setLenient(false);
+                this.checkedCalendar = null;
+                this.calendar = localeCalendar;
+            }
+        }
+
+        /**
+         * Parses the text with a single pattern into the calendar, leaving the outcome in the parse position
+         *
+         * @param dateFormatPattern the date format pattern
+         * @param dateTimeText      the date time text to be parsed
+         * @return the boolean flag to indicate that every field of the pattern was parsed
+         * @since 2.3.0
+         */
+        private boolean parse(final String dateFormatPattern, final String dateTimeText) {
+            DateParser parser = parsers.get(dateFormatPattern);
+            if (parser == null) {
+                parser = parsers.computeIfAbsent(dateFormatPattern, pattern -> FastDateFormat.getInstance(pattern, timeZone, locale));
+            }
+            calendar.clear();
+            position.setIndex(0);
+            position.setErrorIndex(-1);
+            try {
+                return parser.parse(dateTimeText, position, calendar);
+            } catch (IllegalArgumentException e) {
+                // Number fields with more digits than an int can hold fail inside the parser itself
+                return false;
+            }
+        }
+
+        /**
+         * Checks that the parsed fields form a valid date the way a non-lenient calendar does
+         *
+         * @return the boolean flag to indicate that a non-lenient calendar accepts the parsed fields
+         * @since 2.3.0
+         */
+        private boolean hasValidFields() {
+            if (checkedCalendar != null) {
+                return checkedCalendar.hasValidFields();
+            }
+            try {
+                calendar.getTimeInMillis();
+                return true;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * The lenient Gregorian calendar that validates its fields the way a non-lenient calendar does, without throwing
+     *
+     * @since 2.3.0
+     */
+    private static final class CheckedCalendar extends GregorianCalendar {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] parsedFields = new int[FIELD_COUNT];
+
+        private CheckedCalendar(final TimeZone timeZone, final Locale locale) {
+            super(timeZone, locale);
+            setLenient(true);
+        }
+
+        /**
+         * Checks that the parsed fields are within range and survive normalization unchanged
+         *
+         * @return the boolean flag to indicate that a non-lenient calendar would accept the parsed fields
+         * @since 2.3.0
+         */
+        private boolean hasValidFields() {
+            int parsedMask = 0;
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                if (isSet(field)) {
+                    int value = internalGet(field);
+                    if (value < getMinimum(field) || value > getMaximum(field)) {
+                        return false;
+                    }
+                    parsedFields[field] = value;
+                    parsedMask |= 1 << field;
+                }
+            }
+            getTimeInMillis();
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                if ((parsedMask & (1 << field)) != 0 && internalGet(field) != parsedFields[field]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
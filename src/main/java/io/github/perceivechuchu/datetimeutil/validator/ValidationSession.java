@@ -0,0 +1,212 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import io.github.perceivechuchu.datetimeutil.commons.util.ValidationUtil;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * This class validates the date and time text of a single source e.g. a feed or a file column, which usually uses one date format
+ * for all of its values. The session keeps a hit counter for every pattern that matched and tries the patterns that matched most
+ * often first, so that a homogeneous source costs about one strict parse per value. Patterns that have not matched yet are tried
+ * afterwards in catalog order, like DateTimeValidator.isValid does.
+ * <p>
+ * Validity is the same as DateTimeValidator.isValid with the locale; only the pattern reported for text that several patterns
+ * match may differ, as the pattern that matched most often wins. A session is not thread safe, create one per source and thread.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+public final class ValidationSession {
+
+    /**
+     * The number of most frequently matched patterns that are tried before the candidates of the catalog
+     *
+     * @since 2.3.0
+     */
+    private static final int PREFERRED_PATTERN_COUNT = 4;
+
+    /**
+     * The locale for the date time text of the source
+     *
+     * @since 2.3.0
+     */
+    private final Locale locale;
+
+    /**
+     * The date format catalog the session was created with
+     *
+     * @since 2.3.0
+     */
+    private final DateFormatCatalog catalog;
+
+    /**
+     * The number of matches per catalog position
+     *
+     * @since 2.3.0
+     */
+    private final long[] hitCounts;
+
+    /**
+     * The catalog positions of the patterns that matched at least once, by descending hit count
+     *
+     * @since 2.3.0
+     */
+    private int[] rankedOrdinals = new int[PREFERRED_PATTERN_COUNT];
+
+    /**
+     * The number of patterns that matched at least once
+     *
+     * @since 2.3.0
+     */
+    private int rankedCount;
+
+    ValidationSession(final Locale locale, final DateFormatCatalog catalog) {
+        this.locale = locale;
+        this.catalog = catalog;
+        this.hitCounts = new long[catalog.size()];
+    }
+
+    /**
+     * Validates the date and time in textual format
+     *
+     * @param dateTimeText the date time text to be validated
+     * @return the boolean flag to indicate validity of the supplied datetime text
+     * @throws IllegalArgumentException if the date time text is empty
+     * @since 2.3.0
+     */
+    public boolean isValid(final String dateTimeText) {
+        return detectFormat(dateTimeText) != null;
+    }
+
+    /**
+     * Finds the date format pattern of the date and time in textual format, trying the patterns that matched most often first
+     *
+     * @param dateTimeText the date time text to be validated
+     * @return the matching date format pattern, or null if the text is not valid
+     * @throws IllegalArgumentException if the date time text is empty
+     * @since 2.3.0
+     */
+    public String detectFormat(final String dateTimeText) {
+        ValidationUtil.rejectEmpty(dateTimeText, ErrorMessages.DATE_TIME_TEXT_EMPTY);
+        int preferredCount = Math.min(rankedCount, PREFERRED_PATTERN_COUNT);
+        for (int rank = 0; rank < preferredCount; rank++) {
+            String dateFormat = catalog.getDateFormat(rankedOrdinals[rank]);
+            if (StrictDateParser.matches(dateTimeText, locale, dateFormat)) {
+                recordHit(rank);
+                return dateFormat;
+            }
+        }
+        for (int ordinal : catalog.getCandidateOrdinals(dateTimeText)) {
+            if (isPreferred(ordinal, preferredCount)) {
+                continue;
+            }
+            String dateFormat = catalog.getDateFormat(ordinal);
+            if (StrictDateParser.matches(dateTimeText, locale, dateFormat)) {
+                recordHit(rankOf(ordinal));
+                return dateFormat;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of times a date format pattern matched in this session
+     *
+     * @param dateFormatPattern the date format pattern
+     * @return the number of matches, zero for a pattern that is not in the catalog
+     * @since 2.3.0
+     */
+    public long getHitCount(final String dateFormatPattern) {
+        for (int rank = 0; rank < rankedCount; rank++) {
+            if (catalog.getDateFormat(rankedOrdinals[rank]).equals(dateFormatPattern)) {
+                return hitCounts[rankedOrdinals[rank]];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the hit counters of the patterns that matched in this session, in the order they are tried
+     *
+     * @return the unmodifiable map of date format patterns to their number of matches
+     * @since 2.3.0
+     */
+    public Map<String, Long> getHitCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int rank = 0; rank < rankedCount; rank++) {
+            counts.put(catalog.getDateFormat(rankedOrdinals[rank]), hitCounts[rankedOrdinals[rank]]);
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Gets the locale for the date time text of the source
+     *
+     * @return the locale
+     * @since 2.3.0
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Checks if a pattern was already tried as one of the most frequently matched patterns
+     *
+     * @param ordinal        the catalog position of the pattern
+     * @param preferredCount the number of patterns that were tried
+     * @return the boolean flag to indicate that the pattern was tried
+     * @since 2.3.0
+     */
+    private boolean isPreferred(final int ordinal, final int preferredCount) {
+        for (int rank = 0; rank < preferredCount; rank++) {
+            if (rankedOrdinals[rank] == ordinal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the rank of a pattern, adding it after the ranked patterns when it matches for the first time
+     *
+     * @param ordinal the catalog position of the pattern
+     * @return the rank of the pattern
+     * @since 2.3.0
+     */
+    private int rankOf(final int ordinal) {
+        if (hitCounts[ordinal] > 0) {
+            for (int rank = 0; rank < rankedCount; rank++) {
+                if (rankedOrdinals[rank] == ordinal) {
+                    return rank;
+                }
+            }
+        }
+        if (rankedCount == rankedOrdinals.length) {
+            rankedOrdinals = Arrays.copyOf(rankedOrdinals, rankedCount * 2);
+        }
+        rankedOrdinals[rankedCount] = ordinal;
+        return rankedCount++;
+    }
+
+    /**
+     * Counts a match of the pattern at a rank and moves the pattern ahead of the patterns that matched less often
+     *
+     * @param rank the rank of the pattern that matched
+     * @since 2.3.0
+     */
+    private void recordHit(final int rank) {
+        int ordinal = rankedOrdinals[rank];
+        long hitCount = ++hitCounts[ordinal];
+        int position = rank;
+        while (position > 0 && hitCounts[rankedOrdinals[position - 1]] < hitCount) {
+            rankedOrdinals[position] = rankedOrdinals[position - 1];
+            position--;
+        }
+        rankedOrdinals[position] = ordinal;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.perceivechuchu.datetimeutil.formatter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * This class copies ASCII characters into byte arrays and buffers for the writers of this package. It is the Java 17 variant of the
+ * multi-release JAR, which packs eight characters into a long and stores it with a single VarHandle write.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+final class AsciiWriter {
+
+    /**
+     * The name of the implementation, which tells the variants of the multi-release JAR apart
+     *
+     * @since 2.3.0
+     */
+    static final String IMPLEMENTATION = "java17";
+
+    /**
+     * The view of a byte array as little endian longs at any byte offset
+     *
+     * @since 2.3.0
+     */
+    private static final VarHandle ARRAY_LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * The view of a byte buffer as little endian longs at any byte index
+     *
+     * @since 2.3.0
+     */
+    private static final VarHandle BUFFER_LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private AsciiWriter() {
+    }
+
+    /**
+     * Copies ASCII characters into a byte array, the caller checks that the array is long enough
+     *
+     * @param source the characters to be copied
+     * @param length the number of characters to be copied
+     * @param target the array to write to
+     * @param offset the position of the first byte in the array
+     * @since 2.3.0
+     */
+    static void write(final char[] source, final int length, final byte[] target, final int offset) {
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            ARRAY_LONGS.set(target, offset + i, pack(source, i));
+        }
+        for (; i < length; i++) {
+            target[offset + i] = (byte) source[i];
+        }
+    }
+
+    /**
+     * Copies ASCII characters into a buffer at its current position, which is advanced past them. The caller checks that the buffer has enough
+     * remaining space
+     *
+     * @param source the characters to be copied
+     * @param length the number of characters to be copied
+     * @param target the buffer to write to
+     * @since 2.3.0
+     */
+    static void write(final char[] source, final int length, final ByteBuffer target) {
+        int position = target.position();
+        if (target.hasArray()) {
+            write(source, length, target.array(), target.arrayOffset() + position);
+            target.position(position + length);
+            return;
+        }
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            BUFFER_LONGS.set(target, position + i, pack(source, i));
+        }
+        for (; i < length; i++) {
+            target.put(position + i, (byte) source[i]);
+        }
+        target.position(position + length);
+    }
+
+    /**
+     * Packs eight ASCII characters into a long, the first character in the lowest byte
+     *
+     * @param source the characters to be packed
+     * @param index  the position of the first character
+     * @return the packed characters
+     * @since 2.3.0
+     */
+    private static long pack(final char[] source, final int index) {
+        return (source[index] & 0xFFL)
+                | (source[index + 1] & 0xFFL) << 8
+                | (source[index + 2] & 0xFFL) << 16
+                | (source[index + 3] & 0xFFL) << 24
+                | (source[index + 4] & 0xFFL) << 32
+                | (source[index + 5] & 0xFFL) << 40
+                | (source[index + 6] & 0xFFL) << 48
+                | (source[index + 7] & 0xFFL) << 56;
+    }
+}
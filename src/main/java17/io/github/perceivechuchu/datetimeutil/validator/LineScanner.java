@@ -0,0 +1,76 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * This class finds bytes in the buffers that FileColumnValidator reads, e.g. the line separators of a mapped chunk. It is the Java 17
+ * variant of the multi-release JAR, which reads eight bytes at a time with a VarHandle and tests them for the byte in a single long.
+ *
+ * @author Perceive Chuchu
+ * @since 2.3.0
+ */
+final class LineScanner {
+
+    /**
+     * The name of the implementation, which tells the variants of the multi-release JAR apart
+     *
+     * @since 2.3.0
+     */
+    static final String IMPLEMENTATION = "java17";
+
+    /**
+     * The view of a byte buffer as little endian longs at any byte index
+     *
+     * @since 2.3.0
+     */
+    private static final VarHandle BUFFER_LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * The long with the lowest bit of each byte set
+     *
+     * @since 2.3.0
+     */
+    private static final long LOW_BITS = 0x0101010101010101L;
+
+    /**
+     * The long with the highest bit of each byte set
+     *
+     * @since 2.3.0
+     */
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private LineScanner() {
+    }
+
+    /**
+     * Finds the first position of a byte in a range of a buffer, ignoring the position and limit of the buffer
+     *
+     * @param buffer the buffer to search
+     * @param from   the first position to search
+     * @param to     the position after the last position to search, at most the limit of the buffer
+     * @param value  the byte to find
+     * @return the position of the byte, or -1 if the range does not hold it
+     * @since 2.3.0
+     */
+    static int indexOf(final ByteBuffer buffer, final int from, final int to, final byte value) {
+        long pattern = (value & 0xFFL) * LOW_BITS;
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            // The bytes equal to the value become zero, and the lowest zero byte is the first to get its high bit set
+            long word = (long) BUFFER_LONGS.get(buffer, i) ^ pattern;
+            long found = (word - LOW_BITS) & ~word & HIGH_BITS;
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
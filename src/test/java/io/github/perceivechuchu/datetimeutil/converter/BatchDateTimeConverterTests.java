@@ -0,0 +1,209 @@
+package io.github.perceivechuchu.datetimeutil.converter;
+
+import io.github.perceivechuchu.datetimeutil.constant.DstGapPolicy;
+import io.github.perceivechuchu.datetimeutil.constant.DstOverlapPolicy;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchDateTimeConverterTests {
+
+    @AfterEach
+    void resetSettings() {
+        BatchDateTimeConverter.setParallelismThreshold(BatchDateTimeConverter.DEFAULT_PARALLELISM_THRESHOLD);
+        BatchDateTimeConverter.setForkJoinPool(ForkJoinPool.commonPool());
+    }
+
+    @Test
+    void convertToUTCZonedDateTimeText_ReturnSameTextAsSingleConversion_WhenBatchIsSplitAcrossPool() {
+        BatchDateTimeConverter.setParallelismThreshold(64);
+        LocalDateTime[] localDateTimes = newLocalDateTimes(1000);
+        String[] output = BatchDateTimeConverter.convertToUTCZonedDateTimeText(localDateTimes, "Europe/Berlin", new String[localDateTimes.length]);
+        for (int i = 0; i < localDateTimes.length; i++) {
+            assertEquals(DateTimeConverter.convertToUTCZonedDateTimeText(localDateTimes[i], "Europe/Berlin"), output[i]);
+        }
+    }
+
+    @Test
+    void convertToUTCZonedDateTimeText_ReturnSuppliedOutputArray_WhenBatchIsConvertedOnCallingThread() {
+        LocalDateTime[] localDateTimes = {LocalDateTime.of(2023, 11, 10, 12, 0, 0, 254000000)};
+        String[] output = new String[2];
+        assertSame(output, BatchDateTimeConverter.convertToUTCZonedDateTimeText(localDateTimes, "Africa/Johannesburg", output));
+        assertArrayEquals(new String[]{"2023-11-10T10:00:00.254Z", null}, output);
+    }
+
+    @Test
+    void convertToUTCZonedDateTimeText_ReturnSignedYears_WhenUTCYearsAreOutsideFourDigits() {
+        LocalDateTime[] localDateTimes = {LocalDateTime.of(10001, 1, 1, 0, 0), LocalDateTime.of(-20000, 3, 1, 12, 0, 0, 5000000)};
+        String[] output = BatchDateTimeConverter.convertToUTCZonedDateTimeText(localDateTimes, "UTC", new String[2]);
+        assertArrayEquals(new String[]{"+10001-01-01T00:00:00.000Z", "+20001-03-01T12:00:00.005Z"}, output);
+    }
+
+    @Test
+    void convertToUTCZonedDateTimeText_ReturnNullElement_WhenLocalDateTimeIsNull() {
+        LocalDateTime[] localDateTimes = {null, LocalDateTime.of(2023, 11, 10, 12, 0)};
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssX");
+        String[] output = BatchDateTimeConverter.convertToUTCZonedDateTimeText(localDateTimes, "Africa/Johannesburg", formatter, new String[2]);
+        assertArrayEquals(new String[]{null, "2023-11-10T10:00:00Z"}, output);
+    }
+
+    @Test
+    void convertToUTCZonedDateTimeText_ReturnConvertedText_WhenListIsNotRandomAccess() {
+        BatchDateTimeConverter.setParallelismThreshold(16);
+        List<LocalDateTime> localDateTimes = new LinkedList<>(Arrays.asList(newLocalDateTimes(100)));
+        String[] output = BatchDateTimeConverter.convertToUTCZonedDateTimeText(localDateTimes, "UTC", new String[100]);
+        assertEquals(DateTimeConverter.convertToUTCZonedDateTimeText(localDateTimes.get(99), "UTC"), output[99]);
+    }
+
+    @Test
+    void convertToUTCZonedDateTimeText_ThrowIllegalArgumentException_WhenOutputIsTooShort() {
+        LocalDateTime[] localDateTimes = newLocalDateTimes(3);
+        String[] output = new String[2];
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> BatchDateTimeConverter.convertToUTCZonedDateTimeText(localDateTimes, "UTC", output));
+        assertEquals(ErrorMessages.OUTPUT_LENGTH_INVALID, exception.getMessage());
+    }
+
+    @Test
+    void convertToUTCZonedDateTimeText_ThrowIllegalArgumentException_WhenLocalDateTimesIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> BatchDateTimeConverter.convertToUTCZonedDateTimeText((LocalDateTime[]) null, "UTC", new String[1]));
+        assertEquals(ErrorMessages.LOCAL_DATE_TIMES_NULL, exception.getMessage());
+    }
+
+    @Test
+    void convertToZonedDateTimeText_ReturnSameTextAsSingleConversion_WhenListIsSplitAcrossPool() {
+        BatchDateTimeConverter.setParallelismThreshold(50);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        BatchDateTimeConverter.setForkJoinPool(pool);
+        List<LocalDateTime> localDateTimes = new ArrayList<>(Arrays.asList(newLocalDateTimes(500)));
+        String[] output = BatchDateTimeConverter.convertToZonedDateTimeText(localDateTimes, "UTC", "Africa/Johannesburg", "yyyy-MM-dd HH:mm:ss.SSSXXX", new String[500]);
+        pool.shutdown();
+        for (int i = 0; i < localDateTimes.size(); i++) {
+            assertEquals(DateTimeConverter.convertToZonedDateTimeText(localDateTimes.get(i), "UTC", "Africa/Johannesburg", "yyyy-MM-dd HH:mm:ss.SSSXXX"), output[i]);
+        }
+    }
+
+    @Test
+    void convertToZonedDateTime_ReturnSameZonedDateTimeAsSingleConversion_WhenBatchIsSplitAcrossPool() {
+        BatchDateTimeConverter.setParallelismThreshold(10);
+        LocalDateTime[] localDateTimes = newLocalDateTimes(100);
+        ZonedDateTime[] output = BatchDateTimeConverter.convertToZonedDateTime(localDateTimes, "Africa/Johannesburg", "US/Pacific", new ZonedDateTime[100]);
+        for (int i = 0; i < localDateTimes.length; i++) {
+            assertEquals(DateTimeConverter.convertToZonedDateTime(localDateTimes[i], "Africa/Johannesburg", "US/Pacific"), output[i]);
+        }
+    }
+
+    @Test
+    void convertToZonedDateTime_ThrowDateTimeConversionException_WhenTimeZoneIdIsInvalid() {
+        LocalDateTime[] localDateTimes = newLocalDateTimes(2);
+        ZonedDateTime[] output = new ZonedDateTime[2];
+        assertThrows(DateTimeConversionException.class, () -> BatchDateTimeConverter.convertToZonedDateTime(localDateTimes, "Invalid/Zone", "UTC", output));
+    }
+
+    @Test
+    void convertEpochMillisToLocalMillis_ReturnLocalWallClockMillis_WhenTimeZoneIdIsValid() {
+        long epochMillis = LocalDateTime.of(2024, 7, 1, 10, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        long[] output = BatchDateTimeConverter.convertEpochMillisToLocalMillis(new long[]{epochMillis}, "Europe/Berlin", new long[1]);
+        assertEquals(LocalDateTime.of(2024, 7, 1, 12, 0).toInstant(ZoneOffset.UTC).toEpochMilli(), output[0]);
+    }
+
+    @Test
+    void convertLocalMillisToEpochMillis_ReturnSameValuesInPlace_WhenRoundTripped() {
+        long[] values = new long[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = LocalDateTime.of(2024, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli() + i * 3_600_000L * 91;
+        }
+        long[] expected = values.clone();
+        BatchDateTimeConverter.convertEpochMillisToLocalMillis(values, "America/New_York", values);
+        BatchDateTimeConverter.convertLocalMillisToEpochMillis(values, "America/New_York", values);
+        assertArrayEquals(expected, values);
+    }
+
+    @Test
+    void convertLocalMillisToEpochMillis_ThrowDateTimeConversionException_WhenGapIsRejected() {
+        long localMillis = LocalDateTime.of(2024, 3, 31, 2, 30).toInstant(ZoneOffset.UTC).toEpochMilli();
+        long[] localMillisValues = {localMillis};
+        long[] output = new long[1];
+        DateTimeConversionException exception = assertThrows(DateTimeConversionException.class, () -> BatchDateTimeConverter.convertLocalMillisToEpochMillis(
+                localMillisValues, "Europe/Berlin", DstGapPolicy.REJECT, DstOverlapPolicy.EARLIER_OFFSET, output));
+        assertEquals(ErrorMessages.LOCAL_TIME_IN_GAP, exception.getMessage());
+    }
+
+    @Test
+    void convertLocalMillisToEpochMillis_ThrowDateTimeConversionException_WhenTimeZoneIdIsInvalid() {
+        assertThrows(DateTimeConversionException.class, () -> BatchDateTimeConverter.convertLocalMillisToEpochMillis(new long[1], "Invalid/Zone", new long[1]));
+    }
+
+    @Test
+    void setParallelismThreshold_ThrowIllegalArgumentException_WhenThresholdIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> BatchDateTimeConverter.setParallelismThreshold(0));
+        assertEquals(ErrorMessages.PARALLELISM_THRESHOLD_INVALID, exception.getMessage());
+        assertEquals(BatchDateTimeConverter.DEFAULT_PARALLELISM_THRESHOLD, BatchDateTimeConverter.getParallelismThreshold());
+    }
+
+    @Test
+    void convertToTimestamp_FillInPreallocatedTimestamps_WhenOutputElementsAreNotNull() {
+        LocalDateTime[] localDateTimes = newLocalDateTimes(1000);
+        localDateTimes[1] = LocalDateTime.of(2024, 3, 31, 2, 30, 0, 123456789);
+        localDateTimes[2] = null;
+        Timestamp[] output = new Timestamp[localDateTimes.length];
+        Timestamp preallocated = new Timestamp(0L);
+        output[0] = preallocated;
+        assertSame(output, BatchDateTimeConverter.convertToTimestamp(localDateTimes, "Europe/Berlin", output));
+        assertSame(preallocated, output[0]);
+        assertNull(output[2]);
+        for (int i = 0; i < localDateTimes.length; i++) {
+            if (localDateTimes[i] != null) {
+                ZonedDateTime expected = localDateTimes[i].atZone(ZoneId.of("Europe/Berlin"));
+                assertEquals(expected.toInstant(), output[i].toInstant());
+                assertEquals(localDateTimes[i].getNano(), output[i].getNanos());
+            }
+        }
+        LocalDateTime[] converted = BatchDateTimeConverter.convertToLocalDateTime(output, "Europe/Berlin", new LocalDateTime[output.length]);
+        assertEquals(LocalDateTime.of(2024, 3, 31, 3, 30, 0, 123456789), converted[1]);
+        assertNull(converted[2]);
+        for (int i = 3; i < localDateTimes.length; i++) {
+            assertEquals(localDateTimes[i].atZone(ZoneId.of("Europe/Berlin")).toLocalDateTime(), converted[i]);
+        }
+    }
+
+    @Test
+    void convertToLocalDateTime_ThrowIllegalArgumentException_WhenTimestampsAreNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> BatchDateTimeConverter.convertToLocalDateTime(null, "UTC", new LocalDateTime[1]));
+        assertEquals(ErrorMessages.TIMESTAMPS_NULL, exception.getMessage());
+        assertThrows(DateTimeConversionException.class,
+                () -> BatchDateTimeConverter.convertToTimestamp(new LocalDateTime[1], "invalid_time_zone_id", new Timestamp[1]));
+    }
+
+    private static LocalDateTime[] newLocalDateTimes(int size) {
+        LocalDateTime[] localDateTimes = new LocalDateTime[size];
+        LocalDateTime start = LocalDateTime.of(2024, 3, 30, 0, 0, 0, 123000000);
+        for (int i = 0; i < size; i++) {
+            localDateTimes[i] = start.plusMinutes(37L * i);
+        }
+        return localDateTimes;
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.perceivechuchu.datetimeutil.converter;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class ConversionProfileTests {
+
+    private static final String[] TIME_ZONE_IDS = {"Africa/Johannesburg", "Europe/Berlin", "America/New_York", "Australia/Lord_Howe", "UTC", "+05:30", "Etc/GMT+3"};
+
+    @Test
+    void convert_ReturnSameValuesAsAtZone_WhenProfileIsBoundToTimeZones() {
+        Random random = new Random(20);
+        for (int i = 0; i < 500; i++) {
+            String source = TIME_ZONE_IDS[random.nextInt(TIME_ZONE_IDS.length)];
+            String target = TIME_ZONE_IDS[random.nextInt(TIME_ZONE_IDS.length)];
+            ConversionProfile profile = DateTimeConverter.profile().from(source).to(target).build();
+            for (int j = 0; j < 20; j++) {
+                LocalDateTime localDateTime = LocalDateTime.of(1950 + random.nextInt(120), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                        random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+                ZonedDateTime expected = localDateTime.atZone(ZoneId.of(source)).withZoneSameInstant(ZoneId.of(target));
+                assertEquals(expected, profile.convertToZonedDateTime(localDateTime), localDateTime + " " + source + " " + target);
+                assertEquals(expected.toLocalDateTime(), profile.convertToLocalDateTime(localDateTime));
+                assertEquals(DateTimeConverter.convertToZonedDateTimeText(localDateTime, source, target, DateTimeConverter.YYYY_MM_DD_HH_MM_SS_SSSXXX),
+                        profile.convertToText(localDateTime));
+                long epochMillis = profile.convertToEpochMillis(localDateTime);
+                assertEquals(expected.toInstant().toEpochMilli(), epochMillis);
+                assertEquals(expected.toLocalDateTime().withNano(expected.getNano() / 1_000_000 * 1_000_000), profile.convertToLocalDateTime(epochMillis));
+            }
+        }
+    }
+
+    @Test
+    void convertToText_ReturnSignedYear_WhenUTCYearIsOutsideFourDigits() {
+        ConversionProfile profile = DateTimeConverter.profile().from("Europe/Berlin").to("UTC").build();
+        assertEquals("+10001-01-01T00:00:00.000Z", profile.convertToText(LocalDateTime.of(10001, 1, 1, 1, 0)));
+        assertEquals("+50001-07-01T00:06:32.000Z", profile.convertToText(LocalDateTime.of(-50000, 7, 1, 1, 0)));
+    }
+
+    @Test
+    void convertToText_UsePatternAndLocale_WhenTheyAreSupplied() {
+        ConversionProfile profile = DateTimeConverter.profile().from("Africa/Johannesburg").to("UTC").pattern("EEEE d MMMM yyyy HH:mm").locale(Locale.GERMANY).build();
+        assertEquals("Freitag 10 November 2023 10:00", profile.convertToText(LocalDateTime.of(2023, 11, 10, 12, 0)));
+        assertEquals(Locale.GERMANY, profile.getLocale());
+        assertEquals("Africa/Johannesburg", profile.getSourceTimeZoneId());
+        assertEquals("UTC", profile.getTargetTimeZoneId());
+        ConversionProfile formatterProfile = ConversionProfile.builder().to("Africa/Johannesburg").formatter(DateTimeFormatter.ISO_OFFSET_DATE_TIME).build();
+        assertEquals("2023-11-10T14:00:00+02:00", formatterProfile.convertToText(LocalDateTime.of(2023, 11, 10, 12, 0)));
+        assertEquals("2023-11-10T10:00:00.254Z", ConversionProfile.builder().from("Africa/Johannesburg").build().convertToText(LocalDateTime.of(2023, 11, 10, 12, 0, 0, 254000000)));
+    }
+
+    @Test
+    void build_ThrowException_WhenParameterIsNotValid() {
+        assertThrows(DateTimeConversionException.class, () -> DateTimeConverter.profile().from("invalid_time_zone_id").build());
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> DateTimeConverter.profile().to(" "));
+        assertEquals(ErrorMessages.TARGET_TIME_ZONE_ID_EMPTY, exception.getMessage());
+        ConversionProfile profile = DateTimeConverter.profile().build();
+        exception = assertThrows(IllegalArgumentException.class, () -> profile.convertToText(null));
+        assertEquals(ErrorMessages.LOCAL_DATE_TIME_NULL, exception.getMessage());
+    }
+}
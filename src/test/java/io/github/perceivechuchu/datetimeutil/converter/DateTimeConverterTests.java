@@ -1,7 +1,9 @@
 package io.github.perceivechuchu.datetimeutil.converter;
 
+import io.github.perceivechuchu.datetimeutil.constant.ConversionErrorCode;
 import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
 import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import io.github.perceivechuchu.datetimeutil.model.ConversionResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,6 +30,25 @@ class DateTimeConverterTests {
         assertEquals("2023-11-10T10:00:00.254Z", actualZonedDateTime);
     }
 
+    @Test
+    void convertToUTCZonedDateTimeText_ReturnSameTextAsFormatter_WhenLocalDateTimesFallInGapsOverlapsAndFarYears() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        LocalDateTime[] localDateTimes = {LocalDateTime.of(2024, 3, 31, 2, 30, 0, 999999999), LocalDateTime.of(2024, 10, 27, 2, 30, 0, 1000000),
+                LocalDateTime.of(1, 1, 1, 0, 30), LocalDateTime.of(10000, 1, 1, 0, 0), LocalDateTime.of(-5, 6, 1, 0, 0), LocalDateTime.MAX, LocalDateTime.MIN.plusDays(1)};
+        for (LocalDateTime localDateTime : localDateTimes) {
+            String expected = formatter.format(localDateTime.atZone(ZoneId.of("Europe/Berlin")).withZoneSameInstant(ZoneId.of("UTC")));
+            assertEquals(expected, DateTimeConverter.convertToUTCZonedDateTimeText(localDateTime, "Europe/Berlin"));
+        }
+    }
+
+    @Test
+    void convertToUTCZonedDateTimeText_ReturnSignedYear_WhenUTCYearIsOutsideFourDigits() {
+        assertEquals("+10001-01-01T00:00:00.000Z", DateTimeConverter.convertToUTCZonedDateTimeText(LocalDateTime.of(10001, 1, 1, 0, 0), "UTC"));
+        assertEquals("+10000-01-01T01:00:00.000Z", UncheckedDateTimeConverter.convertToUTCZonedDateTimeText(LocalDateTime.of(10000, 1, 1, 3, 0), "Africa/Johannesburg"));
+        assertEquals("+1000000-06-01T00:00:00.000Z", DateTimeConverter.convertToUTCZonedDateTimeText(LocalDateTime.of(-999999, 6, 1, 0, 0), "UTC"));
+        assertEquals("0001-12-31T23:00:00.000Z", DateTimeConverter.convertToUTCZonedDateTimeText(LocalDateTime.of(1, 1, 1, 1, 0), "+02:00"));
+    }
+
     @Test
     void convertToUTCZonedDateTimeText_ReturnCorrectlyConvertedUTCZonedDateTime_WhenLocalDateTimeAndLocalZoneIdAndFormatterIsValid() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssX");
@@ -519,4 +540,79 @@ class DateTimeConverterTests {
         assertNotNull(actualDate);
     }
 
+    @Test
+    void tryConvertToLocalDate_ReturnSuccessfulResult_WhenLocalDateTextIsValid() {
+        ConversionResult<LocalDate> result = DateTimeConverter.tryConvertToLocalDate("2023-12-05", ConversionResult.getInstance());
+        assertTrue(result.isSuccess());
+        assertEquals(LocalDate.of(2023, 12, 5), result.getValue());
+    }
+
+    @Test
+    void tryConvertToLocalDate_ReturnInvalidFieldValue_WhenMonthIsOutOfRange() {
+        ConversionResult<LocalDate> result = DateTimeConverter.tryConvertToLocalDate("2023-50-05", ConversionResult.getInstance());
+        assertFalse(result.isSuccess());
+        assertNull(result.getValue());
+        assertEquals(ConversionErrorCode.INVALID_FIELD_VALUE, result.getErrorCode());
+    }
+
+    @Test
+    void tryConvertToLocalDate_ReturnInvalidFieldValue_WhenDayDoesNotExistInMonth() {
+        ConversionResult<LocalDate> result = DateTimeConverter.tryConvertToLocalDate("2023-02-29", ConversionResult.getInstance());
+        assertEquals(ConversionErrorCode.INVALID_FIELD_VALUE, result.getErrorCode());
+    }
+
+    @Test
+    void tryConvertToLocalDate_ReuseResult_WhenCalledWithDifferentTexts() {
+        ConversionResult<LocalDate> result = ConversionResult.getInstance();
+        assertSame(result, DateTimeConverter.tryConvertToLocalDate("05/12/2023", "dd/MM/yyyy", result));
+        assertEquals(LocalDate.of(2023, 12, 5), result.getValue());
+        DateTimeConverter.tryConvertToLocalDate("05-12-2023", "dd/MM/yyyy", result);
+        assertEquals(ConversionErrorCode.UNPARSEABLE_TEXT, result.getErrorCode());
+        assertEquals(2, result.getErrorIndex());
+        DateTimeConverter.tryConvertToLocalDate(" ", "dd/MM/yyyy", result);
+        assertEquals(ConversionErrorCode.EMPTY_INPUT, result.getErrorCode());
+    }
+
+    @Test
+    void tryConvertToLocalDateTime_ReturnUnparseableText_WhenTextHasTrailingCharacters() {
+        ConversionResult<LocalDateTime> result = DateTimeConverter.tryConvertToLocalDateTime("2023-12-08T16:02:10 extra", ConversionResult.getInstance());
+        assertEquals(ConversionErrorCode.UNPARSEABLE_TEXT, result.getErrorCode());
+        assertEquals(19, result.getErrorIndex());
+    }
+
+    @Test
+    void tryConvertToLocalDateTimeWithPattern_ReturnSuccessfulResult_WhenTextAndPatternAreValid() {
+        ConversionResult<LocalDateTime> result = DateTimeConverter.tryConvertToLocalDateTimeWithPattern("18/11/2023T16:02:10", "dd/MM/yyyy'T'HH:mm:ss", ConversionResult.getInstance());
+        assertEquals(LocalDateTime.of(2023, 11, 18, 16, 2, 10), result.getValue());
+    }
+
+    @Test
+    void tryConvertToLocalDateTimeWithZone_ReturnExpectedResults_WhenTextOrZoneIsValidOrInvalid() {
+        ConversionResult<LocalDateTime> result = ConversionResult.getInstance();
+        DateTimeConverter.tryConvertToLocalDateTimeWithZone("2023-11-10T10:00:00.254Z", "Africa/Johannesburg", result);
+        assertEquals(LocalDateTime.of(2023, 11, 10, 12, 0, 0, 254000000), result.getValue());
+        DateTimeConverter.tryConvertToLocalDateTimeWithZone("2023-11-10T10:00:00.254", "Africa/Johannesburg", result);
+        assertEquals(ConversionErrorCode.UNPARSEABLE_TEXT, result.getErrorCode());
+        DateTimeConverter.tryConvertToLocalDateTimeWithZone("2023-11-10T10:00:00.254Z", "invalid_timezone_id", result);
+        assertEquals(ConversionErrorCode.INVALID_TIME_ZONE_ID, result.getErrorCode());
+    }
+
+    @Test
+    void tryConvertToZonedDateTime_ReturnInvalidTimeZoneId_WhenTimeZoneIdIsInvalid() {
+        ConversionResult<ZonedDateTime> result = DateTimeConverter.tryConvertToZonedDateTime(LocalDateTime.of(2023, 11, 10, 12, 0), "invalid_time_zone_id", ConversionResult.getInstance());
+        assertEquals(ConversionErrorCode.INVALID_TIME_ZONE_ID, result.getErrorCode());
+    }
+
+    @Test
+    void tryConvertEpochMillisToLocalDateTime_ReturnSuccessfulResult_WhenTimeZoneIdIsValid() {
+        ConversionResult<LocalDateTime> result = DateTimeConverter.tryConvertEpochMillisToLocalDateTime(1704124883000L, "Africa/Johannesburg", ConversionResult.getInstance());
+        assertEquals(DateTimeConverter.convertEpochMillisToLocalDateTime(1704124883000L, "Africa/Johannesburg"), result.getValue());
+    }
+
+    @Test
+    void tryConvertToLocalDate_ThrowIllegalArgumentException_WhenResultIsNull() {
+        IllegalArgumentException illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> DateTimeConverter.tryConvertToLocalDate("2023-12-05", null));
+        assertEquals(ErrorMessages.CONVERSION_RESULT_NULL, illegalArgumentException.getMessage());
+    }
+
 }
@@ -0,0 +1,147 @@
+package io.github.perceivechuchu.datetimeutil.converter;
+
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneOffsetTable;
+import io.github.perceivechuchu.datetimeutil.timezone.ZoneRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class IsoTextParserTests {
+
+    private static final String MUTATION_CHARACTERS = "0123456789-:.TtZz+[]/ x";
+
+    @Test
+    void parseLocalDate_ReturnSameDateAsJavaTime_WhenTextIsRandomOrMutated() {
+        Random random = new Random(5);
+        for (int i = 0; i < 100_000; i++) {
+            String text = mutate(String.format("%04d-%02d-%02d", random.nextInt(10000), 1 + random.nextInt(13), random.nextInt(33)), random);
+            LocalDate actual = IsoTextParser.parseLocalDate(text);
+            if (actual != null) {
+                assertEquals(LocalDate.parse(text), actual, text);
+            }
+        }
+        assertEquals(LocalDate.of(2024, 2, 29), IsoTextParser.parseLocalDate("2024-02-29"));
+        assertNull(IsoTextParser.parseLocalDate("2023-02-29"));
+    }
+
+    @Test
+    void parseLocalDateTime_ReturnSameDateTimeAsJavaTime_WhenTextIsRandomOrMutated() {
+        Random random = new Random(9);
+        int parsed = 0;
+        for (int i = 0; i < 100_000; i++) {
+            String text = mutate(newLocalDateTimeText(random), random);
+            LocalDateTime actual = IsoTextParser.parseLocalDateTime(text);
+            if (actual != null) {
+                assertEquals(LocalDateTime.parse(text), actual, text);
+                parsed++;
+            }
+        }
+        assertTrue(parsed > 50_000);
+    }
+
+    @Test
+    void parseZonedDateTimeToLocalDateTime_ReturnSameDateTimeAsJavaTime_WhenTextIsRandomOrMutated() {
+        Random random = new Random(13);
+        List<String> regions = new ArrayList<>(ZoneId.getAvailableZoneIds());
+        regions.sort(String::compareTo);
+        String[] targetZoneIds = {"UTC", "Europe/Berlin", "America/New_York", "Australia/Lord_Howe"};
+        int parsed = 0;
+        for (int i = 0; i < 200_000; i++) {
+            String text = newLocalDateTimeText(random) + newOffsetText(random);
+            if (random.nextInt(3) == 0) {
+                text += "[" + regions.get(random.nextInt(regions.size())) + "]";
+            }
+            text = mutate(text, random);
+            String targetZoneId = targetZoneIds[random.nextInt(targetZoneIds.length)];
+            ZoneOffsetTable offsetTable = ZoneRegistry.getZoneOffsetTable(targetZoneId);
+            LocalDateTime actual = IsoTextParser.parseZonedDateTimeToLocalDateTime(text, offsetTable);
+            if (actual != null) {
+                assertEquals(ZonedDateTime.parse(text).withZoneSameInstant(ZoneId.of(targetZoneId)).toLocalDateTime(), actual, text);
+                parsed++;
+            }
+        }
+        assertTrue(parsed > 50_000);
+    }
+
+    @Test
+    void parseZonedDateTimeToLocalDateTime_ReturnSameDateTimeAsJavaTime_WhenTextHasEveryRegion() {
+        ZoneOffsetTable offsetTable = ZoneRegistry.getZoneOffsetTable("Africa/Johannesburg");
+        for (String region : ZoneId.getAvailableZoneIds()) {
+            String text = "2024-03-31T02:30:00.5+01:00[" + region + "]";
+            LocalDateTime actual = IsoTextParser.parseZonedDateTimeToLocalDateTime(text, offsetTable);
+            LocalDateTime expected;
+            try {
+                expected = ZonedDateTime.parse(text).withZoneSameInstant(ZoneId.of("Africa/Johannesburg")).toLocalDateTime();
+            } catch (DateTimeException e) {
+                assertNull(actual, text);
+                continue;
+            }
+            if (actual != null) {
+                assertEquals(expected, actual, text);
+            }
+        }
+    }
+
+    private static String newLocalDateTimeText(Random random) {
+        StringBuilder builder = new StringBuilder(String.format("%04d-%02d-%02dT%02d:%02d", random.nextInt(10000), 1 + random.nextInt(12),
+                1 + random.nextInt(31), random.nextInt(25), random.nextInt(61)));
+        if (random.nextInt(4) != 0) {
+            builder.append(String.format(":%02d", random.nextInt(61)));
+            if (random.nextBoolean()) {
+                builder.append('.');
+                int digits = random.nextInt(11);
+                for (int i = 0; i < digits; i++) {
+                    builder.append((char) ('0' + random.nextInt(10)));
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String newOffsetText(Random random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return "Z";
+            case 1:
+                return String.format("+%02d:%02d", random.nextInt(20), random.nextInt(61));
+            case 2:
+                return String.format("-%02d:%02d", random.nextInt(20), random.nextInt(61));
+            default:
+                return String.format("+%02d:%02d:%02d", random.nextInt(19), random.nextInt(60), random.nextInt(60));
+        }
+    }
+
+    private static String mutate(String text, Random random) {
+        if (random.nextInt(4) != 0) {
+            return text;
+        }
+        StringBuilder builder = new StringBuilder(text);
+        int position = random.nextInt(builder.length());
+        switch (random.nextInt(3)) {
+            case 0:
+                builder.setCharAt(position, MUTATION_CHARACTERS.charAt(random.nextInt(MUTATION_CHARACTERS.length())));
+                break;
+            case 1:
+                builder.deleteCharAt(position);
+                break;
+            default:
+                builder.insert(position, MUTATION_CHARACTERS.charAt(random.nextInt(MUTATION_CHARACTERS.length())));
+        }
+        return builder.toString();
+    }
+}
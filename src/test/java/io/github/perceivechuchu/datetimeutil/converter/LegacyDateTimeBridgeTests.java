@@ -0,0 +1,123 @@
+package io.github.perceivechuchu.datetimeutil.converter;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class LegacyDateTimeBridgeTests {
+
+    private static final String[] TIME_ZONE_IDS = {"Africa/Johannesburg", "Europe/Berlin", "America/New_York", "Australia/Lord_Howe", "Asia/Kolkata", "UTC"};
+
+    @Test
+    void toCalendar_ReturnCalendarInTimeZone_WhenLocalDateTimeIsSupplied() {
+        Random random = new Random(17);
+        for (int i = 0; i < 2000; i++) {
+            String timeZoneId = TIME_ZONE_IDS[random.nextInt(TIME_ZONE_IDS.length)];
+            LocalDateTime localDateTime = LocalDateTime.of(1950 + random.nextInt(120), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+            ZonedDateTime expected = localDateTime.atZone(ZoneId.of(timeZoneId));
+            Calendar calendar = LegacyDateTimeBridge.toCalendar(localDateTime, timeZoneId);
+            assertEquals(expected.toInstant().toEpochMilli(), calendar.getTimeInMillis(), localDateTime + " " + timeZoneId);
+            assertEquals(timeZoneId, calendar.getTimeZone().getID());
+            assertEquals(expected.getHour(), calendar.get(Calendar.HOUR_OF_DAY));
+            assertEquals(expected.getDayOfMonth(), calendar.get(Calendar.DAY_OF_MONTH));
+            assertEquals(expected.toInstant().toEpochMilli(), LegacyDateTimeBridge.toDate(localDateTime, timeZoneId).getTime());
+        }
+    }
+
+    @Test
+    void toCalendar_ResolveLikeAtZone_WhenLocalDateTimeIsInDaylightSavingGapOrOverlap() {
+        LocalDateTime gap = LocalDateTime.of(2024, 3, 31, 2, 30);
+        LocalDateTime overlap = LocalDateTime.of(2024, 10, 27, 2, 30);
+        assertEquals(gap.atZone(ZoneId.of("Europe/Berlin")).toInstant().toEpochMilli(), LegacyDateTimeBridge.toCalendar(gap, "Europe/Berlin").getTimeInMillis());
+        assertEquals(overlap.atZone(ZoneId.of("Europe/Berlin")).toInstant().toEpochMilli(), LegacyDateTimeBridge.toCalendar(overlap, "Europe/Berlin").getTimeInMillis());
+        assertEquals(3, LegacyDateTimeBridge.toCalendar(gap, "Europe/Berlin").get(Calendar.HOUR_OF_DAY));
+    }
+
+    @Test
+    void toCalendar_ReturnCalendarOfDefaultLocale_WhenDefaultLocaleIsNotGregorian() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale formatLocale = Locale.getDefault(Locale.Category.FORMAT);
+        Locale.setDefault(new Locale("th", "TH"));
+        try {
+            long epochMillis = LocalDateTime.of(2023, 11, 10, 12, 0).atZone(ZoneId.of("Asia/Bangkok")).toInstant().toEpochMilli();
+            Calendar calendar = LegacyDateTimeBridge.toCalendar(epochMillis, "Asia/Bangkok");
+            assertEquals("buddhist", calendar.getCalendarType());
+            assertEquals(2566, calendar.get(Calendar.YEAR));
+            assertEquals(12, calendar.get(Calendar.HOUR_OF_DAY));
+            Calendar converted = DateTimeConverter.convertToCalendar(new Date(epochMillis));
+            assertEquals(Calendar.getInstance().getClass(), converted.getClass());
+            assertEquals(epochMillis, converted.getTimeInMillis());
+        } finally {
+            Locale.setDefault(defaultLocale);
+            Locale.setDefault(Locale.Category.FORMAT, formatLocale);
+        }
+    }
+
+    @Test
+    void fillCalendar_ReuseTargetAndTimeZone_WhenTimeZoneIdIsUnchanged() {
+        Calendar target = new GregorianCalendar();
+        assertSame(target, LegacyDateTimeBridge.fillCalendar(1704124883000L, "Europe/Berlin", target));
+        TimeZone timeZone = target.getTimeZone();
+        assertEquals("Europe/Berlin", timeZone.getID());
+        assertEquals(17, target.get(Calendar.HOUR_OF_DAY));
+        LegacyDateTimeBridge.fillCalendar(LocalDateTime.of(2024, 7, 1, 12, 0), "Europe/Berlin", target);
+        assertSame(timeZone, target.getTimeZone());
+        assertEquals(12, target.get(Calendar.HOUR_OF_DAY));
+        assertEquals(Calendar.JULY, target.get(Calendar.MONTH));
+        LegacyDateTimeBridge.fillCalendar(1704124883000L, "+02:00", target);
+        assertEquals(7200000, target.getTimeZone().getRawOffset());
+        assertEquals(18, target.get(Calendar.HOUR_OF_DAY));
+    }
+
+    @Test
+    void toTimestamp_KeepNanosAndExplicitTimeZone_WhenLocalDateTimeIsSupplied() {
+        LocalDateTime localDateTime = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 987654321);
+        Timestamp timestamp = LegacyDateTimeBridge.toTimestamp(localDateTime, "Asia/Kolkata");
+        assertEquals(localDateTime.atZone(ZoneId.of("Asia/Kolkata")).toInstant(), timestamp.toInstant());
+        assertEquals(987654321, timestamp.getNanos());
+        assertEquals(localDateTime, LegacyDateTimeBridge.toLocalDateTime(timestamp, "Asia/Kolkata"));
+        assertEquals(localDateTime.minusMinutes(330), LegacyDateTimeBridge.toLocalDateTime(timestamp, "UTC"));
+        assertSame(timestamp, LegacyDateTimeBridge.fillTimestamp(LocalDateTime.of(2024, 1, 1, 0, 0), "UTC", timestamp));
+        assertEquals(1704067200000L, timestamp.getTime());
+        assertEquals(0, timestamp.getNanos());
+    }
+
+    @Test
+    void toZonedDateTime_ReturnZonedDateTimeInCalendarTimeZone_WhenCalendarIsSupplied() {
+        Calendar calendar = LegacyDateTimeBridge.toCalendar(1704124883000L, "America/New_York");
+        ZonedDateTime zonedDateTime = DateTimeConverter.convertToZonedDateTime(calendar);
+        assertEquals(ZoneId.of("America/New_York"), zonedDateTime.getZone());
+        assertEquals(1704124883000L, zonedDateTime.toInstant().toEpochMilli());
+        Calendar converted = DateTimeConverter.convertToCalendar(zonedDateTime);
+        assertEquals("America/New_York", converted.getTimeZone().getID());
+        assertEquals(calendar.get(Calendar.HOUR_OF_DAY), converted.get(Calendar.HOUR_OF_DAY));
+    }
+
+    @Test
+    void toCalendar_ThrowDateTimeConversionException_WhenTimeZoneIdIsInvalid() {
+        assertThrows(DateTimeConversionException.class, () -> LegacyDateTimeBridge.toCalendar(0L, "invalid_time_zone_id"));
+        assertThrows(DateTimeConversionException.class, () -> LegacyDateTimeBridge.toCalendar(LocalDateTime.of(2024, 1, 1, 0, 0), "invalid_time_zone_id"));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> LegacyDateTimeBridge.fillCalendar(0L, "UTC", null));
+        assertEquals(ErrorMessages.TARGET_NULL, exception.getMessage());
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.perceivechuchu.datetimeutil.converter;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class UncheckedDateTimeConverterTests {
+
+    @Test
+    void convert_ReturnSameValueAsCheckedConversion_WhenInputIsValid() {
+        LocalDateTime localDateTime = LocalDateTime.of(2023, 11, 10, 12, 0, 0, 254000000);
+        assertEquals(DateTimeConverter.convertToUTCZonedDateTimeText(localDateTime, "Africa/Johannesburg"),
+                UncheckedDateTimeConverter.convertToUTCZonedDateTimeText(localDateTime, "Africa/Johannesburg"));
+        assertEquals(DateTimeConverter.convertToZonedDateTime(localDateTime, "Africa/Johannesburg", "US/Pacific"),
+                UncheckedDateTimeConverter.convertToZonedDateTime(localDateTime, "Africa/Johannesburg", "US/Pacific"));
+        assertEquals(LocalDateTime.of(2023, 11, 10, 12, 0, 0, 254000000),
+                UncheckedDateTimeConverter.convertToLocalDateTimeWithZone("2023-11-10T10:00:00.254Z", "Africa/Johannesburg"));
+        assertEquals(LocalDate.of(2023, 12, 5), UncheckedDateTimeConverter.convertToLocalDate("2023-12-05"));
+        assertEquals(LocalDate.of(2023, 12, 5), UncheckedDateTimeConverter.convertToLocalDate("05/12/2023", DateTimeFormatter.ofPattern("dd/MM/yyyy")));
+        assertEquals(LocalDateTime.of(2023, 12, 8, 16, 2, 10), UncheckedDateTimeConverter.convertToLocalDateTime("2023-12-08T16:02:10"));
+        long epochMillis = UncheckedDateTimeConverter.convertLocalDateTimeToEpochMillis(localDateTime, "Africa/Johannesburg");
+        assertEquals(DateTimeConverter.convertLocalDateTimeToEpochMillis(localDateTime, "Africa/Johannesburg"), epochMillis);
+        assertEquals(localDateTime, UncheckedDateTimeConverter.convertEpochMillisToLocalDateTime(epochMillis, "Africa/Johannesburg"));
+    }
+
+    @Test
+    void convert_ThrowDateTimeConversionException_WhenTextOrTimeZoneIdIsBlank() {
+        assertThrows(DateTimeConversionException.class, () -> UncheckedDateTimeConverter.convertToLocalDate(" "));
+        assertThrows(DateTimeConversionException.class, () -> UncheckedDateTimeConverter.convertToLocalDateTime(""));
+        assertThrows(DateTimeConversionException.class, () -> UncheckedDateTimeConverter.convertEpochMillisToLocalDateTime(0L, " "));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> DateTimeConverter.convertToLocalDate(" "));
+        assertEquals(ErrorMessages.LOCAL_DATE_TEXT_EMPTY, exception.getMessage());
+    }
+
+    @Test
+    void convert_ThrowNullPointerException_WhenValueIsNull() {
+        NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> UncheckedDateTimeConverter.convertToUTCZonedDateTimeText(null, "Africa/Johannesburg"));
+        assertEquals(ErrorMessages.LOCAL_DATE_TIME_NULL, exception.getMessage());
+        assertThrows(NullPointerException.class, () -> UncheckedDateTimeConverter.convertToLocalDateTime("2023-12-08T16:02:10", (DateTimeFormatter) null));
+    }
+}
@@ -0,0 +1,210 @@
+package io.github.perceivechuchu.datetimeutil.flow;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.converter.ConversionProfile;
+import io.github.perceivechuchu.datetimeutil.converter.DateTimeConverter;
+import io.github.perceivechuchu.datetimeutil.validator.DateTimeValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class ConversionProcessorTests {
+
+    @Test
+    void subscribe_ReceiveConvertedElementsInOrder_WhenElementsArePublishedOnExecutor() throws InterruptedException {
+        ConversionProfile profile = DateTimeConverter.profile().from("Africa/Johannesburg").to("America/New_York").build();
+        List<LocalDateTime> localDateTimes = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            localDateTimes.add(LocalDateTime.of(2023, 1, 1, 0, 0).plusMinutes(i * 37L));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ConversionProcessor<LocalDateTime, String> processor = ConversionProcessor.builder(profile::convertToText).executor(executor).batchSize(64).build();
+            RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(100);
+            processor.subscribe(subscriber);
+            new IterablePublisher<>(localDateTimes).subscribe(processor);
+            assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+            assertNull(subscriber.error);
+            assertTrue(subscriber.completed);
+            assertEquals(localDateTimes.size(), subscriber.items.size());
+            for (int i = 0; i < localDateTimes.size(); i++) {
+                assertEquals(profile.convertToText(localDateTimes.get(i)), subscriber.items.get(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void subscribe_ConvertOneBatchPerTask_WhenUpstreamPublishesFasterThanBatchSize() {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(i);
+        }
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        ConversionProcessor<Integer, String> processor = ConversionProcessor.<Integer, String>builder(String::valueOf).executor(tasks::add).batchSize(100).build();
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        new IterablePublisher<>(numbers).subscribe(processor);
+        int taskCount = 0;
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            int delivered = subscriber.items.size();
+            task.run();
+            assertTrue(subscriber.items.size() - delivered <= 100);
+            taskCount++;
+        }
+        assertTrue(taskCount >= 10);
+        assertTrue(subscriber.completed);
+        assertEquals(numbers.size(), subscriber.items.size());
+
+        // An executor that runs tasks on the calling thread goes on with the loop instead of nesting a call per batch
+        List<Integer> manyNumbers = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            manyNumbers.add(i);
+        }
+        ConversionProcessor<Integer, String> direct = ConversionProcessor.<Integer, String>builder(String::valueOf).executor(Runnable::run).batchSize(1).build();
+        RecordingSubscriber<String> directSubscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        direct.subscribe(directSubscriber);
+        new IterablePublisher<>(manyNumbers).subscribe(direct);
+        assertNull(directSubscriber.error);
+        assertTrue(directSubscriber.completed);
+        assertEquals(manyNumbers.size(), directSubscriber.items.size());
+    }
+
+    @Test
+    void request_ForwardOnlySubscriberDemand_WhenSubscriberRequestsLessThanAvailable() {
+        ConversionProcessor<String, Boolean> processor = ConversionProcessor.<String, Boolean>builder(DateTimeValidator::isValid).executor(Runnable::run).build();
+        RecordingSubscriber<Boolean> subscriber = new RecordingSubscriber<>(0);
+        processor.subscribe(subscriber);
+        RecordingSubscription upstream = new RecordingSubscription();
+        processor.onSubscribe(upstream);
+        assertEquals(0, upstream.requested.get());
+
+        subscriber.subscription.request(2);
+        assertEquals(2, upstream.requested.get());
+        processor.onNext("2023-12-05");
+        processor.onNext("not a date");
+        assertEquals(Arrays.asList(true, false), subscriber.items);
+
+        processor.onComplete();
+        assertTrue(subscriber.completed);
+        assertEquals(2, upstream.requested.get());
+    }
+
+    @Test
+    void subscribe_ReceiveError_WhenConversionFailsOrSubscriptionIsMisused() {
+        ConversionProcessor<String, LocalDateTime> processor = ConversionProcessor.<String, LocalDateTime>builder(DateTimeConverter::convertToLocalDateTime).executor(Runnable::run).build();
+        RecordingSubscriber<LocalDateTime> subscriber = new RecordingSubscriber<>(10);
+        processor.subscribe(subscriber);
+        RecordingSubscription upstream = new RecordingSubscription();
+        processor.onSubscribe(upstream);
+        processor.onNext("2023-12-08T16:02:10");
+        processor.onNext("not a date time");
+        assertEquals(Collections.singletonList(LocalDateTime.of(2023, 12, 8, 16, 2, 10)), subscriber.items);
+        assertNotNull(subscriber.error);
+        assertTrue(upstream.cancelled);
+
+        RecordingSubscriber<LocalDateTime> second = new RecordingSubscriber<>(1);
+        processor.subscribe(second);
+        assertEquals(ErrorMessages.SUBSCRIBER_ALREADY_PRESENT, second.error.getMessage());
+
+        RecordingSubscriber<Integer> invalidRequest = new RecordingSubscriber<>(0);
+        new IterablePublisher<>(Arrays.asList(1, 2)).subscribe(invalidRequest);
+        invalidRequest.subscription.request(0);
+        assertEquals(ErrorMessages.REQUEST_INVALID, invalidRequest.error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> ConversionProcessor.builder(String::length).batchSize(0));
+        if (ConversionProcessor.isVirtualThreadExecutorSupported()) {
+            ConversionProcessor.newVirtualThreadExecutor().shutdown();
+        } else {
+            assertThrows(UnsupportedOperationException.class, ConversionProcessor::newVirtualThreadExecutor);
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements ConversionFlow.Subscriber<T> {
+
+        private final long batch;
+
+        private final List<T> items = Collections.synchronizedList(new ArrayList<>());
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        private ConversionFlow.Subscription subscription;
+
+        private long pending;
+
+        private volatile Throwable error;
+
+        private volatile boolean completed;
+
+        private RecordingSubscriber(long batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(ConversionFlow.Subscription subscription) {
+            this.subscription = subscription;
+            if (batch > 0) {
+                pending = batch;
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+            if (batch > 0 && --pending == 0) {
+                pending = batch;
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+
+    private static final class RecordingSubscription implements ConversionFlow.Subscription {
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
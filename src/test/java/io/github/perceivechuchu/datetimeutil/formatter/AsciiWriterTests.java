@@ -0,0 +1,99 @@
+package io.github.perceivechuchu.datetimeutil.formatter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class AsciiWriterTests {
+
+    @Test
+    void write_CopyCharactersAsBytes_WhenBaselineIsUsed() throws Exception {
+        assertEquals("java8", AsciiWriter.IMPLEMENTATION);
+        assertWritesAscii(AsciiWriter.class);
+    }
+
+    @Test
+    void write_CopyCharactersAsBytes_WhenJava17VariantIsUsed() throws Exception {
+        String specificationVersion = System.getProperty("java.specification.version");
+        assumeTrue(!specificationVersion.startsWith("1.") && Integer.parseInt(specificationVersion) >= 17);
+        Path classes = Paths.get(AsciiWriter.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path versioned = classes.resolve("META-INF/versions/17");
+        assumeTrue(Files.isDirectory(versioned));
+        // The JVM only selects versioned classes from a JAR, so the variant is loaded ahead of the baseline in its own class loader
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{versioned.toUri().toURL(), classes.toUri().toURL()}, null)) {
+            Class<?> variant = Class.forName(AsciiWriter.class.getName(), true, loader);
+            assertEquals("java17", field(variant, "IMPLEMENTATION"));
+            assertWritesAscii(variant);
+        }
+    }
+
+    private static void assertWritesAscii(Class<?> writer) throws Exception {
+        Method arrayWrite = writer.getDeclaredMethod("write", char[].class, int.class, byte[].class, int.class);
+        Method bufferWrite = writer.getDeclaredMethod("write", char[].class, int.class, ByteBuffer.class);
+        arrayWrite.setAccessible(true);
+        bufferWrite.setAccessible(true);
+        Random random = new Random(24);
+        for (int i = 0; i < 2_000; i++) {
+            char[] source = new char[random.nextInt(48)];
+            for (int j = 0; j < source.length; j++) {
+                source[j] = (char) (' ' + random.nextInt(95));
+            }
+            int length = source.length == 0 ? 0 : random.nextInt(source.length + 1);
+            int offset = random.nextInt(9);
+            byte[] expected = new byte[offset + length + 3];
+            for (int j = 0; j < length; j++) {
+                expected[offset + j] = (byte) source[j];
+            }
+
+            byte[] target = new byte[expected.length];
+            arrayWrite.invoke(null, source, length, target, offset);
+            assertArrayEquals(expected, target);
+
+            ByteBuffer heap = ByteBuffer.allocate(expected.length + 5);
+            heap.position(5);
+            ByteBuffer slice = heap.slice();
+            slice.position(offset);
+            bufferWrite.invoke(null, source, length, slice);
+            assertEquals(offset + length, slice.position());
+            assertArrayEquals(expected, Arrays.copyOfRange(heap.array(), 5, heap.capacity()));
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+            direct.position(offset);
+            bufferWrite.invoke(null, source, length, direct);
+            assertEquals(offset + length, direct.position());
+            byte[] directBytes = new byte[expected.length];
+            direct.clear();
+            direct.get(directBytes);
+            assertArrayEquals(expected, directBytes);
+        }
+        InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+                () -> bufferWrite.invoke(null, "2023-11-10T10:00:00Z".toCharArray(), 20, ByteBuffer.allocate(32).asReadOnlyBuffer()));
+        assertTrue(exception.getCause() instanceof ReadOnlyBufferException);
+    }
+
+    private static Object field(Class<?> type, String name) throws ReflectiveOperationException {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.perceivechuchu.datetimeutil.formatter;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.converter.DateTimeConverter;
+import io.github.perceivechuchu.datetimeutil.model.DateTextTableStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class DateTextTableTests {
+
+    @AfterEach
+    void tearDown() {
+        DateTextTable.setEnabled(false);
+        DateTextTable.setMaximumBytes(DateTextTable.DEFAULT_MAXIMUM_BYTES);
+        DateTextTable.setWindow(DateTextTable.DEFAULT_START_YEAR, DateTextTable.DEFAULT_END_YEAR);
+        DateTextTable.clear();
+    }
+
+    @Test
+    void convertToLocalDateText_ReturnSameTextAsFormatter_WhenTablesAreEnabled() {
+        DateTextTable.setEnabled(true);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEEE d MMMM yyyy", Locale.GERMANY);
+        DateTextTable.setWindow(2000, 2030);
+        assertEquals(11_323, DateTextTable.warmUp(formatter));
+        Random random = new Random(22);
+        for (int i = 0; i < 20_000; i++) {
+            LocalDate localDate = LocalDate.ofEpochDay(-200_000 + random.nextInt(400_000));
+            assertEquals(String.valueOf(localDate), DateTimeConverter.convertToLocalDateText(localDate));
+            assertEquals(localDate.format(formatter), DateTimeConverter.convertToLocalDateText(localDate, formatter));
+            assertEquals(localDate.format(DateTimeFormatter.ofPattern("dd/MM/yyyy")), DateTimeConverter.convertToLocalDateText(localDate, "dd/MM/yyyy"));
+        }
+        LocalDate localDate = LocalDate.of(2023, 12, 5);
+        assertSame(DateTimeConverter.convertToLocalDateText(localDate, formatter), DateTimeConverter.convertToLocalDateText(localDate, formatter));
+        DateTextTableStatistics statistics = DateTextTable.getStatistics();
+        assertEquals(3, statistics.getTableCount());
+        assertTrue(statistics.getHitCount() > 0);
+        assertTrue(statistics.getFallbackCount() > 0);
+        assertEquals(statistics.getMissCount(), statistics.getEntryCount());
+        assertTrue(statistics.getEstimatedBytes() > 0 && statistics.getEstimatedBytes() <= statistics.getMaximumBytes());
+    }
+
+    @Test
+    void convertToLocalDateText_KeepDefaultTable_WhenFormattersAreCreatedPerCall() {
+        DateTextTable.setEnabled(true);
+        LocalDate localDate = LocalDate.of(2023, 12, 5);
+        for (int i = 0; i < 200; i++) {
+            assertEquals("05/12/2023", DateTimeConverter.convertToLocalDateText(localDate, DateTimeFormatter.ofPattern("dd/MM/yyyy")));
+        }
+        assertEquals(0, DateTextTable.getStatistics().getTableCount());
+        assertEquals(200, DateTextTable.getStatistics().getFallbackCount());
+        assertSame(DateTimeConverter.convertToLocalDateText(localDate), DateTimeConverter.convertToLocalDateText(localDate));
+        assertSame(DateTimeConverter.convertToLocalDateText(localDate, "dd/MM/yyyy"), DateTimeConverter.convertToLocalDateText(localDate, "dd/MM/yyyy"));
+        DateTextTableStatistics statistics = DateTextTable.getStatistics();
+        assertEquals(2, statistics.getTableCount());
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(2, statistics.getMissCount());
+    }
+
+    @Test
+    void warmUp_FillWindowWithinMemoryCap_WhenWindowIsConfigured() {
+        DateTextTable.setWindow(2000, 2001);
+        assertEquals(731, DateTextTable.warmUp(DateTimeFormatter.ISO_LOCAL_DATE));
+        assertEquals(731, DateTextTable.getStatistics().getEntryCount());
+        assertEquals("1999-12-31", DateTextTable.format(LocalDate.of(1999, 12, 31), DateTimeFormatter.ISO_LOCAL_DATE));
+        assertEquals(1, DateTextTable.getStatistics().getFallbackCount());
+
+        DateTextTable.clear();
+        DateTextTable.setMaximumBytes(10_000);
+        int filled = DateTextTable.warmUp(DateTimeFormatter.BASIC_ISO_DATE);
+        assertTrue(filled > 0 && filled < 731);
+        assertTrue(DateTextTable.getStatistics().getEstimatedBytes() <= 10_000);
+        assertEquals("20011231", DateTextTable.format(LocalDate.of(2001, 12, 31), DateTimeFormatter.BASIC_ISO_DATE));
+        DateTextTable.setMaximumBytes(1);
+        assertEquals("2023-12-05", DateTextTable.format(LocalDate.of(2023, 12, 5), DateTimeFormatter.ISO_LOCAL_DATE));
+        assertEquals(0, DateTextTable.warmUp(DateTimeFormatter.ISO_DATE));
+
+        DateTextTable.clear();
+        DateTextTable.setMaximumBytes(DateTextTable.DEFAULT_MAXIMUM_BYTES);
+        assertEquals(731, DateTextTable.warmUp("dd/MM/yyyy", Locale.GERMANY));
+        assertEquals("31/12/2001", DateTextTable.format(LocalDate.of(2001, 12, 31), "dd/MM/yyyy", Locale.GERMANY));
+        assertEquals(1, DateTextTable.getStatistics().getHitCount());
+    }
+
+    @Test
+    void configure_ThrowIllegalArgumentException_WhenParameterIsNotValid() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> DateTextTable.setWindow(2100, 1970));
+        assertEquals(ErrorMessages.YEAR_RANGE_INVALID, exception.getMessage());
+        exception = assertThrows(IllegalArgumentException.class, () -> DateTextTable.setMaximumBytes(0));
+        assertEquals(ErrorMessages.MAXIMUM_BYTES_INVALID, exception.getMessage());
+        exception = assertThrows(IllegalArgumentException.class, () -> DateTextTable.format(null, DateTimeFormatter.ISO_LOCAL_DATE));
+        assertEquals(ErrorMessages.LOCAL_DATE_NULL, exception.getMessage());
+        assertEquals(1970, DateTextTable.getStartYear());
+        assertEquals(2100, DateTextTable.getEndYear());
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.perceivechuchu.datetimeutil.formatter;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.model.CacheStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class DateTimeFormatterCacheTests {
+
+    @BeforeEach
+    void setUp() {
+        DateTimeFormatterCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DateTimeFormatterCache.setMaximumSize(DateTimeFormatterCache.DEFAULT_MAXIMUM_SIZE);
+        DateTimeFormatterCache.clear();
+    }
+
+    @Test
+    void getFormatter_ReturnSameFormatterInstance_WhenPatternIsRequestedTwice() {
+        DateTimeFormatter first = DateTimeFormatterCache.getFormatter("dd/MM/yyyy");
+        DateTimeFormatter second = DateTimeFormatterCache.getFormatter("dd/MM/yyyy");
+        assertSame(first, second);
+        assertEquals("05/12/2023", LocalDate.of(2023, 12, 5).format(second));
+        CacheStatistics statistics = DateTimeFormatterCache.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    void getFormatter_ReturnDistinctFormatters_WhenLocalesDiffer() {
+        DateTimeFormatter english = DateTimeFormatterCache.getFormatter("dd MMMM yyyy", Locale.ENGLISH);
+        DateTimeFormatter french = DateTimeFormatterCache.getFormatter("dd MMMM yyyy", Locale.FRENCH);
+        assertNotSame(english, french);
+        assertEquals("05 December 2023", LocalDate.of(2023, 12, 5).format(english));
+        assertEquals("05 décembre 2023", LocalDate.of(2023, 12, 5).format(french));
+    }
+
+    @Test
+    void getFormatter_EvictOldestFormatter_WhenMaximumSizeIsExceeded() {
+        DateTimeFormatterCache.setMaximumSize(2);
+        DateTimeFormatter first = DateTimeFormatterCache.getFormatter("yyyy");
+        DateTimeFormatterCache.getFormatter("MM");
+        DateTimeFormatterCache.getFormatter("dd");
+        CacheStatistics statistics = DateTimeFormatterCache.getStatistics();
+        assertEquals(2, statistics.getSize());
+        assertEquals(1, statistics.getEvictionCount());
+        assertNotSame(first, DateTimeFormatterCache.getFormatter("yyyy"));
+    }
+
+    @Test
+    void getFormatter_ThrowIllegalArgumentException_WhenPatternIsEmpty() {
+        IllegalArgumentException illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> DateTimeFormatterCache.getFormatter(""));
+        assertEquals(ErrorMessages.DATE_FORMAT_PATTERN_EMPTY, illegalArgumentException.getMessage());
+    }
+
+    @Test
+    void getFormatter_ThrowIllegalArgumentException_WhenPatternIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> DateTimeFormatterCache.getFormatter("invalid_pattern"));
+        assertEquals(0, DateTimeFormatterCache.getStatistics().getSize());
+    }
+
+    @Test
+    void setMaximumSize_ThrowIllegalArgumentException_WhenSizeIsNotPositive() {
+        IllegalArgumentException illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> DateTimeFormatterCache.setMaximumSize(0));
+        assertEquals(ErrorMessages.CACHE_MAXIMUM_SIZE_INVALID, illegalArgumentException.getMessage());
+    }
+
+}
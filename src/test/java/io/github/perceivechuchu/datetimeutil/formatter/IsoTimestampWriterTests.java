@@ -0,0 +1,102 @@
+package io.github.perceivechuchu.datetimeutil.formatter;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.constant.IsoTimestampLayout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class IsoTimestampWriterTests {
+
+    @AfterEach
+    void tearDown() {
+        IsoTimestampWriter.setPrefixCacheEnabled(false);
+    }
+
+    @Test
+    void write_ReturnSameTextAsFormatter_WhenInstantsAreRandom() {
+        Random random = new Random(3);
+        char[] target = new char[64];
+        for (IsoTimestampLayout layout : IsoTimestampLayout.values()) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(layout.getDateFormatPattern());
+            for (int i = 0; i < 50_000; i++) {
+                long epochSecond = -70_000_000_000L + (long) (random.nextDouble() * 330_000_000_000L);
+                int nanoOfSecond = random.nextInt(1_000_000_000);
+                String expected = formatter.format(Instant.ofEpochSecond(epochSecond, nanoOfSecond).atOffset(ZoneOffset.UTC));
+                int length = IsoTimestampWriter.write(epochSecond, nanoOfSecond, layout, target, 5);
+                assertEquals(expected, new String(target, 5, length));
+            }
+        }
+    }
+
+    @Test
+    void write_ReturnSameTextAsFormatter_WhenPrefixCacheIsEnabled() {
+        IsoTimestampWriter.setPrefixCacheEnabled(true);
+        assertTrue(IsoTimestampWriter.isPrefixCacheEnabled());
+        Random random = new Random(21);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(IsoTimestampLayout.NANOS.getDateFormatPattern());
+        char[] target = new char[64];
+        long epochSecond = -1L;
+        for (int i = 0; i < 50_000; i++) {
+            // Mostly repeated and neighbouring seconds, with jumps that replace the cached slots
+            epochSecond += random.nextInt(10) == 0 ? random.nextInt(100_000) - 50_000 : random.nextInt(3) - 1;
+            int nanoOfSecond = random.nextInt(1_000_000_000);
+            String expected = formatter.format(Instant.ofEpochSecond(epochSecond, nanoOfSecond).atOffset(ZoneOffset.UTC));
+            int length = IsoTimestampWriter.write(epochSecond, nanoOfSecond, IsoTimestampLayout.NANOS, target, i % 7);
+            assertEquals(expected, new String(target, i % 7, length));
+        }
+        StringBuilder builder = new StringBuilder();
+        IsoTimestampWriter.write(1699610400254L, IsoTimestampLayout.MILLIS, builder);
+        IsoTimestampWriter.write(1699610400999L, IsoTimestampLayout.SECONDS, builder);
+        assertEquals("2023-11-10T10:00:00.254Z2023-11-10T10:00:00Z", builder.toString());
+    }
+
+    @Test
+    void write_ReturnDefaultConverterText_WhenEpochMillisAreWrittenToEveryTarget() {
+        long epochMillis = -1L;
+        String expected = "1969-12-31T23:59:59.999Z";
+        StringBuilder builder = new StringBuilder("[");
+        assertEquals(24, IsoTimestampWriter.write(epochMillis, IsoTimestampLayout.MILLIS, builder));
+        assertEquals("[" + expected, builder.toString());
+        byte[] bytes = new byte[30];
+        assertEquals(24, IsoTimestampWriter.write(epochMillis, IsoTimestampLayout.MILLIS, bytes, 2));
+        assertEquals(expected, new String(bytes, 2, 24, StandardCharsets.US_ASCII));
+        ByteBuffer buffer = ByteBuffer.allocate(30);
+        buffer.put((byte) '"');
+        IsoTimestampWriter.write(epochMillis, IsoTimestampLayout.MILLIS, buffer);
+        assertEquals(25, buffer.position());
+        assertEquals("\"" + expected, new String(buffer.array(), 0, 25, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void write_ThrowIndexOutOfBoundsException_WhenTargetIsTooShort() {
+        char[] chars = new char[23];
+        assertThrows(IndexOutOfBoundsException.class, () -> IsoTimestampWriter.write(0L, IsoTimestampLayout.MILLIS, chars, 0));
+        ByteBuffer buffer = ByteBuffer.allocate(19);
+        assertThrows(BufferOverflowException.class, () -> IsoTimestampWriter.write(0L, IsoTimestampLayout.SECONDS, buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void write_ThrowIllegalArgumentException_WhenNanoOfSecondIsOutOfRange() {
+        StringBuilder builder = new StringBuilder();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> IsoTimestampWriter.write(0L, 1_000_000_000, IsoTimestampLayout.NANOS, builder));
+        assertEquals(ErrorMessages.NANO_OF_SECOND_INVALID, exception.getMessage());
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.perceivechuchu.datetimeutil.metrics;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.constant.MetricOperation;
+import io.github.perceivechuchu.datetimeutil.converter.DateTimeConverter;
+import io.github.perceivechuchu.datetimeutil.converter.UncheckedDateTimeConverter;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import io.github.perceivechuchu.datetimeutil.model.ConversionResult;
+import io.github.perceivechuchu.datetimeutil.model.HistogramStatistics;
+import io.github.perceivechuchu.datetimeutil.model.OperationStatistics;
+import io.github.perceivechuchu.datetimeutil.timezone.TimeZoneUtil;
+import io.github.perceivechuchu.datetimeutil.validator.DateTimeValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class DateTimeMetricsTests {
+
+    @AfterEach
+    void tearDown() {
+        DateTimeMetrics.setEnabled(false);
+        DateTimeMetrics.reset();
+    }
+
+    @Test
+    void getStatistics_ReturnCallAndFailureCounts_WhenRecordingIsEnabled() {
+        DateTimeMetrics.reset();
+        DateTimeMetrics.setEnabled(true);
+        DateTimeConverter.convertToLocalDate("2023-12-05");
+        DateTimeConverter.convertToLocalDate("05/12/2023", "dd/MM/yyyy");
+        assertThrows(DateTimeConversionException.class, () -> DateTimeConverter.convertToLocalDate("2023-13-05"));
+        DateTimeConverter.tryConvertToLocalDate("invalid", ConversionResult.<LocalDate>getInstance());
+        DateTimeValidator.isValid("22.03.2024 05:06:07", Locale.GERMANY);
+        DateTimeValidator.isValid("invalid_date", Locale.GERMANY);
+        TimeZoneUtil.isValidTimeZoneId("invalid_timezone_id");
+        TimeZoneUtil.searchTimeZonesByOffsetText("+02:00");
+
+        OperationStatistics parse = DateTimeMetrics.getStatistics(MetricOperation.PARSE_LOCAL_DATE);
+        assertEquals(4, parse.getCallCount());
+        assertEquals(2, parse.getFailureCount());
+        assertEquals(0.5, parse.getFailureRatio());
+        assertEquals(4, parse.getLatencyNanos().getCount());
+        assertTrue(parse.getLatencyNanos().getPercentile(50) <= parse.getLatencyNanos().getPercentile(100));
+        assertEquals(parse.getLatencyNanos().getMaximum(), parse.getLatencyNanos().getPercentile(100));
+        Map<MetricOperation, OperationStatistics> statistics = DateTimeMetrics.getStatistics();
+        assertEquals(MetricOperation.values().length, statistics.size());
+        assertEquals(2, statistics.get(MetricOperation.VALIDATE).getCallCount());
+        assertEquals(1, statistics.get(MetricOperation.VALIDATE).getFailureCount());
+        assertEquals(1, statistics.get(MetricOperation.TIME_ZONE_LOOKUP).getFailureCount());
+        assertEquals(1, statistics.get(MetricOperation.TIME_ZONE_SEARCH).getCallCount());
+        assertEquals(0, statistics.get(MetricOperation.CONVERT_ZONE).getCallCount());
+        HistogramStatistics patternsTried = DateTimeMetrics.getPatternsTriedStatistics();
+        assertEquals(2, patternsTried.getCount());
+        assertTrue(patternsTried.getSum() >= 2);
+    }
+
+    @Test
+    void getStatistics_ReturnFormatAndLegacyCounts_WhenRecordingIsEnabled() {
+        DateTimeMetrics.reset();
+        DateTimeMetrics.setEnabled(true);
+        LocalDateTime localDateTime = LocalDateTime.of(2023, 11, 10, 12, 0);
+        DateTimeConverter.convertToUTCZonedDateTimeText(localDateTime, "Africa/Johannesburg");
+        UncheckedDateTimeConverter.convertToUTCZonedDateTimeText(localDateTime, "Africa/Johannesburg");
+        DateTimeConverter.convertToLocalDateText(LocalDate.of(2023, 11, 10));
+        DateTimeConverter.convertToLocalDateTimeText(localDateTime, "dd/MM/yyyy HH:mm");
+        assertThrows(DateTimeException.class, () -> DateTimeConverter.convertToUTCZonedDateTimeText(localDateTime, "invalid_timezone_id"));
+        Timestamp timestamp = DateTimeConverter.convertToTimestamp(localDateTime);
+        DateTimeConverter.convertToLocalDateTime(timestamp);
+        Calendar calendar = DateTimeConverter.convertToCalendar(new Date(0));
+        DateTimeConverter.convertToDate(calendar);
+        assertThrows(DateTimeConversionException.class, () -> DateTimeConverter.convertToLocalDateTime(calendar, "invalid_timezone_id"));
+        TimeZoneUtil.getAllTimeZones();
+
+        OperationStatistics format = DateTimeMetrics.getStatistics(MetricOperation.FORMAT);
+        assertEquals(5, format.getCallCount());
+        assertEquals(1, format.getFailureCount());
+        OperationStatistics legacy = DateTimeMetrics.getStatistics(MetricOperation.CONVERT_LEGACY);
+        assertEquals(5, legacy.getCallCount());
+        assertEquals(1, legacy.getFailureCount());
+        assertEquals(1, DateTimeMetrics.getStatistics(MetricOperation.TIME_ZONE_SEARCH).getCallCount());
+    }
+
+    @Test
+    void getStatistics_ReturnZeroCounts_WhenRecordingIsDisabled() {
+        DateTimeMetrics.reset();
+        DateTimeMetrics.setEnabled(false);
+        DateTimeConverter.convertToLocalDate("2023-12-05");
+        DateTimeValidator.isValid("invalid_date", Locale.GERMANY);
+        assertFalse(DateTimeMetrics.isEnabled());
+        for (OperationStatistics statistics : DateTimeMetrics.getStatistics().values()) {
+            assertEquals(0, statistics.getCallCount());
+            assertEquals(0, statistics.getLatencyNanos().getCount());
+        }
+        assertEquals(0, DateTimeMetrics.getPatternsTriedStatistics().getCount());
+    }
+
+    @Test
+    void getPercentile_ReturnUpperBoundOfBucket_WhenValuesAreRecorded() {
+        Histogram histogram = new Histogram();
+        for (long value : new long[]{0, 1, 2, 3, 5, 100, 1000, 1000}) {
+            histogram.record(value);
+        }
+        HistogramStatistics statistics = histogram.getStatistics();
+        assertEquals(8, statistics.getCount());
+        assertEquals(2111, statistics.getSum());
+        assertEquals(1000, statistics.getMaximum());
+        assertEquals(0, statistics.getPercentile(12.5));
+        assertEquals(3, statistics.getPercentile(50));
+        assertEquals(127, statistics.getPercentile(75));
+        assertEquals(1000, statistics.getPercentile(100));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> statistics.getPercentile(0));
+        assertEquals(ErrorMessages.PERCENTILE_INVALID, exception.getMessage());
+    }
+}
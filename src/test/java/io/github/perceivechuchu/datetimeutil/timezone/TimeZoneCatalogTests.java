@@ -0,0 +1,81 @@
+package io.github.perceivechuchu.datetimeutil.timezone;
+
+import io.github.perceivechuchu.datetimeutil.model.ImmutableTimeZoneDetail;
+import io.github.perceivechuchu.datetimeutil.model.TimeZoneDetail;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class TimeZoneCatalogTests {
+
+    @Test
+    void getAllTimeZones_ReturnCopiesThatCanBeChanged_WhenInvokedTwice() {
+        List<TimeZoneDetail> timeZones = TimeZoneUtil.getAllTimeZones();
+        List<TimeZoneDetail> second = TimeZoneUtil.getAllTimeZones();
+        assertNotSame(timeZones, second);
+        assertEquals(timeZones, second);
+        String id = timeZones.get(0).getId();
+        String offsetText = timeZones.get(0).getOffsetText();
+        timeZones.get(0).setOffsetText("+99:00");
+        timeZones.remove(1);
+        assertEquals(offsetText, TimeZoneUtil.getAllTimeZones().get(0).getOffsetText());
+        assertEquals(offsetText, TimeZoneCatalog.getInstance().getTimeZone(id).getOffsetText());
+        assertEquals(second.size(), TimeZoneUtil.getAllTimeZones().size());
+        List<TimeZoneDetail> byOffsetText = TimeZoneUtil.searchTimeZonesByOffsetText(offsetText);
+        byOffsetText.clear();
+        assertFalse(TimeZoneUtil.searchTimeZonesByOffsetText(offsetText).isEmpty());
+    }
+
+    @Test
+    void getTimeZonesByOffsetText_ReturnSameUnmodifiableList_WhenInvokedTwice() {
+        TimeZoneCatalog catalog = TimeZoneCatalog.getInstance();
+        List<ImmutableTimeZoneDetail> timeZones = catalog.getTimeZonesByOffsetText("+02:00");
+        assertFalse(timeZones.isEmpty());
+        assertSame(timeZones, catalog.getTimeZonesByOffsetText("+02:00"));
+        assertSame(catalog.getTimeZones(), catalog.getTimeZones());
+        assertSame(timeZones.get(0), catalog.getTimeZone(timeZones.get(0).getId()));
+        assertThrows(UnsupportedOperationException.class, () -> timeZones.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> catalog.getTimeZones().clear());
+    }
+
+    @Test
+    void getTimeZones_ReturnDetailsOfTimeZone_WhenSnapshotIsBuilt() {
+        for (ImmutableTimeZoneDetail detail : TimeZoneCatalog.getInstance().getTimeZones()) {
+            TimeZone timeZone = TimeZone.getTimeZone(detail.getId());
+            assertEquals(timeZone.getRawOffset(), detail.getOffsetMillis());
+            assertEquals(TimeZoneUtil.getTimeZoneAbbreviation(detail.getId()), detail.getAbbreviation());
+            assertEquals(timeZone.getDisplayName(), detail.getDisplayName());
+            assertEquals(ZoneOffsetUtil.deduceZoneOffset(timeZone.getRawOffset()), detail.getOffsetText());
+            assertSame(detail, TimeZoneCatalog.getInstance().getTimeZone(detail.getId()));
+        }
+    }
+
+    @Test
+    void getTimeZonesByOffsetText_ReturnSameResultAsLinearSearch_WhenOffsetTextIsIndexed() {
+        TimeZoneCatalog catalog = TimeZoneCatalog.getInstance();
+        int indexed = 0;
+        for (String offsetText : catalog.getOffsetTexts()) {
+            List<ImmutableTimeZoneDetail> expected = catalog.getTimeZones().stream().filter(detail -> detail.getOffsetText().equals(offsetText)).collect(Collectors.toList());
+            assertEquals(expected, catalog.getTimeZonesByOffsetText(offsetText));
+            assertEquals(expected.stream().map(ImmutableTimeZoneDetail::toTimeZoneDetail).collect(Collectors.toList()), TimeZoneUtil.searchTimeZonesByOffsetText(offsetText));
+            indexed += expected.size();
+        }
+        assertEquals(catalog.getTimeZones().size(), indexed);
+    }
+
+    @Test
+    void getTimeZonesByOffsetText_ReturnEmptyList_WhenNoTimeZoneHasOffsetText() {
+        assertTrue(TimeZoneUtil.searchTimeZonesByOffsetText("+99:00").isEmpty());
+        assertNull(TimeZoneCatalog.getInstance().getTimeZone("invalid_timezone_id"));
+    }
+}
@@ -4,9 +4,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.model.ImmutableTimeZoneDetail;
 import io.github.perceivechuchu.datetimeutil.model.TimeZoneDetail;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -72,4 +77,46 @@ class TimeZoneUtilTests {
         assertTrue(abbreviationList.contains("SAST"));
     }
 
+    @Test
+    void searchTimeZonesByOffset_ReturnDaylightSavingTimeZones_WhenInstantIsInSummer() {
+        List<String> july = TimeZoneUtil.searchTimeZonesByOffset(ZoneOffset.ofHours(1), Instant.parse("2024-07-01T12:00:00Z")).stream().map(ImmutableTimeZoneDetail::getId).collect(Collectors.toList());
+        List<String> january = TimeZoneUtil.searchTimeZonesByOffset(ZoneOffset.ofHours(1), Instant.parse("2024-01-01T12:00:00Z")).stream().map(ImmutableTimeZoneDetail::getId).collect(Collectors.toList());
+        assertTrue(july.contains("Europe/London"));
+        assertFalse(july.contains("Europe/Berlin"));
+        assertFalse(january.contains("Europe/London"));
+        assertTrue(january.contains("Europe/Berlin"));
+    }
+
+    @Test
+    void searchTimeZonesByOffset_ReturnSameResultAsZoneRules_WhenInstantIsInsideOrOutsideYearRange() {
+        Random random = new Random(15);
+        try {
+            TimeZoneUtil.setOffsetIndexYearRange(2000, 2030);
+            for (int i = 0; i < 200; i++) {
+                Instant instant = Instant.ofEpochSecond(Instant.parse("1990-01-01T00:00:00Z").getEpochSecond() + (long) (random.nextDouble() * 60 * 365.25 * 86400));
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds(ZoneId.of(TimeZoneUtil.getAllTimeZones().get(random.nextInt(TimeZoneUtil.getAllTimeZones().size())).getId()).getRules().getOffset(instant).getTotalSeconds());
+                List<ImmutableTimeZoneDetail> expected = TimeZoneCatalog.getInstance().getTimeZones().stream().filter(detail -> ZoneId.of(detail.getId()).getRules().getOffset(instant).equals(offset)).collect(Collectors.toList());
+                List<ImmutableTimeZoneDetail> actual = TimeZoneUtil.searchTimeZonesByOffset(offset, instant);
+                assertEquals(expected, actual, instant + " " + offset);
+                assertSame(TimeZoneCatalog.getInstance().getTimeZone(actual.get(0).getId()), actual.get(0));
+            }
+            Instant transition = Instant.parse("2024-03-31T01:00:00Z");
+            assertTrue(TimeZoneUtil.searchTimeZonesByOffset(ZoneOffset.ofHours(1), transition).stream().anyMatch(detail -> detail.getId().equals("Europe/London")));
+            assertTrue(TimeZoneUtil.searchTimeZonesByOffset(ZoneOffset.UTC, transition.minusSeconds(1)).stream().anyMatch(detail -> detail.getId().equals("Europe/London")));
+            assertEquals(2000, TimeZoneUtil.getOffsetIndex().getStartYear());
+        } finally {
+            TimeZoneUtil.setOffsetIndexYearRange(TimeZoneUtil.DEFAULT_OFFSET_INDEX_START_YEAR, TimeZoneUtil.DEFAULT_OFFSET_INDEX_END_YEAR);
+        }
+    }
+
+    @Test
+    void searchTimeZonesByOffset_ThrowIllegalArgumentException_WhenParameterIsNull() {
+        IllegalArgumentException illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> TimeZoneUtil.searchTimeZonesByOffset(null, Instant.EPOCH));
+        assertEquals(ErrorMessages.ZONE_OFFSET_NULL, illegalArgumentException.getMessage());
+        illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> TimeZoneUtil.searchTimeZonesByOffset(ZoneOffset.UTC, null));
+        assertEquals(ErrorMessages.INSTANT_NULL, illegalArgumentException.getMessage());
+        illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> TimeZoneUtil.setOffsetIndexYearRange(2030, 2000));
+        assertEquals(ErrorMessages.YEAR_RANGE_INVALID, illegalArgumentException.getMessage());
+    }
+
 }
@@ -0,0 +1,99 @@
+package io.github.perceivechuchu.datetimeutil.timezone;
+
+import io.github.perceivechuchu.datetimeutil.constant.DstGapPolicy;
+import io.github.perceivechuchu.datetimeutil.constant.DstOverlapPolicy;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeConversionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class ZoneOffsetTableTests {
+
+    private static final String[] ZONE_IDS = {"UTC", "Africa/Johannesburg", "Europe/Berlin", "America/New_York", "Australia/Lord_Howe",
+            "Asia/Kolkata", "America/Sao_Paulo", "Pacific/Apia", "Europe/Dublin", "+05:30"};
+
+    private static final long MINIMUM_MILLIS = LocalDateTime.of(1850, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    private static final long MAXIMUM_MILLIS = LocalDateTime.of(2250, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    @Test
+    void toLocalMillis_ReturnSameLocalDateTimeAsJavaTime_WhenInstantsAreRandom() {
+        Random random = new Random(7);
+        for (String zoneIdText : ZONE_IDS) {
+            ZoneId zoneId = ZoneId.of(zoneIdText);
+            ZoneOffsetTable offsetTable = ZoneRegistry.getZoneOffsetTable(zoneIdText);
+            for (int i = 0; i < 20_000; i++) {
+                long epochMillis = MINIMUM_MILLIS + (long) (random.nextDouble() * (MAXIMUM_MILLIS - MINIMUM_MILLIS));
+                LocalDateTime expected = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zoneId);
+                assertEquals(expected.toInstant(ZoneOffset.UTC).toEpochMilli(), offsetTable.toLocalMillis(epochMillis), zoneIdText + " " + epochMillis);
+            }
+        }
+    }
+
+    @Test
+    void toEpochMillis_ReturnSameInstantAsAtZone_WhenLocalTimesAreRandom() {
+        Random random = new Random(11);
+        for (String zoneIdText : ZONE_IDS) {
+            ZoneId zoneId = ZoneId.of(zoneIdText);
+            ZoneOffsetTable offsetTable = ZoneRegistry.getZoneOffsetTable(zoneIdText);
+            for (int i = 0; i < 20_000; i++) {
+                long localMillis = MINIMUM_MILLIS + (long) (random.nextDouble() * (MAXIMUM_MILLIS - MINIMUM_MILLIS));
+                LocalDateTime localDateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(localMillis), ZoneOffset.UTC);
+                long expected = localDateTime.atZone(zoneId).toInstant().toEpochMilli();
+                assertEquals(expected, offsetTable.toEpochMillis(localMillis, DstGapPolicy.SHIFT_FORWARD, DstOverlapPolicy.EARLIER_OFFSET), zoneIdText + " " + localDateTime);
+            }
+        }
+    }
+
+    @Test
+    void toEpochMillis_ApplyPolicies_WhenLocalTimesFallInGapsAndOverlaps() {
+        for (String zoneIdText : ZONE_IDS) {
+            ZoneId zoneId = ZoneId.of(zoneIdText);
+            ZoneOffsetTable offsetTable = ZoneRegistry.getZoneOffsetTable(zoneIdText);
+            ZoneOffsetTransition transition = zoneId.getRules().nextTransition(Instant.ofEpochMilli(MINIMUM_MILLIS));
+            while (transition != null && transition.getInstant().toEpochMilli() < MAXIMUM_MILLIS) {
+                LocalDateTime windowStart = transition.isGap() ? transition.getDateTimeBefore() : transition.getDateTimeAfter();
+                LocalDateTime localDateTime = windowStart.plusSeconds(Math.abs(transition.getDuration().getSeconds()) / 2);
+                long localMillis = localDateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+                long earlier = localDateTime.toInstant(transition.getOffsetBefore()).toEpochMilli();
+                long later = localDateTime.toInstant(transition.getOffsetAfter()).toEpochMilli();
+                if (transition.isGap()) {
+                    assertEquals(earlier, offsetTable.toEpochMillis(localMillis, DstGapPolicy.SHIFT_FORWARD, DstOverlapPolicy.REJECT));
+                    assertEquals(transition.getInstant().toEpochMilli(), offsetTable.toEpochMillis(localMillis, DstGapPolicy.NEXT_VALID_TIME, DstOverlapPolicy.REJECT));
+                    DateTimeConversionException exception = assertThrows(DateTimeConversionException.class,
+                            () -> offsetTable.toEpochMillis(localMillis, DstGapPolicy.REJECT, DstOverlapPolicy.EARLIER_OFFSET));
+                    assertEquals(ErrorMessages.LOCAL_TIME_IN_GAP, exception.getMessage());
+                } else {
+                    assertEquals(earlier, offsetTable.toEpochMillis(localMillis, DstGapPolicy.REJECT, DstOverlapPolicy.EARLIER_OFFSET));
+                    assertEquals(later, offsetTable.toEpochMillis(localMillis, DstGapPolicy.REJECT, DstOverlapPolicy.LATER_OFFSET));
+                    DateTimeConversionException exception = assertThrows(DateTimeConversionException.class,
+                            () -> offsetTable.toEpochMillis(localMillis, DstGapPolicy.SHIFT_FORWARD, DstOverlapPolicy.REJECT));
+                    assertEquals(ErrorMessages.LOCAL_TIME_IN_OVERLAP, exception.getMessage());
+                }
+                transition = zoneId.getRules().nextTransition(transition.getInstant());
+            }
+        }
+    }
+
+    @Test
+    void getZoneOffsetTable_ReturnSharedTable_WhenTimeZoneIdIsResolvedTwice() {
+        ZoneOffsetTable offsetTable = ZoneRegistry.getZoneOffsetTable("Europe/Berlin");
+        assertSame(offsetTable, ZoneRegistry.getZoneOffsetTable("Europe/Berlin"));
+        assertTrue(offsetTable.size() > 0);
+        assertEquals(0, ZoneRegistry.getZoneOffsetTable("+05:30").size());
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.perceivechuchu.datetimeutil.timezone;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.zone.ZoneRulesException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class ZoneRegistryTests {
+
+    @Test
+    void getZoneId_ReturnSameZoneIdInstance_WhenTimeZoneIdIsResolvedTwice() {
+        ZoneId first = ZoneRegistry.getZoneId("Africa/Johannesburg");
+        assertEquals(ZoneId.of("Africa/Johannesburg"), first);
+        assertSame(first, ZoneRegistry.getZoneId("Africa/Johannesburg"));
+    }
+
+    @Test
+    void getZoneRules_ReturnRulesOfZone_WhenTimeZoneIdIsValid() {
+        assertEquals(ZoneId.of("Europe/London").getRules(), ZoneRegistry.getZoneRules("Europe/London"));
+    }
+
+    @Test
+    void getZoneId_ThrowZoneRulesException_WhenUnknownRegionIsResolvedRepeatedly() {
+        ZoneRulesException first = assertThrows(ZoneRulesException.class, () -> ZoneRegistry.getZoneId("Africa/Atlantis"));
+        ZoneRulesException second = assertThrows(ZoneRulesException.class, () -> ZoneRegistry.getZoneId("Africa/Atlantis"));
+        assertEquals(first.getMessage(), second.getMessage());
+    }
+
+    @Test
+    void getZoneId_ThrowDateTimeException_WhenTimeZoneIdFormatIsInvalid() {
+        DateTimeException first = assertThrows(DateTimeException.class, () -> ZoneRegistry.getZoneId("invalid_timezone_id"));
+        DateTimeException second = assertThrows(DateTimeException.class, () -> ZoneRegistry.getZoneId("invalid_timezone_id"));
+        assertEquals(first.getMessage(), second.getMessage());
+    }
+
+    @Test
+    void isResolvable_ReturnExpectedResult_WhenTimeZoneIdIsValidOrInvalid() {
+        assertTrue(ZoneRegistry.isResolvable("UTC"));
+        assertTrue(ZoneRegistry.isResolvable("+02:00"));
+        assertFalse(ZoneRegistry.isResolvable("invalid_timezone_id"));
+    }
+
+    @Test
+    void getZoneId_ThrowIllegalArgumentException_WhenTimeZoneIdIsEmpty() {
+        IllegalArgumentException illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> ZoneRegistry.getZoneId(" "));
+        assertEquals(ErrorMessages.TIME_ZONE_ID_EMPTY, illegalArgumentException.getMessage());
+    }
+
+}
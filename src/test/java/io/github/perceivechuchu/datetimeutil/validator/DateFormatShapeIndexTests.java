@@ -0,0 +1,57 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class DateFormatShapeIndexTests {
+
+    private static List<String> loadPatterns() {
+        return DateTimeValidator.getCatalog().getDateFormats();
+    }
+
+    @Test
+    void getCandidates_ContainPattern_WhenTextIsFormattedWithThatPattern() {
+        List<String> patterns = loadPatterns();
+        DateFormatShapeIndex index = DateFormatShapeIndex.build(patterns);
+        Date date = new Date(922075567000L);
+        for (Locale locale : Arrays.asList(Locale.ENGLISH, Locale.GERMANY, Locale.FRENCH, Locale.CHINESE, Locale.JAPAN)) {
+            for (String pattern : patterns) {
+                String text = new SimpleDateFormat(pattern, locale).format(date);
+                assertTrue(Arrays.asList(index.getCandidates(text)).contains(pattern), () -> pattern + " -> " + text);
+            }
+        }
+    }
+
+    @Test
+    void getCandidates_ReturnSmallSubset_WhenTextIsNumeric() {
+        List<String> patterns = loadPatterns();
+        DateFormatShapeIndex index = DateFormatShapeIndex.build(patterns);
+        List<String> candidates = Arrays.asList(index.getCandidates("22.03.2024 05:06:07"));
+        assertTrue(candidates.contains("dd.MM.yyyy HH:mm:ss"));
+        assertTrue(candidates.size() < patterns.size() / 4);
+        assertEquals(candidates.stream().sorted((a, b) -> patterns.indexOf(a) - patterns.indexOf(b)).collect(Collectors.toList()), candidates);
+    }
+
+    @Test
+    void getCandidates_ReturnFewCandidates_WhenTextIsGarbage() {
+        List<String> patterns = loadPatterns();
+        DateFormatShapeIndex index = DateFormatShapeIndex.build(patterns);
+        assertEquals(0, index.getCandidates("#").length);
+        assertTrue(index.getCandidates("invalid_date").length < patterns.size() / 10);
+    }
+
+}
@@ -1,11 +1,14 @@
 package io.github.perceivechuchu.datetimeutil.validator;
 
+import io.github.perceivechuchu.datetimeutil.constant.ConversionErrorCode;
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.constant.FormatCatalogScope;
 import io.github.perceivechuchu.datetimeutil.exception.DateTimeValidationException;
+import io.github.perceivechuchu.datetimeutil.model.ConversionResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -223,10 +226,86 @@ class DateTimeValidatorTests {
     }
 
     @Test
-    void getFileFromResourceAsStream_LoadDateFormats_WhenFormatsListIsNullOrEmpty() {
-        DateTimeValidator.dateFormats = new ArrayList<>();
-        DateTimeValidator.loadDateFormats();
-        assertEquals(225, DateTimeValidator.dateFormats.size());
+    void loadDateFormats_LoadDateFormats_WhenFormatsFileIsRead() {
+        assertEquals(225, DateTimeValidator.loadDateFormats().getDateFormats().size());
+    }
+
+    @Test
+    void getCatalog_ReturnSameUnmodifiableCatalog_WhenCalledRepeatedly() {
+        DateFormatCatalog catalog = DateTimeValidator.getCatalog();
+        assertSame(catalog, DateTimeValidator.getCatalog());
+        assertEquals(225, catalog.getDateFormats().size());
+        assertThrows(UnsupportedOperationException.class, () -> catalog.getDateFormats().add("yyyy"));
+    }
+
+    @Test
+    void warmUp_ValidateDateTimeText_WhenLocalesAreWarmedUp() {
+        DateTimeValidator.warmUp();
+        DateTimeValidator.warmUp(Locale.GERMANY, Locale.FRENCH);
+        assertTrue(DateTimeValidator.isValid("22.03.2024 05:06:07", Locale.GERMANY));
+    }
+
+    @Test
+    void warmUp_ThrowIllegalArgumentException_WhenLocaleIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> DateTimeValidator.warmUp((Locale) null));
+    }
+
+    @Test
+    void tryValidate_ReturnMatchingPattern_WhenDateTimeTextIsValid() {
+        ConversionResult<String> result = DateTimeValidator.tryValidate("22.03.2024 05:06:07", Locale.GERMANY, ConversionResult.getInstance());
+        assertTrue(result.isSuccess());
+        assertTrue(DateTimeValidator.isValid("22.03.2024 05:06:07", result.getValue()));
+    }
+
+    @Test
+    void tryValidate_ReturnUnparseableText_WhenDateTimeTextIsInvalid() {
+        ConversionResult<String> result = DateTimeValidator.tryValidate("invalid_date", Locale.ITALIAN, ConversionResult.getInstance());
+        assertFalse(result.isSuccess());
+        assertEquals(ConversionErrorCode.UNPARSEABLE_TEXT, result.getErrorCode());
+    }
+
+    @Test
+    void tryValidate_ReturnInvalidFieldValue_WhenDateTimeTextAndDateFormatPatternHaveOutOfRangeDay() {
+        ConversionResult<String> result = DateTimeValidator.tryValidate("2024-02-30", Locale.ENGLISH, "yyyy-MM-dd", ConversionResult.getInstance());
+        assertEquals(ConversionErrorCode.INVALID_FIELD_VALUE, result.getErrorCode());
+    }
+
+    @Test
+    void tryValidate_ReturnEmptyInput_WhenDateTimeTextIsEmpty() {
+        ConversionResult<String> result = DateTimeValidator.tryValidate("", Locale.ENGLISH, ConversionResult.getInstance());
+        assertEquals(ConversionErrorCode.EMPTY_INPUT, result.getErrorCode());
+    }
+
+    @Test
+    void isValid_ValidateAgainstLocaleSections_WhenCatalogScopeIsLocaleSections() {
+        assertEquals(FormatCatalogScope.LOCALE_SECTIONS, DateTimeValidator.getCatalogScope());
+        assertTrue(DateTimeValidator.isValid("22.03.2024 05:06:07", Locale.GERMANY));
+        assertTrue(DateTimeValidator.isValid("22.03.2024 05:06:07", Locale.GERMAN));
+        assertFalse(DateTimeValidator.isValid("22.03.2024 05:06:07", Locale.ENGLISH));
+        assertTrue(DateTimeValidator.isValid("22.03.2024 05:06:07"));
+        assertTrue(DateTimeValidator.isValid("2024-03-22T05:06:07Z", new Locale("th", "TH")));
+        int isoCount = DateTimeValidator.getCatalog(new Locale("th", "TH")).getDateFormats().size();
+        int germanCount = DateTimeValidator.getCatalog(Locale.GERMANY).getDateFormats().size();
+        assertTrue(isoCount < germanCount);
+        assertTrue(germanCount < DateTimeValidator.getCatalog().getDateFormats().size() / 3);
+        assertSame(DateTimeValidator.getCatalog(Locale.GERMANY), DateTimeValidator.getCatalog(Locale.GERMANY));
+    }
+
+    @Test
+    void isValid_ValidateAgainstEverySection_WhenCatalogScopeIsAllSections() {
+        DateTimeValidator.setCatalogScope(FormatCatalogScope.ALL_SECTIONS);
+        try {
+            assertTrue(DateTimeValidator.isValid("22.03.2024 05:06:07", Locale.ENGLISH));
+            assertSame(DateTimeValidator.getCatalog(), DateTimeValidator.getCatalog(Locale.ENGLISH));
+        } finally {
+            DateTimeValidator.setCatalogScope(FormatCatalogScope.LOCALE_SECTIONS);
+        }
+    }
+
+    @Test
+    void setCatalogScope_ThrowIllegalArgumentException_WhenScopeIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> DateTimeValidator.setCatalogScope(null));
+        assertEquals(ErrorMessages.FORMAT_CATALOG_SCOPE_NULL, exception.getMessage());
     }
 
 }
@@ -0,0 +1,157 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.exception.DateTimeValidationException;
+import io.github.perceivechuchu.datetimeutil.model.ColumnValidationReport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class FileColumnValidatorTests {
+
+    private static final String[] VALUES = {"22.03.2024 05:06:07", "2024-03-22", "\"22. März 2024\"", "invalid_date", "", " ",
+            "\"2024-03-22T05:06:07Z\"", "31.02.2024 05:06:07", "\"a,\"\"b\"\"\""};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void validateColumn_ReturnSameCountsAsIsValid_WhenFileIsSplitIntoChunks() throws IOException {
+        Random random = new Random(23);
+        StringBuilder content = new StringBuilder("id,date,comment\n");
+        List<String> dateValues = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            String value = VALUES[random.nextInt(VALUES.length)];
+            dateValues.add(value);
+            content.append(random.nextBoolean() ? String.valueOf(i) : "\"" + i + ",x\"").append(',').append(value)
+                    .append(",comment ").append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        Path path = directory.resolve("extract.csv");
+        Files.write(path, content.toString().getBytes(StandardCharsets.UTF_8));
+        long valid = 0;
+        long empty = 0;
+        List<Long> invalidLines = new ArrayList<>();
+        for (int i = 0; i < dateValues.size(); i++) {
+            String text = unquote(dateValues.get(i));
+            if (text.trim().isEmpty()) {
+                empty++;
+            } else if (DateTimeValidator.isValid(text, Locale.GERMANY)) {
+                valid++;
+            } else {
+                invalidLines.add(i + 2L);
+            }
+        }
+        for (int chunkSize : new int[]{1, 17, 4096, FileColumnValidator.DEFAULT_CHUNK_SIZE}) {
+            ColumnValidationReport report = FileColumnValidator.validateColumn(path, 1, ',', Locale.GERMANY, true, chunkSize);
+            assertEquals(3000, report.getLineCount());
+            assertEquals(valid, report.getValidCount());
+            assertEquals(empty, report.getEmptyCount());
+            assertEquals(invalidLines.size(), report.getInvalidCount());
+            assertEquals(valid, report.getPatternCounts().values().stream().mapToLong(Long::longValue).sum());
+            for (long line = 1; line <= 3001; line++) {
+                assertEquals(invalidLines.contains(line), report.isInvalidLine(line), "line " + line);
+            }
+            for (int range = 0; range + 2 < report.getInvalidLineRanges().length; range += 2) {
+                assertTrue(report.getInvalidLineRanges()[range + 1] + 1 < report.getInvalidLineRanges()[range + 2]);
+            }
+        }
+    }
+
+    @Test
+    void validateColumn_ReportMissingColumnAsInvalid_WhenLastLineHasNoSeparator() throws IOException {
+        Path path = directory.resolve("extract.tsv");
+        Files.write(path, "2024-03-22T05:06:07Z\ta\n\tb\nc".getBytes(StandardCharsets.UTF_8));
+        ColumnValidationReport report = FileColumnValidator.validateColumn(path, 1, '\t', Locale.ENGLISH);
+        assertEquals(3, report.getLineCount());
+        assertEquals(3, report.getInvalidCount());
+        assertArrayEquals(new long[]{1, 3}, report.getInvalidLineRanges());
+        report = FileColumnValidator.validateColumn(path, 0, '\t', Locale.ENGLISH);
+        assertEquals(1, report.getValidCount());
+        assertEquals(1, report.getEmptyCount());
+        assertArrayEquals(new long[]{3, 3}, report.getInvalidLineRanges());
+    }
+
+    @Test
+    void validateColumn_ReportQuotedValueAsInvalid_WhenClosingQuoteIsFollowedByText() throws IOException {
+        Path path = directory.resolve("quoted.csv");
+        Files.write(path, "\"2024-03-22T05:06:07Z\"junk,a\n\"2024-03-22T05:06:07Z\",b\n\"2024-03-22T05:06:07Z\"\nx,\"2024-03-22T05:06:07Z\" \n".getBytes(StandardCharsets.UTF_8));
+        ColumnValidationReport report = FileColumnValidator.validateColumn(path, 0, ',', Locale.ENGLISH);
+        assertEquals(4, report.getLineCount());
+        assertEquals(2, report.getValidCount());
+        assertArrayEquals(new long[]{1, 1, 4, 4}, report.getInvalidLineRanges());
+        report = FileColumnValidator.validateColumn(path, 1, ',', Locale.ENGLISH);
+        assertEquals(0, report.getValidCount());
+        assertTrue(report.isInvalidLine(4));
+    }
+
+    @Test
+    void validateColumn_ScanOnSuppliedPool_WhenPoolIsSet() throws IOException {
+        Path path = directory.resolve("pool.csv");
+        Files.write(path, "2024-03-22T05:06:07Z\n2024-03-23T05:06:07Z\ninvalid_date\n".getBytes(StandardCharsets.UTF_8));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            FileColumnValidator.setForkJoinPool(pool);
+            assertSame(pool, FileColumnValidator.getForkJoinPool());
+            ColumnValidationReport report = FileColumnValidator.validateColumn(path, 0, ',', Locale.ENGLISH, false, 24);
+            assertEquals(2, report.getValidCount());
+            assertArrayEquals(new long[]{3, 3}, report.getInvalidLineRanges());
+            assertThrows(IllegalArgumentException.class, () -> FileColumnValidator.setForkJoinPool(null));
+        } finally {
+            FileColumnValidator.setForkJoinPool(ForkJoinPool.commonPool());
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void validateColumn_ReturnEmptyReport_WhenFileIsEmpty() throws IOException {
+        Path path = Files.createFile(directory.resolve("empty.csv"));
+        ColumnValidationReport report = FileColumnValidator.validateColumn(path, 0, ',', Locale.ENGLISH, true);
+        assertEquals(0, report.getLineCount());
+        assertEquals(0, report.getInvalidLineRanges().length);
+        assertTrue(report.getPatternCounts().isEmpty());
+    }
+
+    @Test
+    void validateColumn_ThrowDateTimeValidationException_WhenFileDoesNotExist() {
+        Path path = directory.resolve("missing.csv");
+        DateTimeValidationException exception = assertThrows(DateTimeValidationException.class,
+                () -> FileColumnValidator.validateColumn(path, 0, ',', Locale.ENGLISH));
+        assertEquals(ErrorMessages.FILE_READ_FAILED + path, exception.getMessage());
+        assertTrue(exception.getCause() instanceof IOException);
+    }
+
+    @Test
+    void validateColumn_ThrowIllegalArgumentException_WhenDelimiterIsNotAscii() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> FileColumnValidator.validateColumn(directory, 0, '\u00A7', Locale.ENGLISH));
+        assertEquals(ErrorMessages.DELIMITER_INVALID, exception.getMessage());
+    }
+
+    @Test
+    void validateColumn_ThrowIllegalArgumentException_WhenColumnIndexIsNegative() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> FileColumnValidator.validateColumn(directory, -1, ',', Locale.ENGLISH));
+        assertEquals(ErrorMessages.COLUMN_INDEX_INVALID, exception.getMessage());
+    }
+
+    private static String unquote(String value) {
+        return value.startsWith("\"") ? value.substring(1, value.length() - 1).replace("\"\"", "\"") : value;
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class LineScannerTests {
+
+    @Test
+    void indexOf_ReturnFirstPositionOfByte_WhenBaselineIsUsed() throws Exception {
+        assertEquals("java8", LineScanner.IMPLEMENTATION);
+        assertFindsBytes(LineScanner.class);
+    }
+
+    @Test
+    void indexOf_ReturnFirstPositionOfByte_WhenJava17VariantIsUsed() throws Exception {
+        String specificationVersion = System.getProperty("java.specification.version");
+        assumeTrue(!specificationVersion.startsWith("1.") && Integer.parseInt(specificationVersion) >= 17);
+        Path classes = Paths.get(LineScanner.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path versioned = classes.resolve("META-INF/versions/17");
+        assumeTrue(Files.isDirectory(versioned));
+        // The JVM only selects versioned classes from a JAR, so the variant is loaded ahead of the baseline in its own class loader
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{versioned.toUri().toURL(), classes.toUri().toURL()}, null)) {
+            Class<?> variant = Class.forName(LineScanner.class.getName(), true, loader);
+            assertEquals("java17", field(variant, "IMPLEMENTATION"));
+            assertFindsBytes(variant);
+        }
+    }
+
+    private static void assertFindsBytes(Class<?> scanner) throws Exception {
+        Method indexOf = scanner.getDeclaredMethod("indexOf", ByteBuffer.class, int.class, int.class, byte.class);
+        indexOf.setAccessible(true);
+        Random random = new Random(24);
+        for (int i = 0; i < 2_000; i++) {
+            byte[] bytes = new byte[random.nextInt(48)];
+            for (int j = 0; j < bytes.length; j++) {
+                // Few distinct values, including the bytes next to the searched one and bytes with the high bit set
+                bytes[j] = (byte) ("\t\n\u000b,0\u0080\u008a\u00ff".charAt(random.nextInt(8)));
+            }
+            int from = bytes.length == 0 ? 0 : random.nextInt(bytes.length + 1);
+            int to = from + random.nextInt(bytes.length - from + 1);
+            int expected = -1;
+            for (int j = from; j < to && expected < 0; j++) {
+                if (bytes[j] == '\n') {
+                    expected = j;
+                }
+            }
+
+            ByteBuffer heap = ByteBuffer.wrap(bytes);
+            assertEquals(expected, indexOf.invoke(null, heap, from, to, (byte) '\n'));
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes);
+            assertEquals(expected, indexOf.invoke(null, direct.asReadOnlyBuffer(), from, to, (byte) '\n'));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, (byte) 0xFF});
+        assertEquals(9, indexOf.invoke(null, buffer, 0, 10, (byte) 0xFF));
+        assertEquals(-1, indexOf.invoke(null, buffer, 0, 9, (byte) 0xFF));
+    }
+
+    private static Object field(Class<?> type, String name) throws ReflectiveOperationException {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+}
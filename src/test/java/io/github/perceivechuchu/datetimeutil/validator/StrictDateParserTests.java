@@ -0,0 +1,94 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import io.github.perceivechuchu.datetimeutil.constant.ConversionErrorCode;
+import io.github.perceivechuchu.datetimeutil.model.ConversionResult;
+import org.apache.commons.lang3.time.DateUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class StrictDateParserTests {
+
+    private static boolean parsesWithDateUtils(String text, Locale locale, String pattern) {
+        try {
+            DateUtils.parseDateStrictly(text, locale, pattern);
+            return true;
+        } catch (ParseException e) {
+            return false;
+        }
+    }
+
+    @Test
+    void parse_AgreeWithDateUtils_WhenTextsAreValidOrOutOfRange() {
+        List<String> patterns = DateTimeValidator.getCatalog().getDateFormats();
+        List<Date> dates = Arrays.asList(new Date(922075567000L), new Date(1709164800000L));
+        for (Locale locale : Arrays.asList(Locale.ENGLISH, Locale.GERMANY, Locale.FRENCH, new Locale("th", "TH"))) {
+            for (String pattern : patterns) {
+                for (Date date : dates) {
+                    String text = new SimpleDateFormat(pattern, locale).format(date);
+                    for (String candidate : Arrays.asList(text, text.replace("29", "30"), text.replace("22", "32"), text.replace("05", "25"))) {
+                        boolean expected = parsesWithDateUtils(candidate, locale, pattern);
+                        boolean actual = StrictDateParser.parse(candidate, locale, new String[]{pattern}, null) >= 0;
+                        assertEquals(expected, actual, () -> pattern + " -> " + candidate + " (" + locale + ")");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void parse_ReportInvalidFieldValue_WhenDayDoesNotExistInMonth() {
+        ConversionResult<String> result = ConversionResult.getInstance();
+        assertEquals(-1, StrictDateParser.parse("2023-02-30", Locale.ENGLISH, new String[]{"yyyy-MM-dd"}, result));
+        assertEquals(ConversionErrorCode.INVALID_FIELD_VALUE, result.getErrorCode());
+    }
+
+    @Test
+    void parse_ReportInvalidFieldValue_WhenCalendarOfLocaleIsNotGregorian() {
+        ConversionResult<String> result = ConversionResult.getInstance();
+        Locale thai = new Locale("th", "TH");
+        assertEquals(-1, StrictDateParser.parse("2566-02-30", thai, new String[]{"yyyy-MM-dd"}, result));
+        assertEquals(ConversionErrorCode.INVALID_FIELD_VALUE, result.getErrorCode());
+        StrictDateParser.compile(Arrays.asList("yyyy-MM-dd", "dd/MM/yyyy"), thai);
+        assertEquals(1, StrictDateParser.parse("28/02/2566", thai, new String[]{"yyyy-MM-dd", "dd/MM/yyyy"}, result));
+        assertTrue(StrictDateParser.matches("2566-02-28", thai, "yyyy-MM-dd"));
+    }
+
+    @Test
+    void parse_ReportUnparseableTextWithErrorIndex_WhenTextDoesNotMatch() {
+        ConversionResult<String> result = ConversionResult.getInstance();
+        assertEquals(-1, StrictDateParser.parse("2023-02-xx", Locale.ENGLISH, new String[]{"yyyy-MM-dd"}, result));
+        assertEquals(ConversionErrorCode.UNPARSEABLE_TEXT, result.getErrorCode());
+        assertEquals(8, result.getErrorIndex());
+    }
+
+    @Test
+    void matches_UseNewDefaultTimeZone_WhenDefaultTimeZoneIdChanges() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            // 02:30 on 10 March 2024 is skipped by the daylight saving gap of New York but exists in UTC
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            assertTrue(StrictDateParser.matches("2024-03-10 02:30", Locale.ENGLISH, "yyyy-MM-dd HH:mm"));
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            assertFalse(StrictDateParser.matches("2024-03-10 02:30", Locale.ENGLISH, "yyyy-MM-dd HH:mm"));
+            assertTrue(StrictDateParser.matches("2024-03-10 03:30", Locale.ENGLISH, "yyyy-MM-dd HH:mm"));
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+}
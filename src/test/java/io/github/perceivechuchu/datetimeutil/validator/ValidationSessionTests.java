@@ -0,0 +1,91 @@
+package io.github.perceivechuchu.datetimeutil.validator;
+
+import io.github.perceivechuchu.datetimeutil.constant.ErrorMessages;
+import io.github.perceivechuchu.datetimeutil.model.ConversionResult;
+import org.apache.commons.lang3.time.FastDateFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Perceive Chuchu
+ */
+@ExtendWith(MockitoExtension.class)
+class ValidationSessionTests {
+
+    @Test
+    void isValid_AgreeWithDateTimeValidator_WhenTextsOfManyFormatsAreMixed() {
+        Random random = new Random(17);
+        for (Locale locale : new Locale[]{Locale.ENGLISH, Locale.GERMANY}) {
+            List<String> texts = new ArrayList<>();
+            for (String pattern : DateTimeValidator.getCatalog().getDateFormats()) {
+                String text = FastDateFormat.getInstance(pattern, locale).format(new Date(922075567000L));
+                texts.add(text);
+                texts.add(text.replace('2', '9'));
+                texts.add(text + "1");
+            }
+            Collections.shuffle(texts, random);
+            ValidationSession session = DateTimeValidator.newSession(locale);
+            for (String text : texts) {
+                String dateFormat = session.detectFormat(text);
+                assertEquals(DateTimeValidator.isValid(text, locale), dateFormat != null, text);
+                if (dateFormat != null) {
+                    assertTrue(DateTimeValidator.isValid(text, locale, dateFormat), text + " " + dateFormat);
+                }
+            }
+        }
+    }
+
+    @Test
+    void detectFormat_ReturnMostFrequentPattern_WhenTextMatchesSeveralPatterns() {
+        String catalogPattern = DateTimeValidator.tryValidate("05/06/2024", Locale.ENGLISH, ConversionResult.getInstance()).getValue();
+        ValidationSession session = DateTimeValidator.newSession(Locale.ENGLISH);
+        assertEquals(catalogPattern, session.detectFormat("05/06/2024"));
+        session = DateTimeValidator.newSession(Locale.ENGLISH);
+        String frequentPattern = session.detectFormat("25/12/2024");
+        for (int i = 1; i <= 12; i++) {
+            assertEquals(frequentPattern, session.detectFormat(String.format("25/%02d/2024", i)));
+        }
+        assertNotEquals(catalogPattern, frequentPattern);
+        assertEquals(frequentPattern, session.detectFormat("05/06/2024"));
+        assertEquals(14, session.getHitCount(frequentPattern));
+        assertEquals(0, session.getHitCount(catalogPattern));
+    }
+
+    @Test
+    void getHitCounts_ReturnPatternsByHitCount_WhenFormatsAreRepeated() {
+        ValidationSession session = DateTimeValidator.newSession();
+        String firstPattern = session.detectFormat("22-03-2024 05:06:07");
+        String secondPattern = null;
+        for (int i = 0; i < 3; i++) {
+            secondPattern = session.detectFormat("2024-03-22");
+        }
+        assertFalse(session.isValid("invalid_date"));
+        assertEquals(Arrays.asList(secondPattern, firstPattern), new ArrayList<>(session.getHitCounts().keySet()));
+        assertEquals(3L, session.getHitCounts().get(secondPattern));
+        assertEquals(Locale.ENGLISH, session.getLocale());
+    }
+
+    @Test
+    void newSession_ThrowIllegalArgumentException_WhenLocaleIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> DateTimeValidator.newSession(null));
+        assertEquals(ErrorMessages.LOCALE_NULL, exception.getMessage());
+    }
+
+    @Test
+    void detectFormat_ThrowIllegalArgumentException_WhenDateTimeTextIsEmpty() {
+        ValidationSession session = DateTimeValidator.newSession();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> session.detectFormat(""));
+        assertEquals(ErrorMessages.DATE_TIME_TEXT_EMPTY, exception.getMessage());
+    }
+}